@@ -36,7 +36,7 @@ export interface BulkConversionRequest {
 }
 
 export interface DateRangeRequest {
-    startDate: string; // LocalDate as string
+    startDate: string; // YYYY-MM-DD in the source calendar
     endDate: string;
     sourceCalendar: string;
     targetCalendar: string;
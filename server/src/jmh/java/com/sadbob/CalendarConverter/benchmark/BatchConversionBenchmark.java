@@ -0,0 +1,73 @@
+package com.sadbob.CalendarConverter.benchmark;
+
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import com.sadbob.CalendarConverter.util.BatchDateConverter;
+import com.sadbob.CalendarConverter.util.ConcordanceTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-threaded batch throughput, reported as converted days per second per core.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class BatchConversionBenchmark {
+
+    private static final int BATCH = 1 << 16;
+
+    public enum Kernel {
+        SCALAR, SCALAR_CONCORDANCE, VECTOR
+    }
+
+    @Param({"ETHIOPIAN", "HIJRI"})
+    public CalendarType target;
+
+    @Param({"SCALAR", "SCALAR_CONCORDANCE", "VECTOR"})
+    public Kernel kernel;
+
+    private BatchDateConverter converter;
+    private final long[] epochDays = new long[BATCH];
+    private final int[] packed = new int[BATCH];
+
+    @Setup
+    public void setUp() {
+        ServiceGraph graph = new ServiceGraph(kernel == Kernel.SCALAR_CONCORDANCE
+                ? ConcordanceTable.Mode.RESIDENT : ConcordanceTable.Mode.DISABLED);
+        converter = new BatchDateConverter(graph.ethiopianConverter, graph.hijriConverter, kernel == Kernel.VECTOR);
+        if (kernel == Kernel.VECTOR && !converter.isVectorized()) {
+            throw new IllegalStateException("jdk.incubator.vector is not available to the benchmark JVM");
+        }
+
+        SplittableRandom random = new SplittableRandom(11);
+        long first = LocalDate.of(1900, 1, 1).toEpochDay();
+        long last = LocalDate.of(2100, 12, 31).toEpochDay();
+        for (int i = 0; i < BATCH; i++) {
+            epochDays[i] = random.nextLong(first, last + 1);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int[] convertBatch() {
+        converter.convertBatch(epochDays, packed, target);
+        return packed;
+    }
+}
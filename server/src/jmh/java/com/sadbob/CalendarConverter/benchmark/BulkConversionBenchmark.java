@@ -0,0 +1,99 @@
+package com.sadbob.CalendarConverter.benchmark;
+
+import com.sadbob.CalendarConverter.dto.requestDTO.conversion.BulkConversionRequest;
+import com.sadbob.CalendarConverter.dto.requestDTO.conversion.DateRangeRequest;
+import com.sadbob.CalendarConverter.dto.responseDTO.conversion.BulkConversionResponse;
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import com.sadbob.CalendarConverter.service.BulkConversionService;
+import com.sadbob.CalendarConverter.util.ConcordanceTable;
+import com.sadbob.CalendarConverter.util.IsoDateCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkConversionBenchmark {
+
+    private static final String[] CALENDARS = {"gregorian", "ethiopian", "hijri"};
+
+    @Param({"100", "10000"})
+    public int batchSize;
+
+    private BulkConversionService bulkConversionService;
+    private BulkConversionRequest mixedBatch;
+    private BulkConversionRequest sameSourceBatch;
+    private DateRangeRequest range;
+
+    @Setup
+    public void setUp() {
+        ServiceGraph graph = new ServiceGraph(ConcordanceTable.Mode.RESIDENT);
+        bulkConversionService = graph.bulkConversionService;
+
+        SplittableRandom random = new SplittableRandom(7);
+        List<BulkConversionRequest.SingleConversionRequest> mixed = new ArrayList<>(batchSize);
+        List<BulkConversionRequest.SingleConversionRequest> sameSource = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            LocalDate date = LocalDate.ofEpochDay(random.nextLong(-25_000, 45_000));
+            String source = CALENDARS[random.nextInt(CALENDARS.length)];
+            int packed = graph.calendarEngines.get(CalendarType.fromCode(source))
+                    .fromEpochDay(date.toEpochDay());
+            mixed.add(request(IsoDateCodec.format(packed), source,
+                    CALENDARS[random.nextInt(CALENDARS.length)]));
+            sameSource.add(request(date.toString(), "gregorian", CALENDARS[1 + random.nextInt(2)]));
+        }
+        mixedBatch = new BulkConversionRequest();
+        mixedBatch.setConversions(mixed);
+        sameSourceBatch = new BulkConversionRequest();
+        sameSourceBatch.setConversions(sameSource);
+
+        range = new DateRangeRequest();
+        range.setStartDate("2024-01-01");
+        range.setEndDate(LocalDate.of(2024, 1, 1).plusDays(batchSize - 1).toString());
+        range.setSourceCalendar("gregorian");
+        range.setTargetCalendar("ethiopian");
+        range.setPageSize(batchSize);
+    }
+
+    private static BulkConversionRequest.SingleConversionRequest request(String date, String source, String target) {
+        BulkConversionRequest.SingleConversionRequest request = new BulkConversionRequest.SingleConversionRequest();
+        request.setDate(date);
+        request.setSourceCalendar(source);
+        request.setTargetCalendar(target);
+        return request;
+    }
+
+    @Benchmark
+    public BulkConversionResponse bulkMixed() {
+        return bulkConversionService.convertBulkDates(mixedBatch);
+    }
+
+    @Benchmark
+    public BulkConversionResponse bulkSameSource() {
+        return bulkConversionService.convertBatchSameSource(sameSourceBatch);
+    }
+
+    // One page holding the whole batchSize-day range; pages are capped at 10000 rows
+    @Benchmark
+    public BulkConversionResponse range() {
+        return bulkConversionService.convertDateRange(range);
+    }
+}
@@ -0,0 +1,55 @@
+package com.sadbob.CalendarConverter.benchmark;
+
+import com.sadbob.CalendarConverter.dto.responseDTO.calendar.CalendarResponse;
+import com.sadbob.CalendarConverter.service.impl.EthiopianCalendarServiceImpl;
+import com.sadbob.CalendarConverter.service.impl.GregorianCalendarServiceImpl;
+import com.sadbob.CalendarConverter.service.impl.HijriCalendarServiceImpl;
+import com.sadbob.CalendarConverter.util.ConcordanceTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalendarGridBenchmark {
+
+    private GregorianCalendarServiceImpl gregorianCalendarService;
+    private EthiopianCalendarServiceImpl ethiopianCalendarService;
+    private HijriCalendarServiceImpl hijriCalendarService;
+
+    @Setup
+    public void setUp() {
+        ServiceGraph graph = new ServiceGraph(ConcordanceTable.Mode.RESIDENT);
+        gregorianCalendarService = graph.gregorianCalendarService;
+        ethiopianCalendarService = graph.ethiopianCalendarService;
+        hijriCalendarService = graph.hijriCalendarService;
+    }
+
+    @Benchmark
+    public CalendarResponse gregorianMonth() {
+        return gregorianCalendarService.getCalendar(2024, 12);
+    }
+
+    @Benchmark
+    public CalendarResponse ethiopianMonth() {
+        return ethiopianCalendarService.getCalendar(2017, 4);
+    }
+
+    @Benchmark
+    public CalendarResponse hijriMonth() {
+        return hijriCalendarService.getCalendar(1446, 9);
+    }
+}
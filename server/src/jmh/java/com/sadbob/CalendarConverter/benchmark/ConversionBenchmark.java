@@ -0,0 +1,56 @@
+package com.sadbob.CalendarConverter.benchmark;
+
+import com.sadbob.CalendarConverter.dto.requestDTO.conversion.ConversionOptions;
+import com.sadbob.CalendarConverter.dto.responseDTO.conversion.ConversionResponse;
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import com.sadbob.CalendarConverter.service.DateConversionService;
+import com.sadbob.CalendarConverter.util.CalendarDate;
+import com.sadbob.CalendarConverter.util.ConcordanceTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code DateConversionService.convertDate} end to end, against the stub holiday service.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConversionBenchmark {
+
+    private DateConversionService dateConversionService;
+    private final CalendarDate christmas = CalendarDate.of(CalendarType.GREGORIAN, 2024, 12, 25);
+    private final ConversionOptions ethiopianOnly = ConversionOptions.targetOnly(CalendarType.ETHIOPIAN, false);
+
+    @Setup
+    public void setUp() {
+        dateConversionService = new ServiceGraph(ConcordanceTable.Mode.RESIDENT).dateConversionService;
+    }
+
+    @Benchmark
+    public ConversionResponse convertFromString() {
+        return dateConversionService.convertDate("gregorian", "2024-12-25");
+    }
+
+    @Benchmark
+    public ConversionResponse convertAllTargets() {
+        return dateConversionService.convertDate(christmas);
+    }
+
+    @Benchmark
+    public ConversionResponse convertSingleTarget() {
+        return dateConversionService.convertDate(christmas, ethiopianOnly);
+    }
+}
@@ -0,0 +1,87 @@
+package com.sadbob.CalendarConverter.benchmark;
+
+import com.sadbob.CalendarConverter.util.ConcordanceTable;
+import com.sadbob.CalendarConverter.util.EthiopianDateConverter;
+import com.sadbob.CalendarConverter.util.HijriDateConverter;
+import com.sadbob.CalendarConverter.util.PackedDate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-date conversions with and without the memory-mapped concordance table.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+
+    private static final int SAMPLES = 1024;
+
+    @Param({"DISABLED", "RESIDENT"})
+    public ConcordanceTable.Mode concordance;
+
+    private EthiopianDateConverter ethiopianConverter;
+    private HijriDateConverter hijriConverter;
+    private final long[] epochDays = new long[SAMPLES];
+    private final int[] ethiopianDates = new int[SAMPLES];
+    private final int[] hijriDates = new int[SAMPLES];
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        ServiceGraph graph = new ServiceGraph(concordance);
+        ethiopianConverter = graph.ethiopianConverter;
+        hijriConverter = graph.hijriConverter;
+
+        SplittableRandom random = new SplittableRandom(42);
+        long first = LocalDate.of(1900, 1, 1).toEpochDay();
+        long last = LocalDate.of(2100, 12, 31).toEpochDay();
+        for (int i = 0; i < SAMPLES; i++) {
+            epochDays[i] = random.nextLong(first, last + 1);
+            ethiopianDates[i] = ethiopianConverter.toEthiopianPacked(epochDays[i]);
+            hijriDates[i] = hijriConverter.toHijriPacked(epochDays[i]);
+        }
+    }
+
+    private int next() {
+        return cursor = (cursor + 1) & (SAMPLES - 1);
+    }
+
+    @Benchmark
+    public int gregorianToEthiopian() {
+        return ethiopianConverter.toEthiopianPacked(epochDays[next()]);
+    }
+
+    @Benchmark
+    public long ethiopianToGregorian() {
+        int packed = ethiopianDates[next()];
+        return ethiopianConverter.ethiopianToEpochDay(PackedDate.year(packed), PackedDate.month(packed), PackedDate.day(packed));
+    }
+
+    @Benchmark
+    public int gregorianToHijri() {
+        return hijriConverter.toHijriPacked(epochDays[next()]);
+    }
+
+    @Benchmark
+    public long hijriToGregorian() {
+        int packed = hijriDates[next()];
+        return hijriConverter.hijriToEpochDay(PackedDate.year(packed), PackedDate.month(packed), PackedDate.day(packed));
+    }
+}
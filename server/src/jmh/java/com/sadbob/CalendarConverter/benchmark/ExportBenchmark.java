@@ -0,0 +1,69 @@
+package com.sadbob.CalendarConverter.benchmark;
+
+import com.sadbob.CalendarConverter.service.ICalExportService;
+import com.sadbob.CalendarConverter.service.PdfExportService;
+import com.sadbob.CalendarConverter.service.impl.DataExportServiceImpl;
+import com.sadbob.CalendarConverter.util.ConcordanceTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExportBenchmark {
+
+    private PdfExportService pdfExportService;
+    private ICalExportService iCalExportService;
+    private DataExportServiceImpl dataExportService;
+
+    @Setup
+    public void setUp() {
+        ServiceGraph graph = new ServiceGraph(ConcordanceTable.Mode.RESIDENT);
+        pdfExportService = graph.pdfExportService;
+        iCalExportService = graph.iCalExportService;
+        dataExportService = graph.dataExportService;
+    }
+
+    @Benchmark
+    public byte[] monthPdf() {
+        return pdfExportService.generateSimpleCalendarPdf("ethiopian", 2017, 1);
+    }
+
+    @Benchmark
+    public String holidaysIcs() {
+        return iCalExportService.generateHolidaysICS("gregorian", 2024);
+    }
+
+    @Benchmark
+    public byte[] holidaysCsv() {
+        return dataExportService.exportHolidaysCsv("ethiopian", 2017);
+    }
+
+    @Benchmark
+    public String holidaysJson() {
+        return dataExportService.exportHolidaysJson("ethiopian", 2017);
+    }
+
+    @Benchmark
+    public byte[] calendarDataCsv() {
+        return dataExportService.exportCalendarDataCsv("hijri", 1446, 10);
+    }
+
+    @Benchmark
+    public String calendarDataJson() {
+        return dataExportService.exportCalendarDataJson("hijri", 1446, 10);
+    }
+}
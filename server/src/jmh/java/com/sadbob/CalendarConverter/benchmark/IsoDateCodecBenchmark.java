@@ -0,0 +1,61 @@
+package com.sadbob.CalendarConverter.benchmark;
+
+import com.sadbob.CalendarConverter.util.IsoDateCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The char-level codec against the String.format/split/DateTimeFormatter code it replaced.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IsoDateCodecBenchmark {
+
+    private static final DateTimeFormatter ISO = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    public String text = "2017-04-16";
+    public int year = 2017;
+    public int month = 4;
+    public int day = 16;
+
+    @Benchmark
+    public int parseCodec() {
+        return IsoDateCodec.parse(text);
+    }
+
+    @Benchmark
+    public int parseSplit() {
+        String[] parts = text.split("-");
+        return Integer.parseInt(parts[0]) + Integer.parseInt(parts[1]) + Integer.parseInt(parts[2]);
+    }
+
+    @Benchmark
+    public LocalDate parseFormatter() {
+        return LocalDate.parse(text, ISO);
+    }
+
+    @Benchmark
+    public String formatCodec() {
+        return IsoDateCodec.format(year, month, day);
+    }
+
+    @Benchmark
+    public String formatStringFormat() {
+        return String.format("%d-%02d-%02d", year, month, day);
+    }
+}
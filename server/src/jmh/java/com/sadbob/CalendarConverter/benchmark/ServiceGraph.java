@@ -0,0 +1,64 @@
+package com.sadbob.CalendarConverter.benchmark;
+
+import com.sadbob.CalendarConverter.service.BulkConversionEngine;
+import com.sadbob.CalendarConverter.service.BulkConversionService;
+import com.sadbob.CalendarConverter.service.CalendarEngineRegistry;
+import com.sadbob.CalendarConverter.service.DateConversionService;
+import com.sadbob.CalendarConverter.service.DateValidationService;
+import com.sadbob.CalendarConverter.service.ICalExportService;
+import com.sadbob.CalendarConverter.service.PdfExportService;
+import com.sadbob.CalendarConverter.service.impl.DataExportServiceImpl;
+import com.sadbob.CalendarConverter.service.impl.EthiopianCalendarEngine;
+import com.sadbob.CalendarConverter.service.impl.EthiopianCalendarServiceImpl;
+import com.sadbob.CalendarConverter.service.impl.GregorianCalendarEngine;
+import com.sadbob.CalendarConverter.service.impl.GregorianCalendarServiceImpl;
+import com.sadbob.CalendarConverter.service.impl.HijriCalendarEngine;
+import com.sadbob.CalendarConverter.service.impl.HijriCalendarServiceImpl;
+import com.sadbob.CalendarConverter.service.interf.HolidayService;
+import com.sadbob.CalendarConverter.util.CalendarMonthUtils;
+import com.sadbob.CalendarConverter.util.ConcordanceTable;
+import com.sadbob.CalendarConverter.util.EthiopianDateConverter;
+import com.sadbob.CalendarConverter.util.HijriDateConverter;
+
+import java.util.List;
+
+/**
+ * The application's service graph wired by hand, without a Spring context or a database.
+ */
+final class ServiceGraph {
+
+    final ConcordanceTable concordance;
+    final EthiopianDateConverter ethiopianConverter;
+    final HijriDateConverter hijriConverter;
+    final CalendarEngineRegistry calendarEngines;
+    final HolidayService holidayService = new StubHolidayService();
+    final CalendarMonthUtils monthUtils = new CalendarMonthUtils();
+    final DateValidationService dateValidationService;
+    final DateConversionService dateConversionService;
+    final BulkConversionService bulkConversionService;
+    final GregorianCalendarServiceImpl gregorianCalendarService = new GregorianCalendarServiceImpl();
+    final EthiopianCalendarServiceImpl ethiopianCalendarService;
+    final HijriCalendarServiceImpl hijriCalendarService;
+    final PdfExportService pdfExportService;
+    final ICalExportService iCalExportService;
+    final DataExportServiceImpl dataExportService;
+
+    ServiceGraph(ConcordanceTable.Mode concordanceMode) {
+        concordance = ConcordanceTable.load(null, concordanceMode);
+        ethiopianConverter = new EthiopianDateConverter(concordance);
+        hijriConverter = new HijriDateConverter(concordance);
+        calendarEngines = new CalendarEngineRegistry(List.of(
+                new GregorianCalendarEngine(),
+                new EthiopianCalendarEngine(ethiopianConverter),
+                new HijriCalendarEngine(hijriConverter)));
+        dateValidationService = new DateValidationService(hijriConverter);
+        dateConversionService = new DateConversionService(calendarEngines, dateValidationService, holidayService);
+        bulkConversionService = new BulkConversionService(dateValidationService, calendarEngines,
+                new BulkConversionEngine(calendarEngines, dateValidationService, 0, 1024), holidayService);
+        ethiopianCalendarService = new EthiopianCalendarServiceImpl(ethiopianConverter, monthUtils, calendarEngines);
+        hijriCalendarService = new HijriCalendarServiceImpl(hijriConverter, monthUtils, calendarEngines);
+        pdfExportService = new PdfExportService(holidayService, monthUtils, calendarEngines);
+        iCalExportService = new ICalExportService(holidayService);
+        dataExportService = new DataExportServiceImpl(holidayService, monthUtils);
+    }
+}
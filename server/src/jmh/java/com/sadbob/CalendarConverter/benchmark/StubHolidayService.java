@@ -0,0 +1,95 @@
+package com.sadbob.CalendarConverter.benchmark;
+
+import com.sadbob.CalendarConverter.entity.Holiday;
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import com.sadbob.CalendarConverter.enums.HolidayType;
+import com.sadbob.CalendarConverter.service.interf.HolidayService;
+import com.sadbob.CalendarConverter.util.CalendarDate;
+import com.sadbob.CalendarConverter.util.CalendarTypeHelper;
+import com.sadbob.CalendarConverter.util.HolidayIndex;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory holidays so the benchmarks measure the services rather than Postgres.
+ */
+class StubHolidayService implements HolidayService {
+
+    private final List<Holiday> holidays = List.of(
+            new Holiday("New Year's Day", "First day of the year", CalendarType.GREGORIAN, HolidayType.INTERNATIONAL, 1, 1, null),
+            new Holiday("Christmas Day", "Celebration of the birth of Jesus", CalendarType.GREGORIAN, HolidayType.RELIGIOUS, 25, 12, null),
+            new Holiday("Enkutatash", "Ethiopian New Year", CalendarType.ETHIOPIAN, HolidayType.NATIONAL, 1, 1, "ET"),
+            new Holiday("Meskel", "Finding of the True Cross", CalendarType.ETHIOPIAN, HolidayType.RELIGIOUS, 17, 1, "ET"),
+            new Holiday("Genna", "Ethiopian Christmas", CalendarType.ETHIOPIAN, HolidayType.RELIGIOUS, 29, 4, "ET"),
+            new Holiday("Adwa Victory Day", "Battle of Adwa, 1896", CalendarType.ETHIOPIAN, HolidayType.NATIONAL, 23, 6, "ET"),
+            new Holiday("Islamic New Year", "First day of Muharram", CalendarType.HIJRI, HolidayType.RELIGIOUS, 1, 1, null),
+            new Holiday("Eid al-Fitr", "End of Ramadan", CalendarType.HIJRI, HolidayType.RELIGIOUS, 1, 10, null),
+            new Holiday("Eid al-Adha", "Feast of the Sacrifice", CalendarType.HIJRI, HolidayType.RELIGIOUS, 10, 12, null)
+    );
+
+    private final HolidayIndex index = HolidayIndex.build(holidays, 1);
+
+    @Override
+    public List<Holiday> getHolidaysForDate(String calendarType, String date) {
+        return getHolidaysForDate(CalendarDate.parse(CalendarTypeHelper.safeFromString(calendarType), date));
+    }
+
+    @Override
+    public List<Holiday> getHolidaysForDate(CalendarDate date) {
+        return holidays.stream()
+                .filter(h -> h.getCalendarType() == date.calendarType()
+                        && h.getMonthNumber() == date.month() && h.getDayOfMonth() == date.day())
+                .toList();
+    }
+
+    @Override
+    public List<Holiday> getHolidaysForMonth(String calendarType, int year, int month) {
+        CalendarType type = CalendarTypeHelper.safeFromString(calendarType);
+        return holidays.stream()
+                .filter(h -> h.getCalendarType() == type && h.getMonthNumber() == month)
+                .toList();
+    }
+
+    @Override
+    public List<Holiday> getUpcomingHolidays(String calendarType, int currentMonth, int currentDay) {
+        CalendarType type = CalendarTypeHelper.safeFromString(calendarType);
+        return holidays.stream()
+                .filter(h -> h.getCalendarType() == type && h.getMonthNumber() >= currentMonth)
+                .toList();
+    }
+
+    @Override
+    public List<Holiday> getHolidaysByType(String calendarType, String holidayType) {
+        CalendarType type = CalendarTypeHelper.safeFromString(calendarType);
+        return holidays.stream()
+                .filter(h -> h.getCalendarType() == type && h.getHolidayType().name().equalsIgnoreCase(holidayType))
+                .toList();
+    }
+
+    @Override
+    public List<String> getHolidayNamesForDate(String calendarType, String date) {
+        return getHolidaysForDate(calendarType, date).stream().map(Holiday::getName).toList();
+    }
+
+    @Override
+    public List<String> getHolidayNamesForDate(CalendarDate date) {
+        return getHolidaysForDate(date).stream().map(Holiday::getName).toList();
+    }
+
+    @Override
+    public Map<CalendarDate, List<String>> getHolidayNames(Collection<CalendarDate> dates) {
+        Map<CalendarDate, List<String>> names = new HashMap<>();
+        for (CalendarDate date : dates) {
+            names.computeIfAbsent(date, this::getHolidayNamesForDate);
+        }
+        return names;
+    }
+
+    @Override
+    public HolidayIndex getHolidayIndex() {
+        return index;
+    }
+}
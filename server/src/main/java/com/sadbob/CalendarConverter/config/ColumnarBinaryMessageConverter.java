@@ -0,0 +1,140 @@
+package com.sadbob.CalendarConverter.config;
+
+import com.sadbob.CalendarConverter.dto.requestDTO.conversion.ColumnarConversionRequest;
+import com.sadbob.CalendarConverter.dto.responseDTO.conversion.BulkConversionResponse;
+import com.sadbob.CalendarConverter.dto.responseDTO.conversion.ColumnarConversionResponse;
+import com.sadbob.CalendarConverter.enums.DateEncoding;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * application/octet-stream form of the columnar bulk DTOs. All values are big-endian,
+ * strings are {@link DataOutputStream#writeUTF modified UTF-8}:
+ *
+ * <pre>
+ * request:  utf sourceCalendar, utf targetCalendar, byte encoding (0 packed, 1 epoch day),
+ *           int count, int[count] dates
+ * response: utf sourceCalendar, utf targetCalendar, int count, int[count] targetDates,
+ *           int[count] epochDays, int errorCount, errorCount x (int row, utf message),
+ *           int total, int successful, int failed, long processingTimeMs
+ * </pre>
+ */
+@Component
+public class ColumnarBinaryMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    private static final DateEncoding[] ENCODINGS = DateEncoding.values();
+
+    public ColumnarBinaryMessageConverter() {
+        super(MediaType.APPLICATION_OCTET_STREAM);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == ColumnarConversionRequest.class || clazz == ColumnarConversionResponse.class;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        // Only an explicit octet-stream body, never a missing Content-Type
+        return mediaType != null && super.canRead(mediaType);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        if (clazz != ColumnarConversionRequest.class) {
+            throw new HttpMessageNotReadableException("Cannot read " + clazz.getSimpleName() + " as binary", inputMessage);
+        }
+        DataInputStream in = new DataInputStream(new BufferedInputStream(inputMessage.getBody()));
+        try {
+            ColumnarConversionRequest request = new ColumnarConversionRequest();
+            request.setSourceCalendar(in.readUTF());
+            request.setTargetCalendar(in.readUTF());
+            int encoding = in.readUnsignedByte();
+            if (encoding >= ENCODINGS.length) {
+                throw new HttpMessageNotReadableException("Unknown date encoding " + encoding, inputMessage);
+            }
+            request.setEncoding(ENCODINGS[encoding]);
+            request.setDates(readInts(in, inputMessage));
+            return request;
+        } catch (EOFException e) {
+            throw new HttpMessageNotReadableException("Truncated columnar request", e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object body, HttpOutputMessage outputMessage) throws IOException {
+        ColumnarConversionResponse response = (ColumnarConversionResponse) body;
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outputMessage.getBody()));
+        out.writeUTF(response.getSourceCalendar());
+        out.writeUTF(response.getTargetCalendar());
+        int[] targetDates = response.getTargetDates();
+        out.writeInt(targetDates.length);
+        for (int date : targetDates) {
+            out.writeInt(date);
+        }
+        for (int epochDay : response.getEpochDays()) {
+            out.writeInt(epochDay);
+        }
+        out.writeInt(response.getErrors().size());
+        for (Map.Entry<Integer, String> error : response.getErrors().entrySet()) {
+            out.writeInt(error.getKey());
+            out.writeUTF(error.getValue());
+        }
+        BulkConversionResponse.BulkSummary summary = response.getSummary();
+        out.writeInt(summary.getTotalRequests());
+        out.writeInt(summary.getSuccessfulConversions());
+        out.writeInt(summary.getFailedConversions());
+        out.writeLong(summary.getProcessingTimeMs());
+        out.flush();
+    }
+
+    /**
+     * Reads a response written by this converter, for Java clients and tests.
+     */
+    public static ColumnarConversionResponse readResponse(DataInputStream in) throws IOException {
+        String sourceCalendar = in.readUTF();
+        String targetCalendar = in.readUTF();
+        int count = in.readInt();
+        int[] targetDates = new int[count];
+        int[] epochDays = new int[count];
+        for (int i = 0; i < count; i++) {
+            targetDates[i] = in.readInt();
+        }
+        for (int i = 0; i < count; i++) {
+            epochDays[i] = in.readInt();
+        }
+        Map<Integer, String> errors = new TreeMap<>();
+        for (int i = in.readInt(); i > 0; i--) {
+            errors.put(in.readInt(), in.readUTF());
+        }
+        BulkConversionResponse.BulkSummary summary = new BulkConversionResponse.BulkSummary(
+                in.readInt(), in.readInt(), in.readInt(), in.readLong());
+        return new ColumnarConversionResponse(sourceCalendar, targetCalendar, targetDates, epochDays, errors, summary);
+    }
+
+    private static int[] readInts(DataInputStream in, HttpInputMessage inputMessage) throws IOException {
+        int count = in.readInt();
+        // Checked before allocating, so a forged count cannot claim gigabytes
+        if (count < 0 || count > ColumnarConversionRequest.MAX_DATES) {
+            throw new HttpMessageNotReadableException("Date count out of range: " + count, inputMessage);
+        }
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+}
@@ -0,0 +1,23 @@
+package com.sadbob.CalendarConverter.config;
+
+import com.sadbob.CalendarConverter.util.ConcordanceTable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ConcordanceConfig {
+
+    // resident: page in and checksum at startup, lazy: page in on demand, disabled: arithmetic only
+    @Value("${calendar.concordance.mode:resident}")
+    private String mode;
+
+    // Optional filesystem override for the bundled concordance file
+    @Value("${calendar.concordance.path:}")
+    private String path;
+
+    @Bean
+    public ConcordanceTable concordanceTable() {
+        return ConcordanceTable.load(path, ConcordanceTable.Mode.valueOf(mode.trim().toUpperCase()));
+    }
+}
@@ -1,15 +1,28 @@
 package com.sadbob.CalendarConverter.controller;
 
 import com.sadbob.CalendarConverter.dto.requestDTO.conversion.BulkConversionRequest;
+import com.sadbob.CalendarConverter.dto.requestDTO.conversion.ColumnarConversionRequest;
 import com.sadbob.CalendarConverter.dto.requestDTO.conversion.DateRangeRequest;
 import com.sadbob.CalendarConverter.dto.responseDTO.conversion.BulkConversionResponse;
+import com.sadbob.CalendarConverter.dto.responseDTO.conversion.ColumnarConversionResponse;
 import com.sadbob.CalendarConverter.service.BulkConversionService;
+import com.sadbob.CalendarConverter.service.BulkEventStreamService;
+import com.sadbob.CalendarConverter.service.ColumnarConversionService;
+import com.sadbob.CalendarConverter.service.CsvConversionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 @RestController
@@ -18,10 +31,24 @@ import java.util.concurrent.CompletableFuture;
 @CrossOrigin(origins = "*")
 public class BulkConversionController {
 
-    private final BulkConversionService bulkConversionService;
+    private static final String NDJSON = "application/x-ndjson";
+    private static final int MAX_CONVERSIONS = 100;
+    // The optimized endpoint runs on the parallel engine, which is built for large batches
+    private static final int MAX_OPTIMIZED_CONVERSIONS = 100_000;
 
-    public BulkConversionController(BulkConversionService bulkConversionService) {
+    private final BulkConversionService bulkConversionService;
+    private final ColumnarConversionService columnarConversionService;
+    private final CsvConversionService csvConversionService;
+    private final BulkEventStreamService bulkEventStreamService;
+
+    public BulkConversionController(BulkConversionService bulkConversionService,
+                                    ColumnarConversionService columnarConversionService,
+                                    CsvConversionService csvConversionService,
+                                    BulkEventStreamService bulkEventStreamService) {
         this.bulkConversionService = bulkConversionService;
+        this.columnarConversionService = columnarConversionService;
+        this.csvConversionService = csvConversionService;
+        this.bulkEventStreamService = bulkEventStreamService;
     }
 
     @PostMapping("/convert")
@@ -30,9 +57,8 @@ public class BulkConversionController {
             @Valid @RequestBody BulkConversionRequest request) {
 
         // Limit batch size for performance
-        if (request.getConversions().size() > 100) {
-            return ResponseEntity.badRequest().body(createErrorResponse(
-            ));
+        if (request.getConversions().size() > MAX_CONVERSIONS) {
+            return ResponseEntity.badRequest().body(createErrorResponse(MAX_CONVERSIONS));
         }
 
         BulkConversionResponse response = bulkConversionService.convertBulkDates(request);
@@ -44,17 +70,31 @@ public class BulkConversionController {
     public CompletableFuture<ResponseEntity<BulkConversionResponse>> convertBulkDatesAsync(
             @Valid @RequestBody BulkConversionRequest request) {
 
-        if (request.getConversions().size() > 100) {
+        if (request.getConversions().size() > MAX_CONVERSIONS) {
             return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(
-                    createErrorResponse()));
+                    createErrorResponse(MAX_CONVERSIONS)));
         }
 
         return bulkConversionService.convertBulkDatesAsync(request)
                 .thenApply(ResponseEntity::ok);
     }
 
+    @PostMapping(value = "/convert/stream", consumes = NDJSON, produces = NDJSON)
+    @Operation(summary = "Convert an NDJSON stream of dates",
+            description = "Each request line is {\"date\",\"sourceCalendar\",\"targetCalendar\"}. One result line is "
+                    + "written per input line as it is converted, followed by a summary line. There is no size limit.")
+    public ResponseEntity<StreamingResponseBody> convertBulkStream(HttpServletRequest request) throws IOException {
+        InputStream input = request.getInputStream();
+        StreamingResponseBody body = output -> bulkConversionService.convertStream(input, output);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
+
     @PostMapping("/convert/range")
-    @Operation(summary = "Convert a range of dates")
+    @Operation(summary = "Convert a range of dates",
+            description = "Steps by days, months or years of the source calendar. Results are paged; pass the "
+                    + "returned nextCursor back with an otherwise identical request to get the next page.")
     public ResponseEntity<BulkConversionResponse> convertDateRange(
             @Valid @RequestBody DateRangeRequest request) {
 
@@ -62,23 +102,93 @@ public class BulkConversionController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping(value = "/convert/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Convert multiple dates with a Server-Sent Events progress stream",
+            description = "Sends a results event per batch of batchSize rows, a progress event (processed, failed, "
+                    + "total, ratePerSecond) at most once a second and a final summary event. Closing the connection "
+                    + "stops the conversion.")
+    public ResponseEntity<StreamingResponseBody> convertBulkEvents(
+            @Valid @RequestBody BulkConversionRequest request,
+            @RequestParam(defaultValue = "500") int batchSize) {
+
+        return eventStream(bulkEventStreamService.streamBulk(request, batchSize));
+    }
+
+    @PostMapping(value = "/convert/range/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Convert a range of dates with a Server-Sent Events progress stream",
+            description = "Walks the whole range, sending each page of batchSize results as a results event, with "
+                    + "progress and summary events as for /convert/events. pageSize and cursor are ignored.")
+    public ResponseEntity<StreamingResponseBody> convertDateRangeEvents(
+            @Valid @RequestBody DateRangeRequest request,
+            @RequestParam(defaultValue = "500") int batchSize) {
+
+        return eventStream(bulkEventStreamService.streamRange(request, batchSize));
+    }
+
     @PostMapping("/convert/optimized")
-    @Operation(summary = "Optimized bulk conversion for same source calendar")
+    @Operation(summary = "Optimized bulk conversion for same source calendar",
+            description = "Rows are grouped by source and target calendar and converted in parallel. "
+                    + "Results keep the request order.")
     public ResponseEntity<BulkConversionResponse> convertBulkOptimized(
             @Valid @RequestBody BulkConversionRequest request) {
 
-        if (request.getConversions().size() > 100) {
-            return ResponseEntity.badRequest().body(createErrorResponse(
-            ));
+        if (request.getConversions().size() > MAX_OPTIMIZED_CONVERSIONS) {
+            return ResponseEntity.badRequest().body(createErrorResponse(MAX_OPTIMIZED_CONVERSIONS));
         }
 
         BulkConversionResponse response = bulkConversionService.convertBatchSameSource(request);
         return ResponseEntity.ok(response);
     }
 
-    private BulkConversionResponse createErrorResponse() {
+    @PostMapping(value = "/convert/columnar",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    @Operation(summary = "Convert a column of dates between one calendar pair",
+            description = "Dates are ints, packed as (year << 9) | (month << 5) | day or as epoch days. Results come back "
+                    + "as parallel int arrays with a sparse error map. Send and accept application/octet-stream for the "
+                    + "binary form.")
+    public ResponseEntity<ColumnarConversionResponse> convertColumnar(
+            @Valid @RequestBody ColumnarConversionRequest request) {
+
+        return ResponseEntity.ok(columnarConversionService.convert(request));
+    }
+
+    @PostMapping(value = "/convert/csv", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = "text/csv")
+    @Operation(summary = "Convert a date column of an uploaded CSV file",
+            description = "Streams the file back with a <calendar>_date column per target (and <calendar>_formatted "
+                    + "when includeFormatted is set) plus a conversion_error column. There is no size limit.")
+    public ResponseEntity<StreamingResponseBody> convertCsv(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "date") String dateColumn,
+            @RequestParam String sourceCalendar,
+            @RequestParam List<String> targetCalendars,
+            @RequestParam(defaultValue = "true") boolean header,
+            @RequestParam(defaultValue = "false") boolean includeFormatted,
+            @RequestParam(defaultValue = ",") char delimiter) throws IOException {
+
+        CsvConversionService.CsvConversion conversion = csvConversionService.open(file.getInputStream(),
+                new CsvConversionService.Options(dateColumn, sourceCalendar, targetCalendars, header,
+                        includeFormatted, delimiter));
+        String filename = file.getOriginalFilename() == null || file.getOriginalFilename().isBlank()
+                ? "dates" : file.getOriginalFilename().replaceFirst("(?i)\\.csv$", "");
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv; charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename.replace("\"", "") + "-converted.csv\"")
+                .body(conversion::writeTo);
+    }
+
+    private static ResponseEntity<StreamingResponseBody> eventStream(StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                // Keeps reverse proxies from holding events back in their own buffers
+                .header("X-Accel-Buffering", "no")
+                .body(body);
+    }
+
+    private BulkConversionResponse createErrorResponse(int maxConversions) {
         BulkConversionResponse.BulkSummary summary =
                 new BulkConversionResponse.BulkSummary(0, 0, 0, 0);
-        return new BulkConversionResponse(null, summary, "Too many conversions. Maximum 100 conversions per request.");
+        return new BulkConversionResponse(null, summary, "Too many conversions. Maximum " + maxConversions + " conversions per request.");
     }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.sadbob.CalendarConverter.controller;
+
+import com.sadbob.CalendarConverter.dto.requestDTO.conversion.BulkConversionRequest;
+import com.sadbob.CalendarConverter.dto.responseDTO.conversion.BulkJobStatus;
+import com.sadbob.CalendarConverter.service.BulkJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/v1/bulk/jobs")
+@Tag(name = "Bulk Conversion Jobs", description = "Asynchronous bulk conversions with downloadable results")
+@CrossOrigin(origins = "*")
+public class BulkJobController {
+
+    private final BulkJobService bulkJobService;
+
+    public BulkJobController(BulkJobService bulkJobService) {
+        this.bulkJobService = bulkJobService;
+    }
+
+    @PostMapping
+    @Operation(summary = "Submit a bulk conversion job",
+            description = "Returns immediately with a job id. Poll the job for progress, then download its result.")
+    public ResponseEntity<BulkJobStatus> submitJob(@Valid @RequestBody BulkConversionRequest request) {
+        BulkJobStatus status = bulkJobService.submit(request);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/bulk/jobs/" + status.getJobId()))
+                .body(status);
+    }
+
+    @GetMapping("/{jobId}")
+    @Operation(summary = "Get the state and progress of a bulk conversion job")
+    public ResponseEntity<BulkJobStatus> getJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(bulkJobService.getStatus(jobId));
+    }
+
+    @GetMapping(value = "/{jobId}/result", produces = "application/x-ndjson")
+    @Operation(summary = "Download the result of a completed job",
+            description = "One result per line in request order, followed by a summary line.")
+    public ResponseEntity<StreamingResponseBody> getJobResult(@PathVariable String jobId) {
+        BulkJobStatus status = bulkJobService.getStatus(jobId);
+        InputStream result = bulkJobService.openResult(jobId);
+        StreamingResponseBody body = output -> {
+            try (result) {
+                result.transferTo(output);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .contentLength(status.getResultBytes())
+                .body(body);
+    }
+
+    @DeleteMapping("/{jobId}")
+    @Operation(summary = "Delete a finished or queued job and its files")
+    public ResponseEntity<Void> deleteJob(@PathVariable String jobId) {
+        bulkJobService.deleteJob(jobId);
+        return ResponseEntity.noContent().build();
+    }
+}
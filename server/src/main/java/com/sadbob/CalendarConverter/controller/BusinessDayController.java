@@ -0,0 +1,49 @@
+package com.sadbob.CalendarConverter.controller;
+
+import com.sadbob.CalendarConverter.dto.requestDTO.businessday.BulkBusinessDayRequest;
+import com.sadbob.CalendarConverter.dto.requestDTO.businessday.BusinessDayRequest;
+import com.sadbob.CalendarConverter.dto.responseDTO.businessday.BulkBusinessDayResponse;
+import com.sadbob.CalendarConverter.dto.responseDTO.businessday.BusinessDayResponse;
+import com.sadbob.CalendarConverter.service.BusinessDayService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/business-days")
+@Tag(name = "Business Days", description = "Working-day arithmetic over weekends and holidays")
+@CrossOrigin(origins = "*")
+public class BusinessDayController {
+
+    private final BusinessDayService businessDayService;
+
+    public BusinessDayController(BusinessDayService businessDayService) {
+        this.businessDayService = businessDayService;
+    }
+
+    @PostMapping("/add")
+    @Operation(summary = "Find the date a number of business days after a start date")
+    public ResponseEntity<BusinessDayResponse> addBusinessDays(@Valid @RequestBody BusinessDayRequest request) {
+        return ResponseEntity.ok(businessDayService.add(request));
+    }
+
+    @PostMapping("/count")
+    @Operation(summary = "Count the business days between two dates, both inclusive")
+    public ResponseEntity<BusinessDayResponse> countBusinessDays(@Valid @RequestBody BusinessDayRequest request) {
+        return ResponseEntity.ok(businessDayService.count(request));
+    }
+
+    @PostMapping("/add/bulk")
+    @Operation(summary = "Add business days for many start dates; failures are reported per row")
+    public ResponseEntity<BulkBusinessDayResponse> addBusinessDaysBulk(@Valid @RequestBody BulkBusinessDayRequest request) {
+        return ResponseEntity.ok(businessDayService.addAll(request.getRequests()));
+    }
+
+    @PostMapping("/count/bulk")
+    @Operation(summary = "Count business days for many ranges; failures are reported per row")
+    public ResponseEntity<BulkBusinessDayResponse> countBusinessDaysBulk(@Valid @RequestBody BulkBusinessDayRequest request) {
+        return ResponseEntity.ok(businessDayService.countAll(request.getRequests()));
+    }
+}
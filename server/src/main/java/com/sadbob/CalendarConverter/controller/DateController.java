@@ -1,13 +1,16 @@
 package com.sadbob.CalendarConverter.controller;
 
 import com.sadbob.CalendarConverter.dto.requestDTO.age.AgeCalculationRequest;
+import com.sadbob.CalendarConverter.dto.requestDTO.conversion.ConversionOptions;
 import com.sadbob.CalendarConverter.dto.requestDTO.conversion.DateConversionRequest;
 import com.sadbob.CalendarConverter.dto.responseDTO.age.AgeResponse;
 import com.sadbob.CalendarConverter.dto.responseDTO.conversion.ConversionResponse;
 import com.sadbob.CalendarConverter.dto.responseDTO.calendar.TodayResponse;
 import com.sadbob.CalendarConverter.service.AgeCalculationService;
 import com.sadbob.CalendarConverter.service.DateConversionService;
+import com.sadbob.CalendarConverter.service.DateValidationService;
 import com.sadbob.CalendarConverter.service.TodayService;
+import com.sadbob.CalendarConverter.util.CalendarDate;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -17,6 +20,8 @@ import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/dates")
 @Tag(name = "Date Converter", description = "APIs for single date conversion, age calculation, and today's date")
@@ -26,13 +31,16 @@ public class DateController {
     private final DateConversionService dateConversionService;
     private final AgeCalculationService ageCalculationService;
     private final TodayService todayService;
+    private final DateValidationService dateValidationService;
 
     public DateController(DateConversionService dateConversionService,
                           AgeCalculationService ageCalculationService,
-                          TodayService todayService) {
+                          TodayService todayService,
+                          DateValidationService dateValidationService) {
         this.dateConversionService = dateConversionService;
         this.ageCalculationService = ageCalculationService;
         this.todayService = todayService;
+        this.dateValidationService = dateValidationService;
     }
 
     @PostMapping("/convert")
@@ -42,6 +50,11 @@ public class DateController {
             Convert a single date from one calendar system to another.
             Supported calendars: GREGORIAN, ETHIOPIAN, HIJRI.
             
+            Optional query parameters narrow the work done:
+            `targets=ethiopian,hijri` converts only to the listed calendars and
+            `include=holidays,formatted` selects the extras (both are included when omitted).
+            `?targets=ethiopian&include=` returns the bare target date without any holiday lookups.
+            
             **Example Request:**
             ```json
             {
@@ -59,9 +72,13 @@ public class DateController {
     })
     public ResponseEntity<ConversionResponse> convertDate(
             @Parameter(description = "Date conversion request", required = true)
-            @Valid @RequestBody DateConversionRequest request) {
-        ConversionResponse response = dateConversionService.convertDate(
-                request.calendarType(), request.date());
+            @Valid @RequestBody DateConversionRequest request,
+            @Parameter(description = "Target calendars to compute (default: all)")
+            @RequestParam(required = false) List<String> targets,
+            @Parameter(description = "Extras to include: holidays, formatted (default: both)")
+            @RequestParam(required = false) List<String> include) {
+        CalendarDate date = dateValidationService.parse(request.date(), request.calendarType());
+        ConversionResponse response = dateConversionService.convertDate(date, ConversionOptions.of(targets, include));
         return ResponseEntity.ok(response);
     }
 
@@ -73,8 +90,8 @@ public class DateController {
     public ResponseEntity<AgeResponse> calculateAge(
             @Parameter(description = "Age calculation request", required = true)
             @Valid @RequestBody AgeCalculationRequest request) {
-        AgeResponse response = ageCalculationService.calculateAge(
-                request.calendarType(), request.birthDate());
+        CalendarDate birthDate = dateValidationService.parse(request.birthDate(), request.calendarType());
+        AgeResponse response = ageCalculationService.calculateAge(birthDate);
         return ResponseEntity.ok(response);
     }
 
@@ -103,8 +120,8 @@ public class DateController {
     public ResponseEntity<ConversionResponse> convertSingleDate(
             @Valid @RequestBody DateConversionRequest request) {
         // Your existing single conversion logic
-        ConversionResponse response = dateConversionService.convertDate(
-                request.calendarType(), request.date());
+        CalendarDate date = dateValidationService.parse(request.date(), request.calendarType());
+        ConversionResponse response = dateConversionService.convertDate(date);
         return ResponseEntity.ok(response);
     }
 }
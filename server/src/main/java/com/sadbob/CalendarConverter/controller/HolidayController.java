@@ -1,17 +1,27 @@
 package com.sadbob.CalendarConverter.controller;
 
 import com.sadbob.CalendarConverter.dto.responseDTO.holidays.HolidayCheckResponse;
+import com.sadbob.CalendarConverter.dto.responseDTO.holidays.HolidayCountResponse;
 import com.sadbob.CalendarConverter.dto.responseDTO.holidays.HolidayResponse;
 import com.sadbob.CalendarConverter.dto.responseDTO.holidays.MonthHolidaysResponse;
 import com.sadbob.CalendarConverter.entity.Holiday;
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import com.sadbob.CalendarConverter.service.DateValidationService;
+import com.sadbob.CalendarConverter.service.HolidayBitmapService;
 import com.sadbob.CalendarConverter.service.interf.HolidayService;
+import com.sadbob.CalendarConverter.util.CalendarDate;
+import com.sadbob.CalendarConverter.util.IsoDateCodec;
+import com.sadbob.CalendarConverter.util.MovableFeastEngine;
+import com.sadbob.CalendarConverter.util.ValidationResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
@@ -21,9 +31,15 @@ import java.util.stream.Collectors;
 public class HolidayController {
 
     private final HolidayService holidayService;
+    private final HolidayBitmapService holidayBitmapService;
+    private final DateValidationService dateValidationService;
 
-    public HolidayController(HolidayService holidayService) {
+    public HolidayController(HolidayService holidayService,
+                             HolidayBitmapService holidayBitmapService,
+                             DateValidationService dateValidationService) {
         this.holidayService = holidayService;
+        this.holidayBitmapService = holidayBitmapService;
+        this.dateValidationService = dateValidationService;
     }
 
     @GetMapping("/check/{calendarType}/{date}")
@@ -35,6 +51,29 @@ public class HolidayController {
         return getHolidayCheckResponseResponseEntity(calendarType, date);
     }
 
+    @GetMapping("/count/{calendarType}")
+    @Operation(summary = "Count the holiday days between two dates, both inclusive")
+    public ResponseEntity<HolidayCountResponse> countHolidays(
+            @PathVariable String calendarType,
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(required = false) List<String> holidayCalendars) {
+
+        CalendarDate fromDate = dateValidationService.parse(from, calendarType);
+        CalendarDate toDate = dateValidationService.parse(to, calendarType);
+        // Defaults to the holidays of the calendar the dates are given in
+        Set<CalendarType> calendars = EnumSet.noneOf(CalendarType.class);
+        if (holidayCalendars == null || holidayCalendars.isEmpty()) {
+            calendars.add(fromDate.calendarType());
+        } else {
+            holidayCalendars.forEach(code -> calendars.add(CalendarType.fromCode(code)));
+        }
+
+        HolidayBitmapService.Count count = holidayBitmapService.countHolidayDays(fromDate, toDate, calendars);
+        return ResponseEntity.ok(new HolidayCountResponse(
+                calendarType, from, to, calendars, count.days(), count.holidayDays()));
+    }
+
     @GetMapping("/month/{calendarType}/{year}/{month}")
     @Operation(summary = "Get all holidays for a specific month")
     public ResponseEntity<MonthHolidaysResponse> getMonthHolidays(
@@ -95,7 +134,9 @@ public class HolidayController {
     }
 
     private ResponseEntity<HolidayCheckResponse> getHolidayCheckResponseResponseEntity(@PathVariable String calendarType, String todayStr) {
-        List<Holiday> holidays = holidayService.getHolidaysForDate(calendarType, todayStr);
+        // An unparseable date is reported as not a holiday, as before
+        ValidationResult date = dateValidationService.validate(todayStr, calendarType);
+        List<Holiday> holidays = date.isValid() ? holidayBitmapService.holidaysOn(date.date()) : List.of();
         boolean isHoliday = !holidays.isEmpty();
 
         String holidayName = null;
@@ -115,11 +156,16 @@ public class HolidayController {
     }
 
     private HolidayResponse convertToHolidayResponse(Holiday holiday) {
-        String date = String.format("%04d-%02d-%02d",
-                holiday.getSpecificYear() != null ? holiday.getSpecificYear() : 2023, // Sample year
-                holiday.getMonthNumber(),
-                holiday.getDayOfMonth()
-        );
+        int year = holiday.getSpecificYear() != null ? holiday.getSpecificYear() : 2023; // Sample year
+        String date;
+        if (holiday.getMovableRule() != null && holiday.getSpecificYear() == null) {
+            // No month and day of its own; when the offset carries it out of the sample
+            // year it is shown where it lands, and a rule it cannot follow gives no date
+            int movableDate = MovableFeastEngine.occurrenceOf(holiday, year);
+            date = movableDate >= 0 ? IsoDateCodec.format(movableDate) : null;
+        } else {
+            date = IsoDateCodec.format(year, holiday.getMonthNumber(), holiday.getDayOfMonth());
+        }
 
         return new HolidayResponse(
                 holiday.getName(),
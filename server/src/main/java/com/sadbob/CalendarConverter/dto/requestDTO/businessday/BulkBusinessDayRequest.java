@@ -0,0 +1,15 @@
+package com.sadbob.CalendarConverter.dto.requestDTO.businessday;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkBusinessDayRequest {
+
+    @Valid
+    @NotEmpty(message = "At least one request is required")
+    private List<BusinessDayRequest> requests;
+}
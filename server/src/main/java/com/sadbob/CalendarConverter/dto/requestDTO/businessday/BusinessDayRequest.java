@@ -0,0 +1,32 @@
+package com.sadbob.CalendarConverter.dto.requestDTO.businessday;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.DayOfWeek;
+import java.util.List;
+
+@Data
+public class BusinessDayRequest {
+
+    @NotNull(message = "Calendar type is required")
+    private String calendarType;
+
+    @NotNull(message = "Start date is required")
+    private String startDate;
+
+    // count: last day of the range, inclusive
+    private String endDate;
+
+    // add: business days to move forward from startDate
+    private Integer days;
+
+    // Optional: ISO country code; picks the weekend and leaves out other countries' holidays
+    private String country;
+
+    // Optional: overrides the country's weekend, e.g. [FRIDAY, SATURDAY]
+    private List<DayOfWeek> weekendDays;
+
+    // Optional: calendars whose holidays are days off (default all)
+    private List<String> holidayCalendars;
+}
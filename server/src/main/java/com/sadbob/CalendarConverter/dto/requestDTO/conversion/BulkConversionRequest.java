@@ -14,6 +14,9 @@ public class BulkConversionRequest {
     @NotEmpty(message = "At least one conversion request is required")
     private List<SingleConversionRequest> conversions;
 
+    // Optional: list the holidays on each source and target date (default false)
+    private boolean includeHolidays;
+
     @Data
     public static class SingleConversionRequest {
 
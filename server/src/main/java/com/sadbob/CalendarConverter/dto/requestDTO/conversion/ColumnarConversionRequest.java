@@ -0,0 +1,30 @@
+package com.sadbob.CalendarConverter.dto.requestDTO.conversion;
+
+import com.sadbob.CalendarConverter.enums.DateEncoding;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+@Schema(description = "Columnar bulk conversion: one calendar pair, many dates as plain ints")
+public class ColumnarConversionRequest {
+
+    public static final int MAX_DATES = 1_000_000;
+
+    @NotNull(message = "Source calendar type is required")
+    @Schema(example = "gregorian")
+    private String sourceCalendar;
+
+    @NotNull(message = "Target calendar type is required")
+    @Schema(example = "ethiopian")
+    private String targetCalendar;
+
+    @Schema(description = "PACKED: (year << 9) | (month << 5) | day in the source calendar. EPOCH_DAY: days since 1970-01-01")
+    private DateEncoding encoding = DateEncoding.PACKED;
+
+    @NotNull(message = "Dates are required")
+    @Size(min = 1, max = MAX_DATES, message = "Between 1 and 1000000 dates per request")
+    @Schema(example = "[1036697, 1036698]")
+    private int[] dates;
+}
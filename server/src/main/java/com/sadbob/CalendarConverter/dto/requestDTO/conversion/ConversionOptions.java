@@ -0,0 +1,60 @@
+package com.sadbob.CalendarConverter.dto.requestDTO.conversion;
+
+import com.sadbob.CalendarConverter.enums.CalendarType;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Selects which parts of a conversion are computed. Anything not selected is
+ * skipped entirely, including the holiday lookups.
+ */
+public record ConversionOptions(
+        Set<CalendarType> targets,
+        boolean includeHolidays,
+        boolean includeFormatted
+) {
+    public static final String INCLUDE_HOLIDAYS = "holidays";
+    public static final String INCLUDE_FORMATTED = "formatted";
+
+    // Every calendar, holidays and formatted dates: the behaviour when no options are given
+    public static final ConversionOptions ALL =
+            new ConversionOptions(EnumSet.allOf(CalendarType.class), true, true);
+
+    /**
+     * Builds options from the {@code targets} and {@code include} request parameters.
+     * A missing parameter keeps the full default for that part.
+     */
+    public static ConversionOptions of(List<String> targets, List<String> include) {
+        Set<CalendarType> targetTypes = EnumSet.allOf(CalendarType.class);
+        if (targets != null) {
+            targetTypes = EnumSet.noneOf(CalendarType.class);
+            for (String target : targets) {
+                targetTypes.add(CalendarType.fromCode(target.trim()));
+            }
+        }
+
+        boolean holidays = true;
+        boolean formatted = true;
+        if (include != null) {
+            holidays = false;
+            formatted = false;
+            for (String part : include) {
+                switch (part.trim().toLowerCase()) {
+                    case INCLUDE_HOLIDAYS -> holidays = true;
+                    case INCLUDE_FORMATTED -> formatted = true;
+                    case "" -> { }
+                    default -> throw new IllegalArgumentException("Unknown include option: " + part
+                            + ". Supported: " + INCLUDE_HOLIDAYS + ", " + INCLUDE_FORMATTED);
+                }
+            }
+        }
+
+        return new ConversionOptions(targetTypes, holidays, formatted);
+    }
+
+    public static ConversionOptions targetOnly(CalendarType target, boolean includeFormatted) {
+        return new ConversionOptions(EnumSet.of(target), false, includeFormatted);
+    }
+}
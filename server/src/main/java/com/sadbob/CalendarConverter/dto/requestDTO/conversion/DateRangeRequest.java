@@ -1,19 +1,24 @@
 package com.sadbob.CalendarConverter.dto.requestDTO.conversion;
 
 
+import com.sadbob.CalendarConverter.enums.StepUnit;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 
-import java.time.LocalDate;
+import java.time.DayOfWeek;
+import java.util.Set;
 
 @Data
 public class DateRangeRequest {
 
+    // Both ends are YYYY-MM-DD dates in the source calendar, so Pagume 13-05 or a Hijri 30th are accepted
     @NotNull(message = "Start date is required")
-    private LocalDate startDate;
+    private String startDate;
 
     @NotNull(message = "End date is required")
-    private LocalDate endDate;
+    private String endDate;
 
     @NotNull(message = "Source calendar type is required")
     private String sourceCalendar;
@@ -21,18 +26,27 @@ public class DateRangeRequest {
     @NotNull(message = "Target calendar type is required")
     private String targetCalendar;
 
-    // Optional: step in days (default 1)
+    // Optional: step size, counted in stepUnit (default 1)
+    @Min(value = 1, message = "Step must be at least 1")
     private Integer stepDays = 1;
 
+    // Optional: DAYS, MONTHS or YEARS of the source calendar (default DAYS)
+    private StepUnit stepUnit = StepUnit.DAYS;
+
+    // Optional: rows per page (default 1000)
+    @Min(value = 1, message = "Page size must be at least 1")
+    @Max(value = 10000, message = "Page size must be at most 10000")
+    private Integer pageSize = 1000;
+
+    // Optional: nextCursor of the previous page; the rest of the request must be unchanged
+    private String cursor;
+
     // Optional: include weekends (default true)
     private Boolean includeWeekends = true;
 
-    // Validate that end date is after start date
-    public boolean isValidRange() {
-        return endDate.isAfter(startDate) || endDate.isEqual(startDate);
-    }
+    // Optional: the days skipped when includeWeekends is false (default Saturday and Sunday)
+    private Set<DayOfWeek> weekendDays;
 
-    public long getTotalDays() {
-        return java.time.temporal.ChronoUnit.DAYS.between(startDate, endDate) + 1;
-    }
+    // Optional: list the holidays on each source and target date (default false)
+    private Boolean includeHolidays = false;
 }
@@ -0,0 +1,23 @@
+package com.sadbob.CalendarConverter.dto.responseDTO.businessday;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Results of a bulk business-day request, in request order")
+public class BulkBusinessDayResponse {
+
+    private List<BusinessDayResponse> results;
+
+    private int successful;
+
+    private int failed;
+
+    private long processingTimeMs;
+}
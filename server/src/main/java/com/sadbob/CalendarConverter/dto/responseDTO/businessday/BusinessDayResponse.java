@@ -0,0 +1,57 @@
+package com.sadbob.CalendarConverter.dto.responseDTO.businessday;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Result of a business-day addition or count")
+public class BusinessDayResponse {
+
+    @Schema(description = "Calendar of the dates", example = "ETHIOPIAN")
+    private String calendarType;
+
+    @Schema(description = "First day of the range, or the day counted from", example = "2017-01-01")
+    private String startDate;
+
+    @Schema(description = "Last day of the range, or the day reached", example = "2017-01-15")
+    private String endDate;
+
+    @Schema(description = "Business days added, or business days in the range")
+    private Long businessDays;
+
+    @Schema(description = "Calendar days from startDate to endDate, both inclusive")
+    private Long calendarDays;
+
+    @Schema(description = "Weekend days applied")
+    private Set<DayOfWeek> weekendDays;
+
+    @Schema(description = "Calendars whose holidays were applied")
+    private Set<CalendarType> holidayCalendars;
+
+    @Schema(description = "Country whose weekend and holidays were applied", example = "ET")
+    private String country;
+
+    @Schema(description = "Whether the request could be answered")
+    private boolean success;
+
+    @Schema(description = "Error message if the request failed")
+    private String errorMessage;
+
+    public static BusinessDayResponse failed(String calendarType, String startDate, String errorMessage) {
+        BusinessDayResponse response = new BusinessDayResponse();
+        response.setCalendarType(calendarType);
+        response.setStartDate(startDate);
+        response.setErrorMessage(errorMessage);
+        return response;
+    }
+}
@@ -1,11 +1,14 @@
 package com.sadbob.CalendarConverter.dto.responseDTO.conversion;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sadbob.CalendarConverter.enums.ConversionErrorCategory;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
 import java.util.List;
+import java.util.Map;
 
 @Data
 @NoArgsConstructor
@@ -22,6 +25,14 @@ public class BulkConversionResponse {
     @Schema(description = "Additional message or error information")
     private String message;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Pass as 'cursor' to fetch the next page of a date range; absent on the last page")
+    private String nextCursor;
+
+    public BulkConversionResponse(List<SingleConversionResult> results, BulkSummary summary, String message) {
+        this(results, summary, message, null);
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -47,6 +58,30 @@ public class BulkConversionResponse {
 
         @Schema(description = "Error message if conversion failed")
         private String errorMessage;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @Schema(description = "Category of the failure, if conversion failed", example = "INVALID_DATE")
+        private ConversionErrorCategory errorCategory;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @Schema(description = "Holidays on the source date, when includeHolidays is set")
+        private List<String> sourceHolidays;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @Schema(description = "Holidays on the target date, when includeHolidays is set")
+        private List<String> targetHolidays;
+
+        public SingleConversionResult(String sourceDate, String sourceCalendar, String targetDate, String targetCalendar,
+                                      String formattedTargetDate, boolean success, String errorMessage) {
+            this(sourceDate, sourceCalendar, targetDate, targetCalendar, formattedTargetDate, success, errorMessage,
+                    null, null, null);
+        }
+
+        public static SingleConversionResult failed(String sourceDate, String sourceCalendar, String targetCalendar,
+                                                    ConversionErrorCategory errorCategory, String errorMessage) {
+            return new SingleConversionResult(sourceDate, sourceCalendar, null, targetCalendar, null, false,
+                    errorMessage, errorCategory, null, null);
+        }
     }
 
     @Data
@@ -63,7 +98,23 @@ public class BulkConversionResponse {
         @Schema(description = "Number of failed conversions")
         private int failedConversions;
 
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @Schema(description = "Number of distinct (date, source, target) tuples actually converted; duplicates reuse their result")
+        private Integer uniqueConversions;
+
         @Schema(description = "Processing time in milliseconds")
         private long processingTimeMs;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        @Schema(description = "Milliseconds spent in each phase of the parallel engine", example = "{\"parse\":4,\"group\":0,\"convert\":9,\"assemble\":0}")
+        private Map<String, Long> phaseTimingsMs;
+
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        @Schema(description = "Failed rows per error category", example = "{\"INVALID_DATE\":12,\"MALFORMED_DATE\":3}")
+        private Map<ConversionErrorCategory, Integer> errorCategories;
+
+        public BulkSummary(int totalRequests, int successfulConversions, int failedConversions, long processingTimeMs) {
+            this(totalRequests, successfulConversions, failedConversions, null, processingTimeMs, null, null);
+        }
     }
 }
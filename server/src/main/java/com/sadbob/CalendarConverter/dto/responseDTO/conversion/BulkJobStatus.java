@@ -0,0 +1,42 @@
+package com.sadbob.CalendarConverter.dto.responseDTO.conversion;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sadbob.CalendarConverter.enums.JobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "State and progress of an asynchronous bulk conversion job")
+public class BulkJobStatus {
+
+    @Schema(example = "5b0f8c9e-3f7a-4c55-9a3e-2f1d0c6b7a10")
+    private String jobId;
+
+    private JobStatus status;
+
+    private int totalRequests;
+
+    @Schema(description = "Rows converted so far")
+    private int processedRequests;
+
+    private int successfulConversions;
+
+    private int failedConversions;
+
+    private Instant createdAt;
+
+    private Instant finishedAt;
+
+    @Schema(description = "Size of the NDJSON result file once the job has completed")
+    private Long resultBytes;
+
+    @Schema(description = "Why the job failed")
+    private String error;
+}
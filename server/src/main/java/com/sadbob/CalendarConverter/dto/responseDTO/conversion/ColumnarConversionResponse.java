@@ -0,0 +1,32 @@
+package com.sadbob.CalendarConverter.dto.responseDTO.conversion;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Columnar bulk conversion result; arrays are parallel to the request's dates")
+public class ColumnarConversionResponse {
+
+    @Schema(example = "gregorian")
+    private String sourceCalendar;
+
+    @Schema(example = "ethiopian")
+    private String targetCalendar;
+
+    @Schema(description = "Packed target calendar dates, (year << 9) | (month << 5) | day; 0 where the row failed")
+    private int[] targetDates;
+
+    @Schema(description = "Days since 1970-01-01 for each row; 0 where the row failed")
+    private int[] epochDays;
+
+    @Schema(description = "Error messages keyed by row index, for failed rows only")
+    private Map<Integer, String> errors;
+
+    private BulkConversionResponse.BulkSummary summary;
+}
@@ -1,8 +1,12 @@
 package com.sadbob.CalendarConverter.dto.responseDTO.conversion;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 import java.util.Map;
 
+// Parts not requested through ConversionOptions are null and left out of the JSON
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record ConversionResponse(
         String sourceDate,
         String sourceCalendar,
@@ -0,0 +1,20 @@
+package com.sadbob.CalendarConverter.dto.responseDTO.holidays;
+
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HolidayCountResponse {
+    private String calendarType;
+    private String from;
+    private String to;
+    private Set<CalendarType> holidayCalendars;
+    private long days;
+    private long holidayDays;
+}
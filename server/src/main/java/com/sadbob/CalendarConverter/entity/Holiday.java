@@ -2,12 +2,14 @@ package com.sadbob.CalendarConverter.entity;
 
 import com.sadbob.CalendarConverter.enums.CalendarType;
 import com.sadbob.CalendarConverter.enums.HolidayType;
+import com.sadbob.CalendarConverter.enums.MovableFeastRule;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
+@EntityListeners(HolidayChangeListener.class)
 @Table(name = "holidays")
 @Data
 @NoArgsConstructor
@@ -46,6 +48,14 @@ public class Holiday {
     @Column(name = "country_code")
     private String countryCode; // e.g., "ET", "SA", "US"
 
+    // Set for a holiday whose date moves each year; month and day are then not used
+    @Enumerated(EnumType.STRING)
+    @Column(name = "movable_rule")
+    private MovableFeastRule movableRule;
+
+    @Column(name = "movable_offset")
+    private Integer movableOffset; // days after the movable rule's date, may be negative
+
     // Constructor for recurring holidays
     public Holiday(String name, String description, CalendarType calendarType,
                    HolidayType holidayType, Integer dayOfMonth, Integer monthNumber,
@@ -59,4 +69,23 @@ public class Holiday {
         this.countryCode = countryCode;
         this.isRecurring = true;
     }
+
+    // Constructor for recurring movable holidays; the calendar is the rule's own
+    public Holiday(String name, String description, HolidayType holidayType,
+                   MovableFeastRule movableRule, int movableOffset, String countryCode) {
+        this(name, description, movableRule.getCalendarType(), holidayType, 0, 0, countryCode);
+        this.movableRule = movableRule;
+        this.movableOffset = movableOffset;
+    }
+
+    // This holiday pinned to one year's date, for a movable holiday resolved in that year
+    public Holiday resolvedIn(int year, int month, int day) {
+        Holiday resolved = new Holiday(name, description, calendarType, holidayType, day, month, countryCode);
+        resolved.setId(id);
+        resolved.setIsRecurring(isRecurring);
+        resolved.setSpecificYear(year);
+        resolved.setMovableRule(movableRule);
+        resolved.setMovableOffset(movableOffset);
+        return resolved;
+    }
 }
@@ -0,0 +1,31 @@
+package com.sadbob.CalendarConverter.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Announces every insert, update and delete of a {@link Holiday}, so in-memory copies
+ * of the table know to rebuild. The event is only a signal; it carries no rows.
+ */
+@Component
+public class HolidayChangeListener {
+
+    public record HolidaysChanged() {
+    }
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public HolidayChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void holidayChanged(Holiday holiday) {
+        eventPublisher.publishEvent(new HolidaysChanged());
+    }
+}
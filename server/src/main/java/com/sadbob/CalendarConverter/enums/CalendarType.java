@@ -26,14 +26,24 @@ public enum CalendarType {
             throw new IllegalArgumentException("Calendar type cannot be null");
         }
 
-        String lowerInput = input.toLowerCase();
+        CalendarType type = lookup(input);
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown calendar type: " + input);
+        }
+        return type;
+    }
+
+    // Like fromCode, but returns null for an unknown or missing name instead of throwing
+    public static CalendarType lookup(String input) {
+        if (input == null) {
+            return null;
+        }
 
         for (CalendarType type : values()) {
-            if (type.code.equals(lowerInput) || type.fullName.equals(lowerInput)) {
+            if (type.code.equalsIgnoreCase(input) || type.fullName.equalsIgnoreCase(input)) {
                 return type;
             }
         }
-
-        throw new IllegalArgumentException("Unknown calendar type: " + input);
+        return null;
     }
 }
\ No newline at end of file
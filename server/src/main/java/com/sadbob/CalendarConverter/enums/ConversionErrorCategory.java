@@ -0,0 +1,15 @@
+package com.sadbob.CalendarConverter.enums;
+
+// Why a row of a bulk conversion failed; batches report counts per category
+public enum ConversionErrorCategory {
+    // A missing field or an unreadable request line
+    MALFORMED_REQUEST,
+    // Not a yyyy-MM-dd date
+    MALFORMED_DATE,
+    UNKNOWN_CALENDAR,
+    // Well formed, but not a day of its calendar, such as 2024-02-30
+    INVALID_DATE,
+    // A valid date that the target calendar's tables do not cover
+    OUT_OF_RANGE,
+    CONVERSION_FAILED
+}
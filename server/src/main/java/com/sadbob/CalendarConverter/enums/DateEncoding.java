@@ -0,0 +1,9 @@
+package com.sadbob.CalendarConverter.enums;
+
+// How a columnar request states its dates
+public enum DateEncoding {
+    // (year << 9) | (month << 5) | day in the source calendar
+    PACKED,
+    // Days since 1970-01-01, independent of the source calendar
+    EPOCH_DAY
+}
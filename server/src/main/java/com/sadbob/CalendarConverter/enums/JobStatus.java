@@ -0,0 +1,13 @@
+package com.sadbob.CalendarConverter.enums;
+
+public enum JobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    DELETED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
@@ -0,0 +1,38 @@
+package com.sadbob.CalendarConverter.enums;
+
+/**
+ * Feasts whose date moves from year to year. Each is either computed directly or a
+ * fixed number of days after another rule, and falls in the calendar given here.
+ */
+public enum MovableFeastRule {
+    // Western Easter Sunday, by the Gregorian computus
+    EASTER(CalendarType.GREGORIAN, null, 0),
+    // Tsome Nineveh, the start of the Fast of Nineveh, by the Bahire Hasab
+    NINEVEH(CalendarType.ETHIOPIAN, null, 0),
+    HOSANNA(CalendarType.ETHIOPIAN, NINEVEH, 62),
+    SIKLET(CalendarType.ETHIOPIAN, NINEVEH, 67),
+    FASIKA(CalendarType.ETHIOPIAN, NINEVEH, 69);
+
+    private final CalendarType calendarType;
+    private final MovableFeastRule base;
+    private final int daysAfterBase;
+
+    MovableFeastRule(CalendarType calendarType, MovableFeastRule base, int daysAfterBase) {
+        this.calendarType = calendarType;
+        this.base = base;
+        this.daysAfterBase = daysAfterBase;
+    }
+
+    public CalendarType getCalendarType() {
+        return calendarType;
+    }
+
+    // null for a rule that is computed directly
+    public MovableFeastRule getBase() {
+        return base;
+    }
+
+    public int getDaysAfterBase() {
+        return daysAfterBase;
+    }
+}
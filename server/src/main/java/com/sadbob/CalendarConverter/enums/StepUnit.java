@@ -0,0 +1,8 @@
+package com.sadbob.CalendarConverter.enums;
+
+// Unit of a date range step, counted in the range's source calendar
+public enum StepUnit {
+    DAYS,
+    MONTHS,
+    YEARS
+}
@@ -0,0 +1,9 @@
+package com.sadbob.CalendarConverter.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class JobLimitException extends AppException {
+    public JobLimitException(String message) {
+        super(message, HttpStatus.TOO_MANY_REQUESTS, "JOB_LIMIT_EXCEEDED");
+    }
+}
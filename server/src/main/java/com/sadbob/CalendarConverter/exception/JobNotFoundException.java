@@ -0,0 +1,9 @@
+package com.sadbob.CalendarConverter.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class JobNotFoundException extends AppException {
+    public JobNotFoundException(String message) {
+        super(message, HttpStatus.NOT_FOUND, "JOB_NOT_FOUND");
+    }
+}
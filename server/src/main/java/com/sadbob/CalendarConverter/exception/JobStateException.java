@@ -0,0 +1,9 @@
+package com.sadbob.CalendarConverter.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class JobStateException extends AppException {
+    public JobStateException(String message) {
+        super(message, HttpStatus.CONFLICT, "JOB_NOT_READY");
+    }
+}
@@ -4,16 +4,16 @@ package com.sadbob.CalendarConverter.service;
 import com.sadbob.CalendarConverter.dto.responseDTO.age.AgeResponse;
 import com.sadbob.CalendarConverter.exception.ConversionException;
 import com.sadbob.CalendarConverter.exception.ValidationException;
-import com.sadbob.CalendarConverter.enums.CalendarType;
+import com.sadbob.CalendarConverter.util.CalendarDate;
 import com.sadbob.CalendarConverter.util.EthiopianDateConverter;
 import com.sadbob.CalendarConverter.util.HijriDateConverter;
+import com.sadbob.CalendarConverter.util.IsoDateCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.Period;
-import java.time.format.DateTimeFormatter;
 
 
 @Service
@@ -25,22 +25,19 @@ public class AgeCalculationService {
     private final EthiopianDateConverter ethiopianConverter;
     private final HijriDateConverter hijriConverter;
 
-    private final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-
     public AgeCalculationService(EthiopianDateConverter ethiopianConverter, HijriDateConverter hijriConverter) {
         this.ethiopianConverter = ethiopianConverter;
         this.hijriConverter = hijriConverter;
     }
 
 
-    public AgeResponse calculateAge(String calendarType, String birthDate) {
+    public AgeResponse calculateAge(CalendarDate birthDate) {
         try {
-            String[] parts = birthDate.split("-");
-            int year = Integer.parseInt(parts[0]);
-            int month = Integer.parseInt(parts[1]);
-            int day = Integer.parseInt(parts[2]);
+            int year = birthDate.year();
+            int month = birthDate.month();
+            int day = birthDate.day();
 
-            LocalDate gregorianBirthDate = switch (CalendarType.fromCode(calendarType)) {
+            LocalDate gregorianBirthDate = switch (birthDate.calendarType()) {
                 case GREGORIAN -> LocalDate.of(year, month, day);
                 case ETHIOPIAN -> ethiopianConverter.toGregorian(year, month, day);
                 case HIJRI -> hijriConverter.toGregorian(year, month, day);
@@ -58,15 +55,15 @@ public class AgeCalculationService {
 
             return new AgeResponse(
                     age.getYears(),
-                    birthDate,
-                    nextBirthday.format(dateFormatter),
+                    birthDate.toString(),
+                    IsoDateCodec.format(nextBirthday.getYear(), nextBirthday.getMonthValue(), nextBirthday.getDayOfMonth()),
                     "Age calculated successfully"
             );
 
         } catch (ValidationException e) {
             throw e;
         } catch (Exception e) {
-            log.error("Error calculating age for birth date: {} from calendar: {}", birthDate, calendarType, e);
+            log.error("Error calculating age for birth date: {} from calendar: {}", birthDate, birthDate.calendarType(), e);
             throw new ConversionException("Failed to calculate age: " + e.getMessage(), e);
         }
     }
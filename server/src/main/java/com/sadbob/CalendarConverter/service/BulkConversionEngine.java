@@ -0,0 +1,242 @@
+package com.sadbob.CalendarConverter.service;
+
+import com.sadbob.CalendarConverter.dto.requestDTO.conversion.BulkConversionRequest;
+import com.sadbob.CalendarConverter.dto.responseDTO.conversion.BulkConversionResponse;
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import com.sadbob.CalendarConverter.enums.ConversionErrorCategory;
+import com.sadbob.CalendarConverter.exception.CalendarServiceException;
+import com.sadbob.CalendarConverter.service.interf.CalendarEngine;
+import com.sadbob.CalendarConverter.util.IsoDateCodec;
+import com.sadbob.CalendarConverter.util.PackedDate;
+import com.sadbob.CalendarConverter.util.ValidationResult;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+
+/**
+ * Converts a batch in four phases: parse and validate every row, group the rows by
+ * (source, target) calendar pair, convert each group through its one pair of engines,
+ * and hand the results back in input order. Parsing and conversion are split into
+ * chunks on a dedicated, bounded ForkJoinPool so a large batch cannot starve the
+ * common pool that request handling and parallel streams share.
+ */
+@Component
+public class BulkConversionEngine {
+
+    private static final CalendarType[] TYPES = CalendarType.values();
+    private static final int ROUTES = TYPES.length * TYPES.length;
+    private static final int FAILED = -1;
+
+    private final CalendarEngineRegistry calendarEngines;
+    private final DateValidationService dateValidationService;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    public BulkConversionEngine(CalendarEngineRegistry calendarEngines,
+                                DateValidationService dateValidationService,
+                                @Value("${calendar.bulk.parallelism:0}") int parallelism,
+                                @Value("${calendar.bulk.chunk-size:1024}") int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("calendar.bulk.chunk-size must be positive: " + chunkSize);
+        }
+        this.calendarEngines = calendarEngines;
+        this.dateValidationService = dateValidationService;
+        this.chunkSize = chunkSize;
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(threads, BulkConversionEngine::newWorker, null, false);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    public Outcome convert(List<BulkConversionRequest.SingleConversionRequest> requests) {
+        int size = requests.size();
+        BulkConversionResponse.SingleConversionResult[] results = new BulkConversionResponse.SingleConversionResult[size];
+        int[] sourceDates = new int[size];
+        int[] routes = new int[size];
+
+        long start = System.nanoTime();
+        List<Callable<Void>> parseTasks = new ArrayList<>();
+        for (int from = 0; from < size; from += chunkSize) {
+            int chunkStart = from;
+            int chunkEnd = Math.min(size, from + chunkSize);
+            parseTasks.add(() -> {
+                for (int row = chunkStart; row < chunkEnd; row++) {
+                    parse(requests.get(row), row, sourceDates, routes, results);
+                }
+                return null;
+            });
+        }
+        run(parseTasks);
+        long parsed = System.nanoTime();
+
+        // Stable counting sort of row numbers by route, so each group keeps input order
+        int[] groupStarts = new int[ROUTES + 1];
+        for (int route : routes) {
+            if (route != FAILED) {
+                groupStarts[route + 1]++;
+            }
+        }
+        for (int route = 0; route < ROUTES; route++) {
+            groupStarts[route + 1] += groupStarts[route];
+        }
+        int[] rows = new int[groupStarts[ROUTES]];
+        int[] next = Arrays.copyOf(groupStarts, ROUTES);
+        for (int row = 0; row < size; row++) {
+            if (routes[row] != FAILED) {
+                rows[next[routes[row]]++] = row;
+            }
+        }
+        long grouped = System.nanoTime();
+
+        List<Callable<Void>> convertTasks = new ArrayList<>();
+        for (int route = 0; route < ROUTES; route++) {
+            CalendarEngine source = calendarEngines.get(TYPES[route / TYPES.length]);
+            CalendarEngine target = calendarEngines.get(TYPES[route % TYPES.length]);
+            for (int from = groupStarts[route]; from < groupStarts[route + 1]; from += chunkSize) {
+                int chunkStart = from;
+                int chunkEnd = Math.min(groupStarts[route + 1], from + chunkSize);
+                convertTasks.add(() -> {
+                    for (int i = chunkStart; i < chunkEnd; i++) {
+                        int row = rows[i];
+                        results[row] = convert(requests.get(row), sourceDates[row], source, target);
+                    }
+                    return null;
+                });
+            }
+        }
+        run(convertTasks);
+        long converted = System.nanoTime();
+
+        List<BulkConversionResponse.SingleConversionResult> ordered = Arrays.asList(results);
+        long assembled = System.nanoTime();
+
+        Map<String, Long> phaseTimingsMs = new LinkedHashMap<>();
+        phaseTimingsMs.put("parse", millis(parsed - start));
+        phaseTimingsMs.put("group", millis(grouped - parsed));
+        phaseTimingsMs.put("convert", millis(converted - grouped));
+        phaseTimingsMs.put("assemble", millis(assembled - converted));
+        return new Outcome(ordered, phaseTimingsMs);
+    }
+
+    /**
+     * Converts one row on the calling thread, for paths that see a row at a time.
+     * Validation runs once and a bad row is reported in the result, never thrown.
+     */
+    public BulkConversionResponse.SingleConversionResult convertOne(BulkConversionRequest.SingleConversionRequest request) {
+        ValidationResult source = dateValidationService.validate(request.getDate(), request.getSourceCalendar());
+        CalendarType targetCalendar = CalendarType.lookup(request.getTargetCalendar());
+        if (!source.isValid() || targetCalendar == null) {
+            return rejected(request, source);
+        }
+        return convert(request, source.date().packed(),
+                calendarEngines.get(source.date().calendarType()), calendarEngines.get(targetCalendar));
+    }
+
+    private void parse(BulkConversionRequest.SingleConversionRequest request, int row,
+                       int[] sourceDates, int[] routes,
+                       BulkConversionResponse.SingleConversionResult[] results) {
+        ValidationResult source = dateValidationService.validate(request.getDate(), request.getSourceCalendar());
+        CalendarType targetCalendar = CalendarType.lookup(request.getTargetCalendar());
+        if (!source.isValid() || targetCalendar == null) {
+            routes[row] = FAILED;
+            results[row] = rejected(request, source);
+            return;
+        }
+        sourceDates[row] = source.date().packed();
+        routes[row] = source.date().calendarType().ordinal() * TYPES.length + targetCalendar.ordinal();
+    }
+
+    private static BulkConversionResponse.SingleConversionResult rejected(BulkConversionRequest.SingleConversionRequest request,
+                                                                          ValidationResult source) {
+        if (!source.isValid()) {
+            return failed(request, source.errorCategory(), source.message());
+        }
+        String message = request.getTargetCalendar() == null
+                ? "Calendar type cannot be null" : "Unknown calendar type: " + request.getTargetCalendar();
+        return failed(request, ConversionErrorCategory.UNKNOWN_CALENDAR, message);
+    }
+
+    private BulkConversionResponse.SingleConversionResult convert(BulkConversionRequest.SingleConversionRequest request,
+                                                                  int sourceDate,
+                                                                  CalendarEngine source,
+                                                                  CalendarEngine target) {
+        try {
+            long epochDay = source.toEpochDay(PackedDate.year(sourceDate), PackedDate.month(sourceDate), PackedDate.day(sourceDate));
+            int targetDate = target.fromEpochDay(epochDay);
+            return new BulkConversionResponse.SingleConversionResult(
+                    request.getDate(),
+                    request.getSourceCalendar(),
+                    IsoDateCodec.format(targetDate),
+                    request.getTargetCalendar(),
+                    target.format(targetDate),
+                    true,
+                    null
+            );
+        } catch (DateTimeException e) {
+            // Only the Hijri tables are bounded, so this is the one failure expected here
+            return failed(request, ConversionErrorCategory.OUT_OF_RANGE, e.getMessage());
+        } catch (RuntimeException e) {
+            return failed(request, ConversionErrorCategory.CONVERSION_FAILED, e.getMessage());
+        }
+    }
+
+    // Failed rows are counted per category by the caller rather than logged one by one
+    static BulkConversionResponse.SingleConversionResult failed(BulkConversionRequest.SingleConversionRequest request,
+                                                                ConversionErrorCategory category, String message) {
+        return BulkConversionResponse.SingleConversionResult.failed(
+                request.getDate(), request.getSourceCalendar(), request.getTargetCalendar(), category, message);
+    }
+
+    // A single chunk runs on the caller; handing it to the pool would only add latency
+    private void run(List<Callable<Void>> tasks) {
+        try {
+            if (tasks.size() == 1) {
+                tasks.get(0).call();
+                return;
+            }
+            for (Future<Void> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CalendarServiceException("Bulk conversion was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new CalendarServiceException("Bulk conversion failed: " + e.getCause().getMessage(), e.getCause());
+        } catch (Exception e) {
+            throw new CalendarServiceException("Bulk conversion failed: " + e.getMessage(), e);
+        }
+    }
+
+    private static long millis(long nanos) {
+        return nanos / 1_000_000;
+    }
+
+    private static ForkJoinWorkerThread newWorker(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("bulk-conversion-" + thread.getPoolIndex());
+        return thread;
+    }
+
+    public record Outcome(List<BulkConversionResponse.SingleConversionResult> results,
+                          Map<String, Long> phaseTimingsMs) {
+    }
+}
@@ -1,109 +1,150 @@
 package com.sadbob.CalendarConverter.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.sadbob.CalendarConverter.dto.requestDTO.conversion.BulkConversionRequest;
 import com.sadbob.CalendarConverter.dto.requestDTO.conversion.DateRangeRequest;
 import com.sadbob.CalendarConverter.dto.responseDTO.conversion.BulkConversionResponse;
-import com.sadbob.CalendarConverter.dto.responseDTO.conversion.ConversionResponse;
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import com.sadbob.CalendarConverter.enums.ConversionErrorCategory;
+import com.sadbob.CalendarConverter.enums.StepUnit;
+import com.sadbob.CalendarConverter.exception.ValidationException;
+import com.sadbob.CalendarConverter.service.interf.CalendarEngine;
+import com.sadbob.CalendarConverter.service.interf.HolidayService;
+import com.sadbob.CalendarConverter.util.CalendarDate;
+import com.sadbob.CalendarConverter.util.IsoDateCodec;
+import com.sadbob.CalendarConverter.util.PackedDate;
+import com.sadbob.CalendarConverter.util.WeekendMask;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
 
 @Service
 public class BulkConversionService {
 
     private static final Logger log = LoggerFactory.getLogger(BulkConversionService.class);
 
-    private final DateConversionService dateConversionService;
-    private final DateValidationService dateValidationService;
+    private static final int STREAM_FLUSH_LINES = 256;
+
+    private static final int DEFAULT_RANGE_PAGE_SIZE = 1000;
+    // A page stops scanning after this many steps even if it has not filled up
+    private static final long MAX_RANGE_PAGE_STEPS = 100_000;
+    private static final int MAX_RANGE_YEAR = 9999;
+    private static final long MAX_RANGE_MONTHS = MAX_RANGE_YEAR * 13L;
 
-    public BulkConversionService(DateConversionService dateConversionService, DateValidationService dateValidationService) {
-        this.dateConversionService = dateConversionService;
+    private final DateValidationService dateValidationService;
+    private final CalendarEngineRegistry calendarEngines;
+    private final BulkConversionEngine bulkConversionEngine;
+    private final HolidayService holidayService;
+    private final ObjectMapper ndjsonMapper = new ObjectMapper();
+    private final ObjectReader requestReader = ndjsonMapper.readerFor(BulkConversionRequest.SingleConversionRequest.class);
+    private final ObjectWriter resultWriter = ndjsonMapper.writerFor(BulkConversionResponse.SingleConversionResult.class);
+
+    public BulkConversionService(DateValidationService dateValidationService,
+                                 CalendarEngineRegistry calendarEngines,
+                                 BulkConversionEngine bulkConversionEngine,
+                                 HolidayService holidayService) {
         this.dateValidationService = dateValidationService;
+        this.calendarEngines = calendarEngines;
+        this.bulkConversionEngine = bulkConversionEngine;
+        this.holidayService = holidayService;
     }
 
     public BulkConversionResponse convertBulkDates(BulkConversionRequest request) {
         long startTime = System.currentTimeMillis();
 
-        List<BulkConversionResponse.SingleConversionResult> results = new ArrayList<>();
+        DeduplicatedBatch batch = DeduplicatedBatch.of(request.getConversions());
+        List<BulkConversionResponse.SingleConversionResult> uniqueResults = new ArrayList<>(batch.unique().size());
 
-        for (BulkConversionRequest.SingleConversionRequest singleRequest : request.getConversions()) {
-            BulkConversionResponse.SingleConversionResult result = convertSingleDate(singleRequest);
-            results.add(result);
+        for (BulkConversionRequest.SingleConversionRequest singleRequest : batch.unique()) {
+            // Bad rows come back as failed results and are logged once for the whole batch
+            uniqueResults.add(bulkConversionEngine.convertOne(singleRequest));
         }
+        if (request.isIncludeHolidays()) {
+            attachHolidays(uniqueResults);
+        }
+        List<BulkConversionResponse.SingleConversionResult> results = batch.fanOut(uniqueResults);
 
         long processingTime = System.currentTimeMillis() - startTime;
 
-        BulkConversionResponse.BulkSummary summary = createSummary(results, processingTime);
+        BulkConversionResponse.BulkSummary summary = createSummary(results, processingTime, "Bulk conversion");
+        summary.setUniqueConversions(batch.unique().size());
         String message = generateSummaryMessage(summary);
 
         return new BulkConversionResponse(results, summary, message);
     }
 
-    private BulkConversionResponse.SingleConversionResult convertSingleDate(
-            BulkConversionRequest.SingleConversionRequest request) {
-
-        try {
-            // Validate input
-            dateValidationService.validateDate(request.getDate(), request.getSourceCalendar());
-
-            // Perform conversion using existing service
-            ConversionResponse conversionResponse = dateConversionService.convertDate(
-                    request.getSourceCalendar(),
-                    request.getDate()
-            );
+    /**
+     * Converts an NDJSON stream of {@link BulkConversionRequest.SingleConversionRequest}
+     * lines, writing one result line per input line and a closing summary line. Only
+     * the current line is held in memory. A line that is not valid JSON produces a
+     * failed result instead of ending the stream.
+     */
+    public BulkConversionResponse.BulkSummary convertStream(InputStream input, OutputStream output) throws IOException {
+        long startTime = System.currentTimeMillis();
+        ConversionTally tally = new ConversionTally();
 
-            // FIX: Map request calendar codes to response keys
-            String targetCalendarKey = mapToResponseKey(request.getTargetCalendar());
-            String targetDate = conversionResponse.conversions().get(targetCalendarKey);
-            String formattedDate = conversionResponse.formattedDates().get(targetCalendarKey);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        JsonGenerator generator = ndjsonMapper.getFactory().createGenerator(output);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
 
-            if (targetDate == null) {
-                throw new IllegalArgumentException("Target calendar '" + request.getTargetCalendar() +
-                        "' not found. Available: " + conversionResponse.conversions().keySet());
+        String line;
+        int pendingLines = 0;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            BulkConversionResponse.SingleConversionResult result = convertNdjsonLine(line);
+            tally.add(result);
+            resultWriter.writeValue(generator, result);
+            generator.writeRaw('\n');
+
+            // Push results out whenever the client pauses, and at least every few hundred lines
+            if (++pendingLines >= STREAM_FLUSH_LINES || !reader.ready()) {
+                generator.flush();
+                pendingLines = 0;
             }
-
-            return new BulkConversionResponse.SingleConversionResult(
-                    request.getDate(),
-                    request.getSourceCalendar(),
-                    targetDate,
-                    request.getTargetCalendar(),
-                    formattedDate,
-                    true,
-                    null
-            );
-
-        } catch (Exception e) {
-            log.warn("Bulk conversion failed for {} from {} to {}: {}",
-                    request.getDate(), request.getSourceCalendar(), request.getTargetCalendar(), e.getMessage());
-
-            return new BulkConversionResponse.SingleConversionResult(
-                    request.getDate(),
-                    request.getSourceCalendar(),
-                    null,
-                    request.getTargetCalendar(),
-                    null,
-                    false,
-                    e.getMessage()
-            );
         }
+
+        BulkConversionResponse.BulkSummary summary = tally.toSummary(System.currentTimeMillis() - startTime);
+        tally.logFailures(log, "NDJSON conversion");
+        generator.writeStartObject();
+        generator.writeObjectField("summary", summary);
+        generator.writeStringField("message", generateSummaryMessage(summary));
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+        generator.close();
+        return summary;
     }
 
-    // Add this mapping method
-    private String mapToResponseKey(String calendarCode) {
-        return switch (calendarCode.toLowerCase()) {
-            case "greg" -> "gregorian";
-            case "eth" -> "ethiopian";
-            case "hijri" -> "hijri";
-            default -> calendarCode.toLowerCase();
-        };
+    private BulkConversionResponse.SingleConversionResult convertNdjsonLine(String line) {
+        BulkConversionRequest.SingleConversionRequest request;
+        try {
+            request = requestReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            return BulkConversionResponse.SingleConversionResult.failed(null, null, null,
+                    ConversionErrorCategory.MALFORMED_REQUEST, "Malformed NDJSON line: " + e.getOriginalMessage());
+        }
+        return bulkConversionEngine.convertOne(request);
     }
 
     // Async version for better performance with large batches
@@ -111,7 +152,7 @@ public class BulkConversionService {
         return CompletableFuture.supplyAsync(() -> convertBulkDates(request));
     }
 
-    // Optimized batch conversion for same source calendar
+    // Parallel engine: rows are grouped by (source, target) and converted in chunks off the request thread
     public BulkConversionResponse convertBatchSameSource(BulkConversionRequest request) {
         long startTime = System.currentTimeMillis();
 
@@ -119,46 +160,55 @@ public class BulkConversionService {
             return createEmptyResponse();
         }
 
-        // Check if all requests have same source calendar (optimization)
-        String firstSourceCalendar = request.getConversions().get(0).getSourceCalendar();
-        boolean sameSourceCalendar = request.getConversions().stream()
-                .allMatch(req -> req.getSourceCalendar().equals(firstSourceCalendar));
-
-        List<BulkConversionResponse.SingleConversionResult> results;
-
-        if (sameSourceCalendar) {
-            // Optimized path for same source calendar
-            results = convertBatchOptimized(request, firstSourceCalendar);
-        } else {
-            // General path for mixed source calendars
-            results = request.getConversions().stream()
-                    .map(this::convertSingleDate)
-                    .collect(Collectors.toList());
+        DeduplicatedBatch batch = DeduplicatedBatch.of(request.getConversions());
+        BulkConversionEngine.Outcome outcome = bulkConversionEngine.convert(batch.unique());
+        if (request.isIncludeHolidays()) {
+            attachHolidays(outcome.results());
         }
+        List<BulkConversionResponse.SingleConversionResult> results = batch.fanOut(outcome.results());
 
         long processingTime = System.currentTimeMillis() - startTime;
-        BulkConversionResponse.BulkSummary summary = createSummary(results, processingTime);
+        BulkConversionResponse.BulkSummary summary = createSummary(results, processingTime, "Parallel bulk conversion");
+        summary.setUniqueConversions(batch.unique().size());
+        summary.setPhaseTimingsMs(outcome.phaseTimingsMs());
         String message = generateSummaryMessage(summary);
 
         return new BulkConversionResponse(results, summary, message);
     }
 
-    private List<BulkConversionResponse.SingleConversionResult> convertBatchOptimized(
-            BulkConversionRequest request, String sourceCalendar) {
+    /**
+     * Fills in the source and target holidays of every successful result from a single
+     * batch lookup instead of one lookup per date.
+     */
+    void attachHolidays(List<BulkConversionResponse.SingleConversionResult> results) {
+        List<CalendarDate> dates = new ArrayList<>(results.size() * 2);
+        for (BulkConversionResponse.SingleConversionResult result : results) {
+            if (result.isSuccess()) {
+                dates.add(CalendarDate.parse(CalendarType.fromCode(result.getSourceCalendar()), result.getSourceDate()));
+                dates.add(CalendarDate.parse(CalendarType.fromCode(result.getTargetCalendar()), result.getTargetDate()));
+            }
+        }
+        if (dates.isEmpty()) {
+            return;
+        }
 
-        return request.getConversions().stream()
-                .map(this::convertSingleDate)
-                .collect(Collectors.toList());
+        Map<CalendarDate, List<String>> holidays = holidayService.getHolidayNames(dates);
+        int next = 0;
+        for (BulkConversionResponse.SingleConversionResult result : results) {
+            if (result.isSuccess()) {
+                result.setSourceHolidays(holidays.get(dates.get(next++)));
+                result.setTargetHolidays(holidays.get(dates.get(next++)));
+            }
+        }
     }
 
     private BulkConversionResponse.BulkSummary createSummary(
-            List<BulkConversionResponse.SingleConversionResult> results, long processingTime) {
-
-        int total = results.size();
-        int successful = (int) results.stream().filter(BulkConversionResponse.SingleConversionResult::isSuccess).count();
-        int failed = total - successful;
+            List<BulkConversionResponse.SingleConversionResult> results, long processingTime, String batch) {
 
-        return new BulkConversionResponse.BulkSummary(total, successful, failed, processingTime);
+        ConversionTally tally = new ConversionTally();
+        tally.addAll(results);
+        tally.logFailures(log, batch);
+        return tally.toSummary(processingTime);
     }
 
     private String generateSummaryMessage(BulkConversionResponse.BulkSummary summary) {
@@ -177,45 +227,236 @@ public class BulkConversionService {
         return new BulkConversionResponse(List.of(), summary, "No conversion requests provided");
     }
 
+    /**
+     * Converts one page of a date range. Ranges have no length limit: a page holds at
+     * most pageSize rows plus, unless it is the last, a nextCursor that resumes at the
+     * following step. Steps are counted in the source calendar, so monthly steps
+     * through an Ethiopian year visit all thirteen months.
+     */
     public BulkConversionResponse convertDateRange(DateRangeRequest request) {
-        if (!request.isValidRange()) {
+        CalendarType sourceCalendar = CalendarType.fromCode(request.getSourceCalendar());
+        CalendarType targetCalendar = CalendarType.fromCode(request.getTargetCalendar());
+        // Both ends are dates of the source calendar, checked against its own month lengths
+        CalendarDate startDate = dateValidationService.parse(request.getStartDate(), request.getSourceCalendar());
+        long startEpochDay = toEpochDay(startDate);
+        long endEpochDay = toEpochDay(dateValidationService.parse(request.getEndDate(), request.getSourceCalendar()));
+
+        if (endEpochDay < startEpochDay) {
             throw new IllegalArgumentException("End date must be after or equal to start date");
         }
-
-        if (request.getTotalDays() > 1000) {
-            throw new IllegalArgumentException("Date range too large. Maximum 1000 days allowed.");
+        if (request.getStepDays() == null || request.getStepDays() < 1) {
+            throw new IllegalArgumentException("Step must be at least 1");
         }
 
+        long fingerprint = rangeFingerprint(request, startEpochDay, endEpochDay, sourceCalendar, targetCalendar);
+        long firstStep = request.getCursor() == null ? 0 : decodeRangeCursor(request.getCursor(), fingerprint);
+        RangeWalk walk = new RangeWalk(request, sourceCalendar, targetCalendar, calendarEngines.get(targetCalendar),
+                endEpochDay, Objects.requireNonNullElse(request.getPageSize(), DEFAULT_RANGE_PAGE_SIZE));
+
         long startTime = System.currentTimeMillis();
-        List<BulkConversionResponse.SingleConversionResult> results = new ArrayList<>();
+        long nextStep = switch (Objects.requireNonNullElse(request.getStepUnit(), StepUnit.DAYS)) {
+            case DAYS -> walkDays(walk, startEpochDay, request.getStepDays(), firstStep);
+            case MONTHS -> walkMonths(walk, startDate, request.getStepDays(), firstStep);
+            case YEARS -> walkYears(walk, startDate, request.getStepDays(), firstStep);
+        };
 
-        LocalDate currentDate = request.getStartDate();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+        if (Boolean.TRUE.equals(request.getIncludeHolidays())) {
+            attachHolidays(walk.results);
+        }
+
+        long processingTime = System.currentTimeMillis() - startTime;
+        BulkConversionResponse.BulkSummary summary = createSummary(walk.results, processingTime, "Range conversion");
+        String message = generateRangeSummaryMessage(summary, request);
+        String nextCursor = nextStep < 0 ? null : encodeRangeCursor(nextStep, fingerprint);
+
+        return new BulkConversionResponse(walk.results, summary, message, nextCursor);
+    }
+
+    // Returns the index of the next step, or -1 once the range is exhausted
+    private long walkDays(RangeWalk walk, long startEpochDay, int step, long firstStep) {
+        if (firstStep > (walk.endEpochDay - startEpochDay) / step) {
+            return -1;
+        }
+        long epochDay = startEpochDay + firstStep * step;
+        // One cursor walks the page instead of a parse/validate/convert cycle per day
+        ConversionCursor cursor = calendarEngines.cursorAt(epochDay);
+        for (long next = firstStep + 1; ; next++) {
+            if (walk.includeWeekends || !walk.weekend.isWeekend(cursor.epochDay())) {
+                walk.add(IsoDateCodec.format(cursor.packed(walk.sourceCalendar)), cursor.packed(walk.targetCalendar));
+            }
+            if (cursor.epochDay() + step > walk.endEpochDay) {
+                return -1;
+            }
+            if (walk.isFull(next - firstStep)) {
+                return next;
+            }
+            cursor.advance(step);
+        }
+    }
 
-        while (!currentDate.isAfter(request.getEndDate())) {
-            // Skip weekends if requested
-            if (request.getIncludeWeekends() || !isWeekend(currentDate)) {
-                BulkConversionRequest.SingleConversionRequest singleRequest =
-                        new BulkConversionRequest.SingleConversionRequest();
-                singleRequest.setDate(currentDate.format(formatter));
-                singleRequest.setSourceCalendar(request.getSourceCalendar());
-                singleRequest.setTargetCalendar(request.getTargetCalendar());
+    private long walkMonths(RangeWalk walk, CalendarDate startDate, int step, long firstStep) {
+        if (firstStep > MAX_RANGE_MONTHS) {
+            return -1;
+        }
+        CalendarEngine engine = calendarEngines.get(walk.sourceCalendar);
+        int year = startDate.year();
+        int month = startDate.month();
+        long skip = firstStep * step;
+        for (long next = firstStep; ; next++) {
+            // Walk whole years at a time until the remaining months fit in the current one
+            while (skip > 0 && year <= MAX_RANGE_YEAR) {
+                int remaining = engine.monthsInYear(year) - month;
+                if (skip <= remaining) {
+                    month += (int) skip;
+                    skip = 0;
+                } else {
+                    skip -= remaining + 1;
+                    year++;
+                    month = 1;
+                }
+            }
+            if (!visitMonth(walk, engine, year, month, startDate.day())) {
+                return -1;
+            }
+            if (walk.isFull(next + 1 - firstStep)) {
+                return next + 1;
+            }
+            skip = step;
+        }
+    }
 
-                results.add(convertSingleDate(singleRequest));
+    private long walkYears(RangeWalk walk, CalendarDate startDate, int step, long firstStep) {
+        CalendarEngine engine = calendarEngines.get(walk.sourceCalendar);
+        for (long next = firstStep; next <= MAX_RANGE_YEAR; next++) {
+            long year = startDate.year() + next * step;
+            // Month 13 exists in every Ethiopian year, so only the day needs clamping
+            if (!visitMonth(walk, engine, year, startDate.month(), startDate.day())) {
+                return -1;
+            }
+            if (walk.isFull(next + 1 - firstStep)) {
+                return next + 1;
             }
+        }
+        return -1;
+    }
 
-            currentDate = currentDate.plusDays(request.getStepDays());
+    // The start date's day of month, clamped to the month's length; false once past the end
+    private boolean visitMonth(RangeWalk walk, CalendarEngine engine, long year, int month, int dayOfMonth) {
+        if (year > MAX_RANGE_YEAR) {
+            return false;
+        }
+        int day;
+        long epochDay;
+        try {
+            day = Math.min(dayOfMonth, engine.monthLength((int) year, month));
+            epochDay = engine.toEpochDay((int) year, month, day);
+        } catch (DateTimeException e) {
+            // Beyond the source calendar's table, which can only be past the validated end date
+            return false;
         }
+        if (epochDay > walk.endEpochDay) {
+            return false;
+        }
+        if (walk.includeWeekends || !walk.weekend.isWeekend(epochDay)) {
+            int targetPacked;
+            try {
+                targetPacked = walk.targetEngine.fromEpochDay(epochDay);
+            } catch (DateTimeException e) {
+                targetPacked = ConversionCursor.UNSUPPORTED;
+            }
+            walk.add(IsoDateCodec.format(PackedDate.pack((int) year, month, day)), targetPacked);
+        }
+        return true;
+    }
 
-        long processingTime = System.currentTimeMillis() - startTime;
-        BulkConversionResponse.BulkSummary summary = createSummary(results, processingTime);
-        String message = generateRangeSummaryMessage(summary, request);
+    private long toEpochDay(CalendarDate date) {
+        return calendarEngines.get(date.calendarType()).toEpochDay(date.year(), date.month(), date.day());
+    }
 
-        return new BulkConversionResponse(results, summary, message);
+    // Everything that shapes the walk; a cursor is only valid for the request that produced it
+    private static long rangeFingerprint(DateRangeRequest request, long startEpochDay, long endEpochDay,
+                                         CalendarType sourceCalendar, CalendarType targetCalendar) {
+        return Objects.hash(startEpochDay, endEpochDay, sourceCalendar, targetCalendar,
+                request.getStepDays(), Objects.requireNonNullElse(request.getStepUnit(), StepUnit.DAYS),
+                request.getIncludeWeekends(), request.getWeekendDays());
     }
 
-    private boolean isWeekend(LocalDate date) {
-        return date.getDayOfWeek().getValue() >= 6; // Saturday or Sunday
+    private static String encodeRangeCursor(long nextStep, long fingerprint) {
+        String cursor = nextStep + ":" + Long.toHexString(fingerprint);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static long decodeRangeCursor(String cursor, long fingerprint) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            int colon = decoded.indexOf(':');
+            if (colon > 0 && Long.parseUnsignedLong(decoded.substring(colon + 1), 16) == fingerprint) {
+                long nextStep = Long.parseLong(decoded.substring(0, colon));
+                if (nextStep >= 0) {
+                    return nextStep;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // Not one of ours; reported below
+        }
+        throw new ValidationException("Invalid range cursor, or the request changed since the cursor was issued");
+    }
+
+    /**
+     * One page of range results. The page closes when it holds pageSize rows, or when
+     * it has scanned MAX_RANGE_PAGE_STEPS steps without filling up (a weekday-only walk
+     * with a seven-day step from a Saturday matches nothing).
+     */
+    private static final class RangeWalk {
+        private final DateRangeRequest request;
+        private final CalendarType sourceCalendar;
+        private final CalendarType targetCalendar;
+        private final CalendarEngine targetEngine;
+        private final long endEpochDay;
+        private final boolean includeWeekends;
+        private final WeekendMask weekend;
+        private final int pageSize;
+        private final List<BulkConversionResponse.SingleConversionResult> results;
+
+        RangeWalk(DateRangeRequest request, CalendarType sourceCalendar, CalendarType targetCalendar,
+                  CalendarEngine targetEngine, long endEpochDay, int pageSize) {
+            this.request = request;
+            this.sourceCalendar = sourceCalendar;
+            this.targetCalendar = targetCalendar;
+            this.targetEngine = targetEngine;
+            this.endEpochDay = endEpochDay;
+            this.includeWeekends = !Boolean.FALSE.equals(request.getIncludeWeekends());
+            this.weekend = request.getWeekendDays() == null
+                    ? WeekendMask.SATURDAY_SUNDAY : WeekendMask.of(request.getWeekendDays());
+            this.pageSize = pageSize;
+            this.results = new ArrayList<>(Math.min(pageSize, DEFAULT_RANGE_PAGE_SIZE));
+        }
+
+        boolean isFull(long stepsScanned) {
+            return results.size() >= pageSize || stepsScanned >= MAX_RANGE_PAGE_STEPS;
+        }
+
+        void add(String sourceDate, int targetPacked) {
+            if (targetPacked == ConversionCursor.UNSUPPORTED) {
+                results.add(BulkConversionResponse.SingleConversionResult.failed(
+                        sourceDate,
+                        request.getSourceCalendar(),
+                        request.getTargetCalendar(),
+                        ConversionErrorCategory.OUT_OF_RANGE,
+                        "Date is outside the supported " + targetCalendar.getFullName() + " range"
+                ));
+                return;
+            }
+            results.add(new BulkConversionResponse.SingleConversionResult(
+                    sourceDate,
+                    request.getSourceCalendar(),
+                    IsoDateCodec.format(targetPacked),
+                    request.getTargetCalendar(),
+                    targetEngine.format(targetPacked),
+                    true,
+                    null
+            ));
+        }
     }
 
     private String generateRangeSummaryMessage(BulkConversionResponse.BulkSummary summary, DateRangeRequest request) {
@@ -227,4 +468,44 @@ public class BulkConversionService {
                 summary.getFailedConversions(),
                 summary.getProcessingTimeMs());
     }
-}
\ No newline at end of file
+
+    private record ConversionKey(String date, String sourceCalendar, String targetCalendar) {
+    }
+
+    /**
+     * A batch reduced to its distinct (date, source, target) tuples. Results are
+     * computed once per tuple and then copied back to every row that asked for it.
+     */
+    private record DeduplicatedBatch(List<BulkConversionRequest.SingleConversionRequest> unique, int[] slots) {
+
+        static DeduplicatedBatch of(List<BulkConversionRequest.SingleConversionRequest> requests) {
+            Map<ConversionKey, Integer> seen = new HashMap<>();
+            List<BulkConversionRequest.SingleConversionRequest> unique = new ArrayList<>();
+            int[] slots = new int[requests.size()];
+            for (int row = 0; row < slots.length; row++) {
+                BulkConversionRequest.SingleConversionRequest request = requests.get(row);
+                ConversionKey key = new ConversionKey(request.getDate(), request.getSourceCalendar(), request.getTargetCalendar());
+                Integer slot = seen.putIfAbsent(key, unique.size());
+                if (slot == null) {
+                    slot = unique.size();
+                    unique.add(request);
+                }
+                slots[row] = slot;
+            }
+            return new DeduplicatedBatch(unique, slots);
+        }
+
+        // Duplicate rows share one result instance; the tuple is all a result echoes back
+        List<BulkConversionResponse.SingleConversionResult> fanOut(
+                List<BulkConversionResponse.SingleConversionResult> uniqueResults) {
+            if (uniqueResults.size() == slots.length) {
+                return uniqueResults;
+            }
+            List<BulkConversionResponse.SingleConversionResult> results = new ArrayList<>(slots.length);
+            for (int slot : slots) {
+                results.add(uniqueResults.get(slot));
+            }
+            return results;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.sadbob.CalendarConverter.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sadbob.CalendarConverter.dto.requestDTO.conversion.BulkConversionRequest;
+import com.sadbob.CalendarConverter.dto.requestDTO.conversion.DateRangeRequest;
+import com.sadbob.CalendarConverter.dto.responseDTO.conversion.BulkConversionResponse;
+import com.sadbob.CalendarConverter.exception.ValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Server-Sent Events form of the bulk and range conversions. Results go out in
+ * {@code results} events as each batch finishes, with a {@code progress} event at
+ * most once a second and a closing {@code summary} event.
+ *
+ * Every event is written and flushed on the converting thread before the next batch
+ * is started, so a slow client throttles the conversion through the socket instead
+ * of piling up results in memory, and a write to a closed connection ends the work.
+ */
+@Service
+public class BulkEventStreamService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkEventStreamService.class);
+
+    public static final int MAX_CONVERSIONS = 1_000_000;
+    public static final int MAX_BATCH_SIZE = 10_000;
+    private static final long PROGRESS_INTERVAL_MS = 1000;
+
+    private final BulkConversionService bulkConversionService;
+    private final BulkConversionEngine bulkConversionEngine;
+    private final ObjectMapper eventMapper = new ObjectMapper();
+
+    public BulkEventStreamService(BulkConversionService bulkConversionService,
+                                  BulkConversionEngine bulkConversionEngine) {
+        this.bulkConversionService = bulkConversionService;
+        this.bulkConversionEngine = bulkConversionEngine;
+    }
+
+    public StreamingResponseBody streamBulk(BulkConversionRequest request, int batchSize) {
+        checkBatchSize(batchSize);
+        List<BulkConversionRequest.SingleConversionRequest> conversions = request.getConversions();
+        if (conversions.size() > MAX_CONVERSIONS) {
+            throw new ValidationException("Too many conversions. Maximum " + MAX_CONVERSIONS + " conversions per request.");
+        }
+
+        return output -> {
+            EventWriter events = new EventWriter(output, conversions.size());
+            try {
+                for (int from = 0; from < conversions.size(); from += batchSize) {
+                    List<BulkConversionRequest.SingleConversionRequest> batch =
+                            conversions.subList(from, Math.min(conversions.size(), from + batchSize));
+                    List<BulkConversionResponse.SingleConversionResult> results = bulkConversionEngine.convert(batch).results();
+                    if (request.isIncludeHolidays()) {
+                        bulkConversionService.attachHolidays(results);
+                    }
+                    events.results(results);
+                    if (Thread.currentThread().isInterrupted()) {
+                        return;
+                    }
+                }
+                events.summary();
+            } catch (IOException e) {
+                log.debug("Bulk event stream closed by client after {} rows: {}", events.tally.total(), e.getMessage());
+            }
+        };
+    }
+
+    /**
+     * Pages through the range with its continuation cursor, one page per batch. The
+     * first page is converted before returning, so an invalid range is still reported
+     * with an error status rather than inside the stream.
+     */
+    public StreamingResponseBody streamRange(DateRangeRequest request, int batchSize) {
+        checkBatchSize(batchSize);
+        request.setPageSize(batchSize);
+        request.setCursor(null);
+        BulkConversionResponse firstPage = bulkConversionService.convertDateRange(request);
+
+        return output -> {
+            EventWriter events = new EventWriter(output, -1);
+            try {
+                BulkConversionResponse page = firstPage;
+                events.results(page.getResults());
+                while (page.getNextCursor() != null && !Thread.currentThread().isInterrupted()) {
+                    request.setCursor(page.getNextCursor());
+                    page = bulkConversionService.convertDateRange(request);
+                    events.results(page.getResults());
+                }
+                events.summary();
+            } catch (IOException e) {
+                log.debug("Range event stream closed by client after {} rows: {}", events.tally.total(), e.getMessage());
+            }
+        };
+    }
+
+    private static void checkBatchSize(int batchSize) {
+        if (batchSize < 1 || batchSize > MAX_BATCH_SIZE) {
+            throw new ValidationException("batchSize must be between 1 and " + MAX_BATCH_SIZE);
+        }
+    }
+
+    private final class EventWriter {
+        private final OutputStream output;
+        private final long total;
+        private final long startTime = System.currentTimeMillis();
+        private final ConversionTally tally = new ConversionTally();
+        private long lastProgress = startTime;
+
+        // total is -1 when it is not known up front
+        EventWriter(OutputStream output, long total) {
+            this.output = output;
+            this.total = total;
+        }
+
+        void results(List<BulkConversionResponse.SingleConversionResult> results) throws IOException {
+            tally.addAll(results);
+            long processed = tally.total();
+            // The id is the number of rows sent so far, so a client can tell where it dropped off
+            write("results", Long.toString(processed), results);
+
+            long now = System.currentTimeMillis();
+            if (now - lastProgress >= PROGRESS_INTERVAL_MS) {
+                lastProgress = now;
+                Map<String, Object> progress = new LinkedHashMap<>();
+                progress.put("processed", processed);
+                progress.put("failed", tally.failed());
+                if (total >= 0) {
+                    progress.put("total", total);
+                }
+                progress.put("ratePerSecond", processed * 1000 / Math.max(1, now - startTime));
+                write("progress", null, progress);
+            }
+        }
+
+        void summary() throws IOException {
+            BulkConversionResponse.BulkSummary summary = tally.toSummary(System.currentTimeMillis() - startTime);
+            tally.logFailures(log, "Event stream conversion");
+            write("summary", null, Map.of("summary", summary));
+        }
+
+        private void write(String event, String id, Object data) throws IOException {
+            StringBuilder frame = new StringBuilder(64).append("event: ").append(event).append('\n');
+            if (id != null) {
+                frame.append("id: ").append(id).append('\n');
+            }
+            // Jackson output has no line breaks, so the payload fits on a single data line
+            frame.append("data: ").append(eventMapper.writeValueAsString(data)).append("\n\n");
+            output.write(frame.toString().getBytes(StandardCharsets.UTF_8));
+            output.flush();
+        }
+    }
+}
@@ -0,0 +1,481 @@
+package com.sadbob.CalendarConverter.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sadbob.CalendarConverter.dto.requestDTO.conversion.BulkConversionRequest;
+import com.sadbob.CalendarConverter.dto.responseDTO.conversion.BulkConversionResponse;
+import com.sadbob.CalendarConverter.dto.responseDTO.conversion.BulkJobStatus;
+import com.sadbob.CalendarConverter.enums.JobStatus;
+import com.sadbob.CalendarConverter.exception.CalendarServiceException;
+import com.sadbob.CalendarConverter.exception.JobLimitException;
+import com.sadbob.CalendarConverter.exception.JobNotFoundException;
+import com.sadbob.CalendarConverter.exception.JobStateException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Bulk conversions that outlive the HTTP request. A submitted batch is written to
+ * {@code <id>.input.ndjson}, queued on a small bounded executor, and converted chunk
+ * by chunk through {@link BulkConversionEngine} into {@code <id>.ndjson}, which is
+ * what the client downloads once the job has completed.
+ *
+ * Every state change is appended to {@code jobs.journal} as one JSON line. On startup
+ * the journal is replayed and compacted; jobs that were queued or running are started
+ * again from their input file. Job files count against a disk quota, and finished
+ * jobs are removed after the retention period.
+ */
+@Service
+public class BulkJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkJobService.class);
+
+    public static final int MAX_JOB_ROWS = 1_000_000;
+
+    private static final String JOURNAL = "jobs.journal";
+    private static final String INPUT_SUFFIX = ".input.ndjson";
+    private static final String RESULT_SUFFIX = ".ndjson";
+    private static final String PARTIAL_SUFFIX = ".ndjson.part";
+
+    private final BulkConversionEngine bulkConversionEngine;
+    private final Path directory;
+    private final long maxDiskBytes;
+    private final int chunkRows;
+    private final Duration retention;
+    private final ThreadPoolExecutor executor;
+
+    private final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+    private final ObjectReader requestReader = mapper.readerFor(BulkConversionRequest.SingleConversionRequest.class);
+    private final ObjectWriter requestWriter = mapper.writerFor(BulkConversionRequest.SingleConversionRequest.class);
+    private final ObjectWriter resultWriter = mapper.writerFor(BulkConversionResponse.SingleConversionResult.class);
+    private final ObjectReader statusReader = mapper.readerFor(BulkJobStatus.class);
+    private final ObjectWriter statusWriter = mapper.writerFor(BulkJobStatus.class);
+
+    // Snapshots are replaced, never mutated, so readers need no locking
+    private final Map<String, BulkJobStatus> jobs = new ConcurrentHashMap<>();
+    private final AtomicLong diskUsed = new AtomicLong();
+    private BufferedWriter journal;
+
+    public BulkJobService(BulkConversionEngine bulkConversionEngine,
+                          @Value("${calendar.bulk.jobs.directory:}") String directory,
+                          @Value("${calendar.bulk.jobs.max-concurrent:2}") int maxConcurrent,
+                          @Value("${calendar.bulk.jobs.max-queued:16}") int maxQueued,
+                          @Value("${calendar.bulk.jobs.max-disk-bytes:1073741824}") long maxDiskBytes,
+                          @Value("${calendar.bulk.jobs.chunk-rows:10000}") int chunkRows,
+                          @Value("${calendar.bulk.jobs.retention:24h}") Duration retention) {
+        this.bulkConversionEngine = bulkConversionEngine;
+        this.directory = directory.isBlank()
+                ? Path.of(System.getProperty("java.io.tmpdir"), "calendar-bulk-jobs")
+                : Path.of(directory);
+        this.maxDiskBytes = maxDiskBytes;
+        this.chunkRows = chunkRows;
+        this.retention = retention;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxQueued), runnable -> {
+                    Thread thread = new Thread(runnable, "bulk-job-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            Files.createDirectories(directory);
+            replayJournal();
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.toList()) {
+                    String name = file.getFileName().toString();
+                    if (name.startsWith(JOURNAL)) {
+                        continue;
+                    }
+                    // Files of jobs the journal no longer knows about only take up quota
+                    int dot = name.indexOf('.');
+                    if (jobs.containsKey(dot < 0 ? name : name.substring(0, dot))) {
+                        diskUsed.addAndGet(sizeOf(file));
+                    } else {
+                        Files.deleteIfExists(file);
+                    }
+                }
+            }
+            compactJournal();
+            journal = Files.newBufferedWriter(directory.resolve(JOURNAL), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new CalendarServiceException("Cannot open bulk job directory " + directory + ": " + e.getMessage(), e);
+        }
+
+        for (BulkJobStatus status : List.copyOf(jobs.values())) {
+            if (!status.getStatus().isFinished()) {
+                resume(status.getJobId());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        // Interrupted jobs stay RUNNING in the journal and are started again on the next boot
+        executor.shutdownNow();
+        synchronized (this) {
+            try {
+                if (journal != null) {
+                    journal.close();
+                }
+            } catch (IOException e) {
+                log.warn("Failed to close bulk job journal: {}", e.getMessage());
+            }
+        }
+    }
+
+    public BulkJobStatus submit(BulkConversionRequest request) {
+        purgeExpired();
+        List<BulkConversionRequest.SingleConversionRequest> conversions = request.getConversions();
+        if (conversions.size() > MAX_JOB_ROWS) {
+            throw new JobLimitException("Too many conversions. Maximum " + MAX_JOB_ROWS + " conversions per job.");
+        }
+
+        String jobId = UUID.randomUUID().toString();
+        Path input = directory.resolve(jobId + INPUT_SUFFIX);
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(conversions.size() * 80);
+            for (BulkConversionRequest.SingleConversionRequest conversion : conversions) {
+                buffer.write(requestWriter.writeValueAsBytes(conversion));
+                buffer.write('\n');
+            }
+            if (!reserve(buffer.size())) {
+                throw new JobLimitException("Bulk job storage is full. Delete finished jobs or try again later.");
+            }
+            try (OutputStream out = Files.newOutputStream(input)) {
+                buffer.writeTo(out);
+            }
+        } catch (IOException e) {
+            delete(input);
+            throw new CalendarServiceException("Failed to store bulk job input: " + e.getMessage(), e);
+        }
+
+        BulkJobStatus status = new BulkJobStatus(jobId, JobStatus.QUEUED, conversions.size(),
+                0, 0, 0, Instant.now(), null, null, null);
+        jobs.put(jobId, status);
+        journal(status);
+
+        try {
+            executor.execute(() -> run(jobId));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(jobId);
+            delete(input);
+            journal(copy(status, s -> s.setStatus(JobStatus.DELETED)));
+            throw new JobLimitException("Too many bulk jobs in progress. Try again later.");
+        }
+        return status;
+    }
+
+    public BulkJobStatus getStatus(String jobId) {
+        BulkJobStatus status = jobs.get(jobId);
+        if (status == null) {
+            throw new JobNotFoundException("Bulk job not found: " + jobId);
+        }
+        return status;
+    }
+
+    /**
+     * Opens the NDJSON result of a completed job. The caller closes the stream; the
+     * file stays readable on Unix even if the job is deleted meanwhile.
+     */
+    public InputStream openResult(String jobId) {
+        BulkJobStatus status = getStatus(jobId);
+        if (status.getStatus() != JobStatus.COMPLETED) {
+            throw new JobStateException("Bulk job " + jobId + " is " + status.getStatus() + ", not COMPLETED");
+        }
+        try {
+            return Files.newInputStream(directory.resolve(jobId + RESULT_SUFFIX));
+        } catch (IOException e) {
+            throw new CalendarServiceException("Result of bulk job " + jobId + " is not readable: " + e.getMessage(), e);
+        }
+    }
+
+    public void deleteJob(String jobId) {
+        getStatus(jobId);
+        jobs.computeIfPresent(jobId, (id, status) -> {
+            if (status.getStatus() == JobStatus.RUNNING) {
+                throw new JobStateException("Bulk job " + jobId + " is still running");
+            }
+            return null;
+        });
+        deleteFiles(jobId);
+        journal(new BulkJobStatus(jobId, JobStatus.DELETED, 0, 0, 0, 0, null, Instant.now(), null, null));
+    }
+
+    private void run(String jobId) {
+        BulkJobStatus running = update(jobId, s -> s.setStatus(JobStatus.RUNNING));
+        if (running == null) {
+            // Deleted while queued
+            return;
+        }
+        journal(running);
+
+        Path input = directory.resolve(jobId + INPUT_SUFFIX);
+        Path partial = directory.resolve(jobId + PARTIAL_SUFFIX);
+        Path result = directory.resolve(jobId + RESULT_SUFFIX);
+        delete(partial);
+
+        long startTime = System.currentTimeMillis();
+        ConversionTally tally = new ConversionTally();
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8);
+             OutputStream out = Files.newOutputStream(partial)) {
+            List<BulkConversionRequest.SingleConversionRequest> chunk = new ArrayList<>(chunkRows);
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            String line;
+            do {
+                line = reader.readLine();
+                if (line != null) {
+                    chunk.add(requestReader.readValue(line));
+                    if (chunk.size() < chunkRows) {
+                        continue;
+                    }
+                }
+                if (chunk.isEmpty()) {
+                    continue;
+                }
+
+                buffer.reset();
+                for (BulkConversionResponse.SingleConversionResult converted : bulkConversionEngine.convert(chunk).results()) {
+                    tally.add(converted);
+                    buffer.write(resultWriter.writeValueAsBytes(converted));
+                    buffer.write('\n');
+                }
+                spill(buffer, out);
+
+                int processed = chunk.size();
+                int successfulSoFar = tally.successful();
+                int failedSoFar = tally.failed();
+                update(jobId, s -> {
+                    s.setProcessedRequests(s.getProcessedRequests() + processed);
+                    s.setSuccessfulConversions(successfulSoFar);
+                    s.setFailedConversions(failedSoFar);
+                });
+                chunk.clear();
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+            } while (line != null);
+
+            BulkConversionResponse.BulkSummary summary = tally.toSummary(System.currentTimeMillis() - startTime);
+            tally.logFailures(log, "Bulk job " + jobId);
+            Map<String, Object> trailer = new LinkedHashMap<>();
+            trailer.put("summary", summary);
+            buffer.reset();
+            buffer.write(mapper.writeValueAsBytes(trailer));
+            buffer.write('\n');
+            spill(buffer, out);
+        } catch (Exception e) {
+            delete(partial);
+            log.warn("Bulk job {} failed: {}", jobId, e.getMessage());
+            finish(jobId, s -> {
+                s.setStatus(JobStatus.FAILED);
+                s.setError(e.getMessage());
+            });
+            return;
+        }
+
+        try {
+            Files.move(partial, result, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            delete(partial);
+            finish(jobId, s -> {
+                s.setStatus(JobStatus.FAILED);
+                s.setError("Failed to store result: " + e.getMessage());
+            });
+            return;
+        }
+        delete(input);
+        long resultBytes = sizeOf(result);
+        finish(jobId, s -> {
+            s.setStatus(JobStatus.COMPLETED);
+            s.setResultBytes(resultBytes);
+        });
+    }
+
+    private void spill(ByteArrayOutputStream buffer, OutputStream out) throws IOException {
+        if (!reserve(buffer.size())) {
+            throw new JobLimitException("Bulk job storage is full");
+        }
+        buffer.writeTo(out);
+    }
+
+    private void finish(String jobId, Consumer<BulkJobStatus> change) {
+        BulkJobStatus finished = update(jobId, s -> {
+            change.accept(s);
+            s.setFinishedAt(Instant.now());
+        });
+        if (finished != null) {
+            journal(finished);
+        }
+    }
+
+    private void resume(String jobId) {
+        if (!Files.exists(directory.resolve(jobId + INPUT_SUFFIX))) {
+            finish(jobId, s -> {
+                s.setStatus(JobStatus.FAILED);
+                s.setError("Input was lost before the job could run");
+            });
+            return;
+        }
+        BulkJobStatus queued = update(jobId, s -> {
+            s.setStatus(JobStatus.QUEUED);
+            s.setProcessedRequests(0);
+            s.setSuccessfulConversions(0);
+            s.setFailedConversions(0);
+        });
+        journal(queued);
+        try {
+            executor.execute(() -> run(jobId));
+        } catch (RejectedExecutionException e) {
+            finish(jobId, s -> {
+                s.setStatus(JobStatus.FAILED);
+                s.setError("Too many unfinished jobs to resume after restart");
+            });
+        }
+        log.info("Resumed bulk job {}", jobId);
+    }
+
+    private void purgeExpired() {
+        Instant cutoff = Instant.now().minus(retention);
+        for (BulkJobStatus status : jobs.values()) {
+            if (status.getStatus().isFinished() && status.getFinishedAt().isBefore(cutoff)) {
+                deleteJob(status.getJobId());
+            }
+        }
+    }
+
+    private BulkJobStatus update(String jobId, Consumer<BulkJobStatus> change) {
+        return jobs.computeIfPresent(jobId, (id, status) -> copy(status, change));
+    }
+
+    private static BulkJobStatus copy(BulkJobStatus status, Consumer<BulkJobStatus> change) {
+        BulkJobStatus copy = new BulkJobStatus(status.getJobId(), status.getStatus(), status.getTotalRequests(),
+                status.getProcessedRequests(), status.getSuccessfulConversions(), status.getFailedConversions(),
+                status.getCreatedAt(), status.getFinishedAt(), status.getResultBytes(), status.getError());
+        change.accept(copy);
+        return copy;
+    }
+
+    // Progress is kept in memory only; the journal records transitions
+    private synchronized void journal(BulkJobStatus status) {
+        try {
+            journal.write(statusWriter.writeValueAsString(status));
+            journal.newLine();
+            journal.flush();
+        } catch (IOException e) {
+            log.warn("Failed to journal bulk job {}: {}", status.getJobId(), e.getMessage());
+        }
+    }
+
+    private void replayJournal() throws IOException {
+        Path file = directory.resolve(JOURNAL);
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                BulkJobStatus status;
+                try {
+                    status = statusReader.readValue(line);
+                } catch (IOException e) {
+                    // A torn last line from a crash mid-write
+                    log.warn("Skipping unreadable bulk job journal line: {}", e.getMessage());
+                    continue;
+                }
+                if (status.getStatus() == JobStatus.DELETED) {
+                    jobs.remove(status.getJobId());
+                } else {
+                    jobs.put(status.getJobId(), status);
+                }
+            }
+        }
+    }
+
+    private void compactJournal() throws IOException {
+        Path compacted = directory.resolve(JOURNAL + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(compacted, StandardCharsets.UTF_8)) {
+            for (BulkJobStatus status : jobs.values()) {
+                writer.write(statusWriter.writeValueAsString(status));
+                writer.newLine();
+            }
+        }
+        Files.move(compacted, directory.resolve(JOURNAL), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private boolean reserve(long bytes) {
+        long used;
+        do {
+            used = diskUsed.get();
+            if (used + bytes > maxDiskBytes) {
+                return false;
+            }
+        } while (!diskUsed.compareAndSet(used, used + bytes));
+        return true;
+    }
+
+    private void deleteFiles(String jobId) {
+        delete(directory.resolve(jobId + INPUT_SUFFIX));
+        delete(directory.resolve(jobId + PARTIAL_SUFFIX));
+        delete(directory.resolve(jobId + RESULT_SUFFIX));
+    }
+
+    private void delete(Path file) {
+        long size = sizeOf(file);
+        try {
+            if (Files.deleteIfExists(file)) {
+                diskUsed.addAndGet(-size);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to delete {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.sadbob.CalendarConverter.service;
+
+import com.sadbob.CalendarConverter.dto.requestDTO.businessday.BusinessDayRequest;
+import com.sadbob.CalendarConverter.dto.responseDTO.businessday.BulkBusinessDayResponse;
+import com.sadbob.CalendarConverter.dto.responseDTO.businessday.BusinessDayResponse;
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import com.sadbob.CalendarConverter.exception.AppException;
+import com.sadbob.CalendarConverter.exception.ValidationException;
+import com.sadbob.CalendarConverter.service.interf.CalendarEngine;
+import com.sadbob.CalendarConverter.service.interf.HolidayService;
+import com.sadbob.CalendarConverter.util.CalendarDate;
+import com.sadbob.CalendarConverter.util.HolidayBitmap;
+import com.sadbob.CalendarConverter.util.HolidayIndex;
+import com.sadbob.CalendarConverter.util.IsoDateCodec;
+import com.sadbob.CalendarConverter.util.PackedDate;
+import com.sadbob.CalendarConverter.util.VersionedCache;
+import com.sadbob.CalendarConverter.util.WeekendMask;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * Adds and counts business days: days that are neither a weekend day nor a holiday
+ * in any of the chosen calendars. Each Gregorian year is one bitmap of days off, the
+ * union of the cached holiday bitmaps and the weekend pattern, so a year is skipped
+ * or counted with a popcount per 64 days and only the last word is walked day by day.
+ * The unions are cached per holiday index version, year and rules.
+ */
+@Service
+public class BusinessDayService {
+
+    public static final int MAX_BUSINESS_DAYS = 100_000;
+    public static final int MAX_BULK_REQUESTS = 10_000;
+    // Far more than MAX_BUSINESS_DAYS needs with one working day a week
+    private static final int MAX_SEARCH_YEARS = 5000;
+
+    private record Rules(Set<CalendarType> holidayCalendars, String country, WeekendMask weekend) {
+    }
+
+    private record DaysOffKey(Rules rules, int year) {
+    }
+
+    private final HolidayService holidayService;
+    private final HolidayBitmapService holidayBitmapService;
+    private final CalendarEngineRegistry calendarEngines;
+    private final DateValidationService dateValidationService;
+    private final WeekendCalendar weekendCalendar;
+    private final VersionedCache<DaysOffKey, HolidayBitmap> daysOffCache;
+
+    public BusinessDayService(HolidayService holidayService,
+                              HolidayBitmapService holidayBitmapService,
+                              CalendarEngineRegistry calendarEngines,
+                              DateValidationService dateValidationService,
+                              WeekendCalendar weekendCalendar,
+                              @Value("${calendar.business-days.cache-size:2048}") int cacheSize) {
+        if (cacheSize < 1) {
+            throw new IllegalArgumentException("calendar.business-days.cache-size must be positive: " + cacheSize);
+        }
+        this.holidayService = holidayService;
+        this.holidayBitmapService = holidayBitmapService;
+        this.calendarEngines = calendarEngines;
+        this.dateValidationService = dateValidationService;
+        this.weekendCalendar = weekendCalendar;
+        this.daysOffCache = new VersionedCache<>(cacheSize);
+    }
+
+    public BusinessDayResponse add(BusinessDayRequest request) {
+        return add(request, holidayService.getHolidayIndex());
+    }
+
+    public BusinessDayResponse count(BusinessDayRequest request) {
+        return count(request, holidayService.getHolidayIndex());
+    }
+
+    public BulkBusinessDayResponse addAll(List<BusinessDayRequest> requests) {
+        return bulk(requests, this::add);
+    }
+
+    public BulkBusinessDayResponse countAll(List<BusinessDayRequest> requests) {
+        return bulk(requests, this::count);
+    }
+
+    private BusinessDayResponse add(BusinessDayRequest request, HolidayIndex index) {
+        if (request.getDays() == null || request.getDays() < 0 || request.getDays() > MAX_BUSINESS_DAYS) {
+            throw new ValidationException("days must be between 0 and " + MAX_BUSINESS_DAYS);
+        }
+        CalendarDate start = dateValidationService.parse(request.getStartDate(), request.getCalendarType());
+        Rules rules = rules(request);
+        CalendarEngine engine = calendarEngines.get(start.calendarType());
+
+        long startEpochDay = toEpochDay(engine, start);
+        long endEpochDay = addBusinessDays(index, rules, startEpochDay, request.getDays());
+        String endDate;
+        try {
+            endDate = IsoDateCodec.format(engine.fromEpochDay(endEpochDay));
+        } catch (DateTimeException e) {
+            throw new ValidationException("The resulting date is outside the supported "
+                    + start.calendarType().getFullName() + " range");
+        }
+        return response(request, start, endDate, request.getDays(), endEpochDay - startEpochDay + 1, rules);
+    }
+
+    private BusinessDayResponse count(BusinessDayRequest request, HolidayIndex index) {
+        if (request.getEndDate() == null) {
+            throw new ValidationException("End date is required");
+        }
+        CalendarDate start = dateValidationService.parse(request.getStartDate(), request.getCalendarType());
+        CalendarDate end = dateValidationService.parse(request.getEndDate(), request.getCalendarType());
+        Rules rules = rules(request);
+        CalendarEngine engine = calendarEngines.get(start.calendarType());
+
+        long startEpochDay = toEpochDay(engine, start);
+        long endEpochDay = toEpochDay(engine, end);
+        if (startEpochDay > endEpochDay) {
+            throw new ValidationException("Start date must not be after end date");
+        }
+        if (yearOf(endEpochDay) - yearOf(startEpochDay) >= HolidayBitmapService.MAX_COUNT_YEARS) {
+            throw new ValidationException("Range too large. Maximum " + HolidayBitmapService.MAX_COUNT_YEARS + " years.");
+        }
+        long businessDays = 0;
+        for (int year = yearOf(startEpochDay); year <= yearOf(endEpochDay); year++) {
+            businessDays += daysOff(index, rules, year).countClear(startEpochDay, endEpochDay);
+        }
+        return response(request, start, end.toString(), businessDays, endEpochDay - startEpochDay + 1, rules);
+    }
+
+    // The start day itself is never counted, so adding 0 days returns it unchanged
+    private long addBusinessDays(HolidayIndex index, Rules rules, long startEpochDay, int days) {
+        if (days == 0) {
+            return startEpochDay;
+        }
+        long cursor = startEpochDay + 1;
+        int remaining = days;
+        int firstYear = yearOf(cursor);
+        for (int year = firstYear; year - firstYear < MAX_SEARCH_YEARS; year++) {
+            HolidayBitmap daysOff = daysOff(index, rules, year);
+            int free = daysOff.countClear(cursor, daysOff.lastEpochDay());
+            if (free >= remaining) {
+                return daysOff.nthClear(cursor, remaining);
+            }
+            remaining -= free;
+            cursor = daysOff.lastEpochDay() + 1;
+        }
+        throw new ValidationException("Not enough business days within " + MAX_SEARCH_YEARS + " years");
+    }
+
+    private HolidayBitmap daysOff(HolidayIndex index, Rules rules, int year) {
+        return daysOffCache.get(index.version(), new DaysOffKey(rules, year), () -> buildDaysOff(index, rules, year));
+    }
+
+    private HolidayBitmap buildDaysOff(HolidayIndex index, Rules rules, int year) {
+        CalendarEngine gregorian = calendarEngines.get(CalendarType.GREGORIAN);
+        long first = gregorian.toEpochDay(year, 1, 1);
+        int days = (int) (gregorian.toEpochDay(year + 1, 1, 1) - first);
+        List<HolidayBitmap> bitmaps = new ArrayList<>(rules.holidayCalendars().size() + 1);
+        bitmaps.add(rules.weekend().bitmap(first, days));
+        for (CalendarType calendar : rules.holidayCalendars()) {
+            bitmaps.add(holidayBitmapService.gregorianYear(index, calendar, rules.country(), year));
+        }
+        return HolidayBitmap.union(bitmaps);
+    }
+
+    private Rules rules(BusinessDayRequest request) {
+        WeekendMask weekend = request.getWeekendDays() != null
+                ? WeekendMask.of(request.getWeekendDays())
+                : weekendCalendar.forCountry(request.getCountry());
+        if (weekend.isEveryDay()) {
+            throw new ValidationException("At least one day of the week must be a working day");
+        }
+        Set<CalendarType> calendars = EnumSet.allOf(CalendarType.class);
+        if (request.getHolidayCalendars() != null) {
+            calendars.clear();
+            request.getHolidayCalendars().forEach(code -> calendars.add(CalendarType.fromCode(code)));
+        }
+        String country = request.getCountry() == null || request.getCountry().isBlank()
+                ? null : request.getCountry().trim().toUpperCase();
+        return new Rules(calendars, country, weekend);
+    }
+
+    private BulkBusinessDayResponse bulk(List<BusinessDayRequest> requests,
+                                         BiFunction<BusinessDayRequest, HolidayIndex, BusinessDayResponse> operation) {
+        if (requests.size() > MAX_BULK_REQUESTS) {
+            throw new ValidationException("Too many requests. Maximum " + MAX_BULK_REQUESTS + " per batch.");
+        }
+        long startTime = System.currentTimeMillis();
+        // One snapshot for the whole batch, so every row sees the same holidays
+        HolidayIndex index = holidayService.getHolidayIndex();
+        List<BusinessDayResponse> results = new ArrayList<>(requests.size());
+        int failed = 0;
+        for (BusinessDayRequest request : requests) {
+            try {
+                results.add(operation.apply(request, index));
+            } catch (AppException | IllegalArgumentException e) {
+                results.add(BusinessDayResponse.failed(request.getCalendarType(), request.getStartDate(), e.getMessage()));
+                failed++;
+            }
+        }
+        return new BulkBusinessDayResponse(results, results.size() - failed, failed,
+                System.currentTimeMillis() - startTime);
+    }
+
+    private static long toEpochDay(CalendarEngine engine, CalendarDate date) {
+        try {
+            return engine.toEpochDay(date.year(), date.month(), date.day());
+        } catch (DateTimeException e) {
+            throw new ValidationException("Date out of range: " + date);
+        }
+    }
+
+    private int yearOf(long epochDay) {
+        return PackedDate.year(calendarEngines.get(CalendarType.GREGORIAN).fromEpochDay(epochDay));
+    }
+
+    private static BusinessDayResponse response(BusinessDayRequest request, CalendarDate start, String endDate,
+                                                long businessDays, long calendarDays, Rules rules) {
+        return new BusinessDayResponse(request.getCalendarType(), start.toString(), endDate, businessDays, calendarDays,
+                rules.weekend().days(), rules.holidayCalendars(), rules.country(), true, null);
+    }
+}
@@ -0,0 +1,48 @@
+package com.sadbob.CalendarConverter.service;
+
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import com.sadbob.CalendarConverter.exception.CalendarNotFoundException;
+import com.sadbob.CalendarConverter.service.interf.CalendarEngine;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@Component
+public class CalendarEngineRegistry {
+
+    private final Map<CalendarType, CalendarEngine> engines = new EnumMap<>(CalendarType.class);
+
+    public CalendarEngineRegistry(List<CalendarEngine> engines) {
+        for (CalendarEngine engine : engines) {
+            if (this.engines.put(engine.getCalendarType(), engine) != null) {
+                throw new IllegalStateException("Duplicate calendar engine for " + engine.getCalendarType());
+            }
+        }
+    }
+
+    public CalendarEngine get(CalendarType calendarType) {
+        CalendarEngine engine = engines.get(calendarType);
+        if (engine == null) {
+            throw new CalendarNotFoundException("No calendar engine registered for " + calendarType);
+        }
+        return engine;
+    }
+
+    // In CalendarType declaration order
+    public Collection<CalendarEngine> all() {
+        return Collections.unmodifiableCollection(engines.values());
+    }
+
+    public ConversionCursor cursorAt(long epochDay) {
+        return new ConversionCursor(engines.values(), epochDay);
+    }
+
+    public Stream<ConversionCursor> range(long startEpochDay, long endEpochDay, int step) {
+        return ConversionCursor.stream(engines.values(), startEpochDay, endEpochDay, step);
+    }
+}
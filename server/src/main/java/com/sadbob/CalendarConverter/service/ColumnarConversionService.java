@@ -0,0 +1,102 @@
+package com.sadbob.CalendarConverter.service;
+
+import com.sadbob.CalendarConverter.dto.requestDTO.conversion.ColumnarConversionRequest;
+import com.sadbob.CalendarConverter.dto.responseDTO.conversion.BulkConversionResponse;
+import com.sadbob.CalendarConverter.dto.responseDTO.conversion.ColumnarConversionResponse;
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import com.sadbob.CalendarConverter.enums.DateEncoding;
+import com.sadbob.CalendarConverter.service.interf.CalendarEngine;
+import com.sadbob.CalendarConverter.util.BatchDateConverter;
+import com.sadbob.CalendarConverter.util.CalendarDate;
+import org.springframework.stereotype.Service;
+
+import java.time.DateTimeException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Bulk conversion over int columns. Every row shares one calendar pair, so there is
+ * nothing to parse per row: dates go to epoch days, the whole column is converted
+ * through {@link BatchDateConverter}, and only failed rows get an entry in the
+ * sparse error map.
+ */
+@Service
+public class ColumnarConversionService {
+
+    private final CalendarEngineRegistry calendarEngines;
+    private final DateValidationService dateValidationService;
+    private final BatchDateConverter batchDateConverter;
+
+    public ColumnarConversionService(CalendarEngineRegistry calendarEngines,
+                                     DateValidationService dateValidationService,
+                                     BatchDateConverter batchDateConverter) {
+        this.calendarEngines = calendarEngines;
+        this.dateValidationService = dateValidationService;
+        this.batchDateConverter = batchDateConverter;
+    }
+
+    public ColumnarConversionResponse convert(ColumnarConversionRequest request) {
+        long startTime = System.currentTimeMillis();
+
+        CalendarType sourceCalendar = CalendarType.fromCode(request.getSourceCalendar());
+        CalendarType targetCalendar = CalendarType.fromCode(request.getTargetCalendar());
+        CalendarEngine sourceEngine = calendarEngines.get(sourceCalendar);
+        int[] dates = request.getDates();
+        int count = dates.length;
+
+        long[] epochDays = new long[count];
+        Map<Integer, String> errors = new TreeMap<>();
+        if (request.getEncoding() == DateEncoding.EPOCH_DAY) {
+            for (int i = 0; i < count; i++) {
+                epochDays[i] = dates[i];
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                CalendarDate date = new CalendarDate(sourceCalendar, dates[i]);
+                if (!dateValidationService.isValidDate(date)) {
+                    errors.put(i, "Invalid " + sourceCalendar.getFullName() + " date " + dates[i]);
+                    continue;
+                }
+                try {
+                    epochDays[i] = sourceEngine.toEpochDay(date.year(), date.month(), date.day());
+                } catch (DateTimeException e) {
+                    errors.put(i, e.getMessage());
+                }
+            }
+        }
+
+        int[] targetDates = new int[count];
+        try {
+            batchDateConverter.convertBatch(epochDays, targetDates, targetCalendar);
+        } catch (DateTimeException e) {
+            // Some day is outside the target's table; redo row by row to find which
+            CalendarEngine targetEngine = calendarEngines.get(targetCalendar);
+            for (int i = 0; i < count; i++) {
+                if (errors.containsKey(i)) {
+                    continue;
+                }
+                try {
+                    targetDates[i] = targetEngine.fromEpochDay(epochDays[i]);
+                } catch (DateTimeException rowError) {
+                    errors.put(i, rowError.getMessage());
+                }
+            }
+        }
+
+        int[] epochDayColumn = new int[count];
+        for (int i = 0; i < count; i++) {
+            epochDayColumn[i] = (int) epochDays[i];
+        }
+        for (int failed : errors.keySet()) {
+            targetDates[failed] = 0;
+            epochDayColumn[failed] = 0;
+        }
+
+        long processingTime = System.currentTimeMillis() - startTime;
+        BulkConversionResponse.BulkSummary summary = new BulkConversionResponse.BulkSummary(
+                count, count - errors.size(), errors.size(), processingTime);
+
+        return new ColumnarConversionResponse(sourceCalendar.getFullName(), targetCalendar.getFullName(),
+                targetDates, epochDayColumn, errors, summary);
+    }
+}
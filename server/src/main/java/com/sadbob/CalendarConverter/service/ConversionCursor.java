@@ -0,0 +1,237 @@
+package com.sadbob.CalendarConverter.service;
+
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import com.sadbob.CalendarConverter.service.interf.CalendarEngine;
+import com.sadbob.CalendarConverter.util.CalendarDate;
+import com.sadbob.CalendarConverter.util.PackedDate;
+
+import java.time.DateTimeException;
+import java.util.Collection;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Walks a run of consecutive days in every registered calendar at once. The cursor
+ * is seeded with one full conversion per calendar and then advances like an
+ * odometer: bump the day, roll the month when it passes the month length, roll the
+ * year when it passes the months in the year. Month lengths are only looked up on a
+ * rollover, so stepping a day costs a handful of int compares per calendar.
+ *
+ * A calendar whose engine cannot represent the current day (the Hijri table has a
+ * finite range) reports {@link #UNSUPPORTED} until the cursor is back in range.
+ *
+ * The cursor is mutable. {@link #range} hands the same instance to every callback,
+ * so copy out what you need before returning.
+ */
+public final class ConversionCursor {
+
+    public static final int UNSUPPORTED = -1;
+
+    private static final CalendarType[] TYPES = CalendarType.values();
+
+    // Reseeding beats carrying once a step spans more than about a year
+    private static final int MAX_CARRY_STEP = 400;
+
+    private final CalendarEngine[] engines = new CalendarEngine[TYPES.length];
+    private final int[] years = new int[TYPES.length];
+    private final int[] months = new int[TYPES.length];
+    private final int[] days = new int[TYPES.length];
+    private final int[] monthLengths = new int[TYPES.length];
+    private final boolean[] supported = new boolean[TYPES.length];
+    private long epochDay;
+
+    public ConversionCursor(Collection<CalendarEngine> engines, long epochDay) {
+        for (CalendarEngine engine : engines) {
+            this.engines[engine.getCalendarType().ordinal()] = engine;
+        }
+        seek(epochDay);
+    }
+
+    private ConversionCursor(ConversionCursor other) {
+        System.arraycopy(other.engines, 0, engines, 0, engines.length);
+        System.arraycopy(other.years, 0, years, 0, years.length);
+        System.arraycopy(other.months, 0, months, 0, months.length);
+        System.arraycopy(other.days, 0, days, 0, days.length);
+        System.arraycopy(other.monthLengths, 0, monthLengths, 0, monthLengths.length);
+        System.arraycopy(other.supported, 0, supported, 0, supported.length);
+        epochDay = other.epochDay;
+    }
+
+    public void seek(long epochDay) {
+        this.epochDay = epochDay;
+        for (int i = 0; i < engines.length; i++) {
+            if (engines[i] != null) {
+                seed(i);
+            }
+        }
+    }
+
+    public void advance() {
+        advance(1);
+    }
+
+    public void advance(int days) {
+        if (days < 0) {
+            throw new IllegalArgumentException("Cursor only moves forward: " + days);
+        }
+        if (days > MAX_CARRY_STEP) {
+            seek(epochDay + days);
+            return;
+        }
+        epochDay += days;
+        for (int i = 0; i < engines.length; i++) {
+            if (engines[i] == null) {
+                continue;
+            }
+            if (!supported[i]) {
+                seed(i);
+                continue;
+            }
+            this.days[i] += days;
+            if (this.days[i] > monthLengths[i]) {
+                carry(i);
+            }
+        }
+    }
+
+    public long epochDay() {
+        return epochDay;
+    }
+
+    /**
+     * The current day in {@code calendarType} as a {@link PackedDate}, or
+     * {@link #UNSUPPORTED} when the engine has no date for it.
+     */
+    public int packed(CalendarType calendarType) {
+        int i = calendarType.ordinal();
+        if (engines[i] == null) {
+            throw new IllegalArgumentException("Cursor does not track " + calendarType);
+        }
+        return supported[i] ? PackedDate.pack(years[i], months[i], days[i]) : UNSUPPORTED;
+    }
+
+    public boolean isSupported(CalendarType calendarType) {
+        return supported[calendarType.ordinal()];
+    }
+
+    public CalendarDate date(CalendarType calendarType) {
+        int packed = packed(calendarType);
+        if (packed == UNSUPPORTED) {
+            throw new DateTimeException(epochDay + " is outside the supported " + calendarType.getFullName() + " range");
+        }
+        return new CalendarDate(calendarType, packed);
+    }
+
+    // ISO numbering, Monday = 1 … Sunday = 7 (1970-01-01 was a Thursday)
+    public int dayOfWeek() {
+        return (int) Math.floorMod(epochDay + 3, 7L) + 1;
+    }
+
+    public ConversionCursor copy() {
+        return new ConversionCursor(this);
+    }
+
+    /**
+     * Every {@code step}-th day from {@code startEpochDay} to {@code endEpochDay}
+     * inclusive. Splits hand each half its own cursor, so the stream can run in parallel.
+     */
+    public static Spliterator<ConversionCursor> range(Collection<CalendarEngine> engines,
+                                                      long startEpochDay, long endEpochDay, int step) {
+        if (step < 1) {
+            throw new IllegalArgumentException("Step must be at least one day: " + step);
+        }
+        return new RangeSpliterator(engines, startEpochDay, endEpochDay, step);
+    }
+
+    public static Stream<ConversionCursor> stream(Collection<CalendarEngine> engines,
+                                                  long startEpochDay, long endEpochDay, int step) {
+        return StreamSupport.stream(range(engines, startEpochDay, endEpochDay, step), false);
+    }
+
+    private void seed(int i) {
+        try {
+            int packed = engines[i].fromEpochDay(epochDay);
+            years[i] = PackedDate.year(packed);
+            months[i] = PackedDate.month(packed);
+            days[i] = PackedDate.day(packed);
+            monthLengths[i] = engines[i].monthLength(years[i], months[i]);
+            supported[i] = true;
+        } catch (DateTimeException e) {
+            supported[i] = false;
+        }
+    }
+
+    private void carry(int i) {
+        CalendarEngine engine = engines[i];
+        try {
+            while (days[i] > monthLengths[i]) {
+                days[i] -= monthLengths[i];
+                if (++months[i] > engine.monthsInYear(years[i])) {
+                    months[i] = 1;
+                    years[i]++;
+                }
+                monthLengths[i] = engine.monthLength(years[i], months[i]);
+            }
+        } catch (DateTimeException e) {
+            supported[i] = false;
+        }
+    }
+
+    private static final class RangeSpliterator implements Spliterator<ConversionCursor> {
+
+        private static final long MIN_SPLIT = 64;
+
+        private final Collection<CalendarEngine> engines;
+        private final int step;
+        private final long end;
+        private long next;
+        private ConversionCursor cursor;
+
+        RangeSpliterator(Collection<CalendarEngine> engines, long next, long end, int step) {
+            this.engines = engines;
+            this.next = next;
+            this.end = end;
+            this.step = step;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super ConversionCursor> action) {
+            if (next > end) {
+                return false;
+            }
+            if (cursor == null) {
+                cursor = new ConversionCursor(engines, next);
+            } else {
+                cursor.advance(step);
+            }
+            next += step;
+            action.accept(cursor);
+            return true;
+        }
+
+        @Override
+        public Spliterator<ConversionCursor> trySplit() {
+            long remaining = estimateSize();
+            if (remaining < MIN_SPLIT * 2) {
+                return null;
+            }
+            long mid = next + (remaining / 2) * step;
+            RangeSpliterator prefix = new RangeSpliterator(engines, next, mid - step, step);
+            next = mid;
+            cursor = null;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return next > end ? 0 : (end - next) / step + 1;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
+}
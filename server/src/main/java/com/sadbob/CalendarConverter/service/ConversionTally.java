@@ -0,0 +1,63 @@
+package com.sadbob.CalendarConverter.service;
+
+import com.sadbob.CalendarConverter.dto.responseDTO.conversion.BulkConversionResponse;
+import com.sadbob.CalendarConverter.enums.ConversionErrorCategory;
+import org.slf4j.Logger;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Running success and failure counts for a batch, with failures broken down by
+ * category so a batch logs one line about its bad rows instead of one per row.
+ */
+final class ConversionTally {
+
+    private final Map<ConversionErrorCategory, Integer> errorCategories = new EnumMap<>(ConversionErrorCategory.class);
+    private int successful;
+    private int failed;
+
+    void add(BulkConversionResponse.SingleConversionResult result) {
+        if (result.isSuccess()) {
+            successful++;
+            return;
+        }
+        failed++;
+        ConversionErrorCategory category = result.getErrorCategory() == null
+                ? ConversionErrorCategory.CONVERSION_FAILED : result.getErrorCategory();
+        errorCategories.merge(category, 1, Integer::sum);
+    }
+
+    void addAll(Iterable<BulkConversionResponse.SingleConversionResult> results) {
+        for (BulkConversionResponse.SingleConversionResult result : results) {
+            add(result);
+        }
+    }
+
+    int successful() {
+        return successful;
+    }
+
+    int failed() {
+        return failed;
+    }
+
+    int total() {
+        return successful + failed;
+    }
+
+    BulkConversionResponse.BulkSummary toSummary(long processingTimeMs) {
+        BulkConversionResponse.BulkSummary summary =
+                new BulkConversionResponse.BulkSummary(total(), successful, failed, processingTimeMs);
+        if (!errorCategories.isEmpty()) {
+            summary.setErrorCategories(new EnumMap<>(errorCategories));
+        }
+        return summary;
+    }
+
+    void logFailures(Logger log, String batch) {
+        if (failed > 0) {
+            log.warn("{}: {} of {} rows failed {}", batch, failed, total(), errorCategories);
+        }
+    }
+}
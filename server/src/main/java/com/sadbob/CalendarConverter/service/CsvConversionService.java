@@ -0,0 +1,226 @@
+package com.sadbob.CalendarConverter.service;
+
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import com.sadbob.CalendarConverter.exception.ValidationException;
+import com.sadbob.CalendarConverter.service.interf.CalendarEngine;
+import com.sadbob.CalendarConverter.util.CalendarDate;
+import com.sadbob.CalendarConverter.util.CsvRecordReader;
+import com.sadbob.CalendarConverter.util.IsoDateCodec;
+import com.sadbob.CalendarConverter.util.ValidationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts a date column of an uploaded CSV file and streams the file back with one
+ * column appended per target calendar, plus an error column. Rows are read, converted
+ * and written one at a time, so memory use does not depend on the file size.
+ */
+@Service
+public class CsvConversionService {
+
+    private static final Logger log = LoggerFactory.getLogger(CsvConversionService.class);
+
+    // One record may not exceed this, so an unterminated quote cannot swallow the heap
+    private static final int MAX_RECORD_CHARS = 1 << 20;
+    private static final int WRITE_BUFFER_CHARS = 1 << 16;
+    private static final String LINE_BREAK = "\r\n";
+
+    private final DateValidationService dateValidationService;
+    private final CalendarEngineRegistry calendarEngines;
+
+    public CsvConversionService(DateValidationService dateValidationService, CalendarEngineRegistry calendarEngines) {
+        this.dateValidationService = dateValidationService;
+        this.calendarEngines = calendarEngines;
+    }
+
+    public record Options(String dateColumn,
+                          String sourceCalendar,
+                          List<String> targetCalendars,
+                          boolean header,
+                          boolean includeFormatted,
+                          char delimiter) {
+    }
+
+    /**
+     * Reads the header and checks the options before any output is produced, so a bad
+     * request still gets a proper error status. The returned conversion owns the input.
+     */
+    public CsvConversion open(InputStream input, Options options) throws IOException {
+        try {
+            return new CsvConversion(input, options);
+        } catch (RuntimeException | IOException e) {
+            input.close();
+            throw e;
+        }
+    }
+
+    public final class CsvConversion {
+
+        private final InputStream input;
+        private final CsvRecordReader reader;
+        private final Options options;
+        private final String sourceCalendar;
+        private final CalendarEngine sourceEngine;
+        private final List<CalendarEngine> targetEngines = new ArrayList<>();
+        private final int dateColumn;
+        private final String header;
+
+        private CsvConversion(InputStream input, Options options) throws IOException {
+            this.input = input;
+            this.options = options;
+            this.reader = new CsvRecordReader(new InputStreamReader(input, StandardCharsets.UTF_8),
+                    options.delimiter(), MAX_RECORD_CHARS);
+            CalendarType source = CalendarType.fromCode(options.sourceCalendar());
+            this.sourceCalendar = source.getFullName();
+            this.sourceEngine = calendarEngines.get(source);
+            if (options.targetCalendars().isEmpty()) {
+                throw new ValidationException("At least one target calendar is required");
+            }
+            for (String target : options.targetCalendars()) {
+                targetEngines.add(calendarEngines.get(CalendarType.fromCode(target.trim())));
+            }
+
+            if (options.header()) {
+                if (!reader.next()) {
+                    throw new ValidationException("The CSV file is empty");
+                }
+                this.dateColumn = resolveColumn(reader.fields(), options.dateColumn());
+                this.header = appendedHeader(reader.raw());
+            } else {
+                this.dateColumn = parseColumnIndex(options.dateColumn());
+                this.header = null;
+            }
+        }
+
+        public void writeTo(OutputStream output) throws IOException {
+            long startTime = System.currentTimeMillis();
+            long successful = 0;
+            long failed = 0;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), WRITE_BUFFER_CHARS);
+            try (input) {
+                if (header != null) {
+                    writer.append(header).append(LINE_BREAK);
+                }
+                while (reader.next()) {
+                    List<String> fields = reader.fields();
+                    // Blank lines pass through untouched
+                    if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                        writer.append(LINE_BREAK);
+                        continue;
+                    }
+                    writer.append(reader.raw());
+                    if (appendConversions(writer, fields)) {
+                        successful++;
+                    } else {
+                        failed++;
+                    }
+                    writer.append(LINE_BREAK);
+                }
+            }
+            writer.flush();
+            log.info("CSV conversion from {}: {} rows converted, {} failed in {} ms",
+                    sourceCalendar, successful, failed, System.currentTimeMillis() - startTime);
+        }
+
+        private boolean appendConversions(Writer writer, List<String> fields) throws IOException {
+            char delimiter = options.delimiter();
+            int[] converted = new int[targetEngines.size()];
+            String error = null;
+            if (dateColumn >= fields.size()) {
+                error = "Row has no column " + dateColumn;
+            } else {
+                // Bad rows are expected here, so they are reported without building an exception
+                ValidationResult source = dateValidationService.validate(fields.get(dateColumn).trim(), sourceCalendar);
+                if (source.isValid()) {
+                    error = convert(source.date(), converted);
+                } else {
+                    error = source.message();
+                }
+            }
+
+            for (int i = 0; i < converted.length; i++) {
+                writer.append(delimiter);
+                if (error == null) {
+                    writer.append(IsoDateCodec.format(converted[i]));
+                }
+                if (options.includeFormatted()) {
+                    writer.append(delimiter);
+                    if (error == null) {
+                        CsvRecordReader.appendField(writer, targetEngines.get(i).format(converted[i]), delimiter);
+                    }
+                }
+            }
+            writer.append(delimiter);
+            CsvRecordReader.appendField(writer, error, delimiter);
+            return error == null;
+        }
+
+        // Returns null, or the error for a date outside a target's range
+        private String convert(CalendarDate date, int[] converted) {
+            long epochDay = sourceEngine.toEpochDay(date.year(), date.month(), date.day());
+            for (int i = 0; i < converted.length; i++) {
+                try {
+                    converted[i] = targetEngines.get(i).fromEpochDay(epochDay);
+                } catch (DateTimeException e) {
+                    // Only the Hijri tables are bounded, so this is the one failure expected here
+                    return "Date is outside the supported "
+                            + targetEngines.get(i).getCalendarType().getFullName() + " range";
+                }
+            }
+            return null;
+        }
+
+        private String appendedHeader(CharSequence originalHeader) {
+            StringBuilder header = new StringBuilder(originalHeader);
+            char delimiter = options.delimiter();
+            for (CalendarEngine target : targetEngines) {
+                String name = target.getCalendarType().getFullName();
+                header.append(delimiter).append(name).append("_date");
+                if (options.includeFormatted()) {
+                    header.append(delimiter).append(name).append("_formatted");
+                }
+            }
+            header.append(delimiter).append("conversion_error");
+            return header.toString();
+        }
+    }
+
+    // A header name (case-insensitive) or a zero-based index
+    private static int resolveColumn(List<String> headers, String column) {
+        for (int i = 0; i < headers.size(); i++) {
+            if (headers.get(i).trim().equalsIgnoreCase(column.trim())) {
+                return i;
+            }
+        }
+        int index = parseColumnIndex(column);
+        if (index >= headers.size()) {
+            throw new ValidationException("Date column " + column + " is not in the header " + headers);
+        }
+        return index;
+    }
+
+    private static int parseColumnIndex(String column) {
+        try {
+            int index = Integer.parseInt(column.trim());
+            if (index >= 0) {
+                return index;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new ValidationException("Date column must be a header name or a zero-based index: " + column);
+    }
+}
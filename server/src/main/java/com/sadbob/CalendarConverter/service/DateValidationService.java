@@ -1,44 +1,83 @@
 package com.sadbob.CalendarConverter.service;
 
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import com.sadbob.CalendarConverter.enums.ConversionErrorCategory;
 import com.sadbob.CalendarConverter.exception.InvalidDateException;
+import com.sadbob.CalendarConverter.util.CalendarDate;
+import com.sadbob.CalendarConverter.util.CalendarTypeHelper;
+import com.sadbob.CalendarConverter.util.HijriDateConverter;
+import com.sadbob.CalendarConverter.util.IsoDateCodec;
+import com.sadbob.CalendarConverter.util.ValidationResult;
 import org.springframework.stereotype.Service;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 
 @Service
 public class DateValidationService {
 
-    private final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private final HijriDateConverter hijriDateConverter;
+
+    public DateValidationService(HijriDateConverter hijriDateConverter) {
+        this.hijriDateConverter = hijriDateConverter;
+    }
+
+    /**
+     * Parses and validates a request date once, at the edge, so services can work
+     * on the resulting {@link CalendarDate} without reparsing it.
+     */
+    public CalendarDate parse(String dateString, String calendarType) {
+        ValidationResult result = validate(dateString, calendarType);
+        if (result.isValid()) {
+            return result.date();
+        }
+        if (result.errorCategory() == ConversionErrorCategory.UNKNOWN_CALENDAR) {
+            throw new IllegalArgumentException(result.message());
+        }
+        throw new InvalidDateException(result.message());
+    }
+
+    /**
+     * Same checks and messages as {@link #parse}, reported as a result instead of an
+     * exception, for bulk paths where bad rows are expected.
+     */
+    public ValidationResult validate(String dateString, String calendarType) {
+        CalendarType type = CalendarType.lookup(calendarType);
+        if (type == null) {
+            return ValidationResult.invalid(ConversionErrorCategory.UNKNOWN_CALENDAR,
+                    calendarType == null ? "Calendar type cannot be null" : "Unknown calendar type: " + calendarType);
+        }
+        int packed = IsoDateCodec.parse(dateString);
+        if (packed == IsoDateCodec.INVALID) {
+            return ValidationResult.invalid(ConversionErrorCategory.MALFORMED_DATE,
+                    "Date must be in YYYY-MM-DD format: " + dateString);
+        }
+        CalendarDate date = new CalendarDate(type, packed);
+        if (!isValidDate(date)) {
+            return ValidationResult.invalid(ConversionErrorCategory.INVALID_DATE,
+                    String.format("Invalid date '%s' for calendar type '%s'", dateString, calendarType));
+        }
+        return ValidationResult.valid(date);
+    }
 
     public boolean isValidDate(String dateString, String calendarType) {
         try {
-            LocalDate date = LocalDate.parse(dateString, dateFormatter);
-
-            switch (calendarType.toLowerCase()) {
-                case "ethiopian":
-                case "eth":
-                    return isValidEthiopianDate(date);
-                case "hijri":
-                case "hij":
-                    return isValidHijriDate(date);
-                case "gregorian":
-                case "greg":
-                default:
-                    return isValidGregorianDate(date);
-            }
-        } catch (DateTimeParseException e) {
+            return isValidDate(CalendarDate.parse(CalendarTypeHelper.safeFromString(calendarType), dateString));
+        } catch (InvalidDateException e) {
             return false;
         }
     }
 
-    private boolean isValidGregorianDate(LocalDate date) {
-        // Gregorian dates are validated by LocalDate.parse
-        // Additional validation if needed
-        int year = date.getYear();
-        int month = date.getMonthValue();
-        int day = date.getDayOfMonth();
+    public boolean isValidDate(CalendarDate date) {
+        int year = date.year();
+        int month = date.month();
+        int day = date.day();
 
+        return switch (date.calendarType()) {
+            case ETHIOPIAN -> isValidEthiopianDate(year, month, day);
+            case HIJRI -> isValidHijriDate(year, month, day);
+            case GREGORIAN -> isValidGregorianDate(year, month, day);
+        };
+    }
+
+    private boolean isValidGregorianDate(int year, int month, int day) {
         // Basic range validation
         if (year < 1 || year > 9999) return false;
         if (month < 1 || month > 12) return false;
@@ -48,12 +87,7 @@ public class DateValidationService {
         return isValidDayForMonth(year, month, day);
     }
 
-    private boolean isValidEthiopianDate(LocalDate date) {
-        // Ethiopian date validation
-        int year = date.getYear();
-        int month = date.getMonthValue();
-        int day = date.getDayOfMonth();
-
+    private boolean isValidEthiopianDate(int year, int month, int day) {
         if (year < 1 || year > 9999) return false;
         if (month < 1 || month > 13) return false;
         if (day < 1 || day > 30) return false;
@@ -68,17 +102,11 @@ public class DateValidationService {
         return true;
     }
 
-    private boolean isValidHijriDate(LocalDate date) {
-        // Hijri date validation
-        int year = date.getYear();
-        int month = date.getMonthValue();
-        int day = date.getDayOfMonth();
-
-        if (year < 1 || year > 9999) return false;
+    // Umm al-Qura months have 29 or 30 days, and only the years of its table exist
+    private boolean isValidHijriDate(int year, int month, int day) {
+        if (!hijriDateConverter.supportsYear(year)) return false;
         if (month < 1 || month > 12) return false;
-        if (day < 1 || day > 30) return false;
-
-        return true;
+        return day >= 1 && day <= hijriDateConverter.monthLength(year, month);
     }
 
     private boolean isValidDayForMonth(int year, int month, int day) {
@@ -103,9 +131,12 @@ public class DateValidationService {
 
     // ADD THIS MISSING METHOD
     public void validateDateRange(String calendarType, int year, int month, int day) {
-        // Create a date string from components and validate it
-        String dateString = String.format("%d-%02d-%02d", year, month, day);
-        validateDate(dateString, calendarType);
+        if (month < 1 || month > 13 || day < 1 || day > 31
+                || !isValidDate(CalendarDate.of(CalendarTypeHelper.safeFromString(calendarType), year, month, day))) {
+            throw new InvalidDateException(
+                    String.format("Invalid date '%s' for calendar type '%s'", IsoDateCodec.format(year, month, day), calendarType)
+            );
+        }
     }
 
     // OPTIONAL: Add component-based validation without creating string
@@ -141,8 +172,8 @@ public class DateValidationService {
                 if (month < 1 || month > 12) {
                     throw new InvalidDateException("Hijri month must be between 1 and 12");
                 }
-                if (day < 1 || day > 30) {
-                    throw new InvalidDateException("Hijri day must be between 1 and 30");
+                if (!isValidHijriDate(year, month, day)) {
+                    throw new InvalidDateException("Invalid day for Hijri date");
                 }
                 break;
 
@@ -0,0 +1,232 @@
+package com.sadbob.CalendarConverter.service;
+
+import com.sadbob.CalendarConverter.entity.Holiday;
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import com.sadbob.CalendarConverter.exception.ValidationException;
+import com.sadbob.CalendarConverter.service.interf.CalendarEngine;
+import com.sadbob.CalendarConverter.service.interf.HolidayService;
+import com.sadbob.CalendarConverter.util.CalendarDate;
+import com.sadbob.CalendarConverter.util.HolidayBitmap;
+import com.sadbob.CalendarConverter.util.HolidayIndex;
+import com.sadbob.CalendarConverter.util.PackedDate;
+import com.sadbob.CalendarConverter.util.VersionedCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Per-year holiday bitmaps built lazily from the current {@link HolidayIndex}. A
+ * native bitmap covers one year of the holidays' own calendar; a Gregorian bitmap
+ * covers one Gregorian year with the holidays of every overlapping native year laid
+ * onto it, so ranges can be counted across calendars on one day axis.
+ *
+ * Bitmaps are kept in a bounded, lock-free {@link VersionedCache} that starts over
+ * as soon as a newer index version is seen; a caller holding an older snapshot gets
+ * uncached bitmaps instead. A bitmap for one country holds the holidays of that
+ * country plus those with no country.
+ */
+@Service
+public class HolidayBitmapService {
+
+    public static final int MAX_COUNT_YEARS = 1000;
+
+    private enum Layout { NATIVE, GREGORIAN }
+
+    // country is null for the holidays of every country
+    private record Key(CalendarType holidayCalendar, String country, Layout layout, int year) {
+    }
+
+    public record Count(long days, long holidayDays) {
+    }
+
+    private final HolidayService holidayService;
+    private final CalendarEngineRegistry calendarEngines;
+    private final VersionedCache<Key, HolidayBitmap> cache;
+
+    public HolidayBitmapService(HolidayService holidayService,
+                                CalendarEngineRegistry calendarEngines,
+                                @Value("${calendar.holidays.bitmap-cache-size:512}") int cacheSize) {
+        if (cacheSize < 1) {
+            throw new IllegalArgumentException("calendar.holidays.bitmap-cache-size must be positive: " + cacheSize);
+        }
+        this.holidayService = holidayService;
+        this.calendarEngines = calendarEngines;
+        this.cache = new VersionedCache<>(cacheSize);
+    }
+
+    public boolean isHoliday(CalendarDate date) {
+        return isHoliday(holidayService.getHolidayIndex(), date);
+    }
+
+    /**
+     * Holidays falling on a date, with one-off holidays of other years left out. The
+     * bit test answers most dates; the index is only read when the bit is set.
+     */
+    public List<Holiday> holidaysOn(CalendarDate date) {
+        HolidayIndex index = holidayService.getHolidayIndex();
+        if (!isHoliday(index, date)) {
+            return List.of();
+        }
+        return index.forMonth(date.calendarType(), date.month(), date.year()).stream()
+                .filter(h -> h.getDayOfMonth() == date.day())
+                .toList();
+    }
+
+    /**
+     * Days in [from, to] that are a holiday in at least one of the given calendars.
+     * Both ends are dates of the same calendar, which need not be one of them.
+     */
+    public Count countHolidayDays(CalendarDate from, CalendarDate to, Set<CalendarType> holidayCalendars) {
+        long fromEpochDay = toEpochDay(from);
+        long toEpochDay = toEpochDay(to);
+        if (fromEpochDay > toEpochDay) {
+            throw new ValidationException("from must not be after to");
+        }
+        if (holidayCalendars.isEmpty()) {
+            throw new ValidationException("At least one holiday calendar is required");
+        }
+
+        CalendarEngine gregorian = calendarEngines.get(CalendarType.GREGORIAN);
+        int firstYear = PackedDate.year(gregorian.fromEpochDay(fromEpochDay));
+        int lastYear = PackedDate.year(gregorian.fromEpochDay(toEpochDay));
+        if (lastYear - firstYear >= MAX_COUNT_YEARS) {
+            throw new ValidationException("Range too large. Maximum " + MAX_COUNT_YEARS + " years.");
+        }
+
+        HolidayIndex index = holidayService.getHolidayIndex();
+        long count = 0;
+        List<HolidayBitmap> years = new ArrayList<>(holidayCalendars.size());
+        for (int year = firstYear; year <= lastYear; year++) {
+            years.clear();
+            for (CalendarType calendar : holidayCalendars) {
+                years.add(bitmap(index, calendar, null, Layout.GREGORIAN, year));
+            }
+            HolidayBitmap days = years.size() == 1 ? years.get(0) : HolidayBitmap.union(years);
+            count += days.count(fromEpochDay, toEpochDay);
+        }
+        return new Count(toEpochDay - fromEpochDay + 1, count);
+    }
+
+    private boolean isHoliday(HolidayIndex index, CalendarDate date) {
+        try {
+            CalendarEngine engine = calendarEngines.get(date.calendarType());
+            if (date.month() < 1 || date.month() > engine.monthsInYear(date.year())
+                    || date.day() < 1 || date.day() > engine.monthLength(date.year(), date.month())) {
+                return false;
+            }
+            return bitmap(index, date.calendarType(), null, Layout.NATIVE, date.year())
+                    .contains(engine.toEpochDay(date.year(), date.month(), date.day()));
+        } catch (DateTimeException e) {
+            // Outside the Hijri tables; no holiday can be placed there
+            return false;
+        }
+    }
+
+    private long toEpochDay(CalendarDate date) {
+        try {
+            return calendarEngines.get(date.calendarType()).toEpochDay(date.year(), date.month(), date.day());
+        } catch (DateTimeException e) {
+            throw new ValidationException("Date out of range: " + date);
+        }
+    }
+
+    /**
+     * Holidays of one calendar laid onto one Gregorian year. Callers that read several
+     * years should pass the same index snapshot to each call.
+     */
+    public HolidayBitmap gregorianYear(HolidayIndex index, CalendarType calendar, String country, int year) {
+        return bitmap(index, calendar, country == null ? null : country.toUpperCase(), Layout.GREGORIAN, year);
+    }
+
+    private HolidayBitmap bitmap(HolidayIndex index, CalendarType calendar, String country, Layout layout, int year) {
+        return cache.get(index.version(), new Key(calendar, country, layout, year), () -> layout == Layout.NATIVE
+                ? buildNative(index, calendar, country, year)
+                : buildGregorian(index, calendar, country, year));
+    }
+
+    // Throws DateTimeException for a year the calendar cannot represent
+    private HolidayBitmap buildNative(HolidayIndex index, CalendarType calendar, String country, int year) {
+        CalendarEngine engine = calendarEngines.get(calendar);
+        int months = engine.monthsInYear(year);
+        int[] monthLengths = new int[months + 1];
+        int days = 0;
+        for (int month = 1; month <= months; month++) {
+            monthLengths[month] = engine.monthLength(year, month);
+            days += monthLengths[month];
+        }
+
+        long firstEpochDay = engine.toEpochDay(year, 1, 1);
+        HolidayBitmap.Builder builder = HolidayBitmap.builder(firstEpochDay, days);
+        long monthStart = firstEpochDay;
+        for (int month = 1; month <= months; month++) {
+            for (Holiday holiday : index.forMonth(calendar, month, year)) {
+                // A 30th of a 29-day month does not happen that year
+                if (holiday.getDayOfMonth() <= monthLengths[month] && appliesTo(holiday, country)) {
+                    builder.set(monthStart + holiday.getDayOfMonth() - 1);
+                }
+            }
+            monthStart += monthLengths[month];
+        }
+        return builder.build();
+    }
+
+    private HolidayBitmap buildGregorian(HolidayIndex index, CalendarType calendar, String country, int year) {
+        if (calendar == CalendarType.GREGORIAN) {
+            return bitmap(index, calendar, country, Layout.NATIVE, year);
+        }
+        CalendarEngine gregorian = calendarEngines.get(CalendarType.GREGORIAN);
+        long first = gregorian.toEpochDay(year, 1, 1);
+        long last = gregorian.toEpochDay(year, 12, 31);
+        HolidayBitmap.Builder builder = HolidayBitmap.builder(first, (int) (last - first + 1));
+
+        // Start from a native year that holds either end and walk outwards until the
+        // native years stop overlapping, or the calendar runs out of years
+        CalendarEngine engine = calendarEngines.get(calendar);
+        Integer anchor = nativeYearAt(engine, first);
+        if (anchor == null) {
+            anchor = nativeYearAt(engine, last);
+            if (anchor == null) {
+                return builder.build();
+            }
+        }
+        for (int nativeYear = anchor; ; nativeYear--) {
+            HolidayBitmap days = nativeOrNull(index, calendar, country, nativeYear);
+            if (days == null || days.lastEpochDay() < first) {
+                break;
+            }
+            builder.or(days);
+        }
+        for (int nativeYear = anchor + 1; ; nativeYear++) {
+            HolidayBitmap days = nativeOrNull(index, calendar, country, nativeYear);
+            if (days == null || days.firstEpochDay() > last) {
+                break;
+            }
+            builder.or(days);
+        }
+        return builder.build();
+    }
+
+    private HolidayBitmap nativeOrNull(HolidayIndex index, CalendarType calendar, String country, int year) {
+        try {
+            return bitmap(index, calendar, country, Layout.NATIVE, year);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static boolean appliesTo(Holiday holiday, String country) {
+        return country == null || holiday.getCountryCode() == null || country.equalsIgnoreCase(holiday.getCountryCode());
+    }
+
+    private static Integer nativeYearAt(CalendarEngine engine, long epochDay) {
+        try {
+            return PackedDate.year(engine.fromEpochDay(epochDay));
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.sadbob.CalendarConverter.service;
+
+import com.sadbob.CalendarConverter.entity.HolidayChangeListener;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the holiday caches of every replica in step with the holidays table. A
+ * statement trigger bumps the single row of holidays_version and sends its new value
+ * on the holidays_changed channel; each node LISTENs on a connection of its own,
+ * outside the pool, and publishes {@link HolidayChangeListener.HolidaysChanged} when
+ * the version moves. While that connection is down, a poller reads the version row
+ * through the pool instead, so a dropped listener delays a rebuild but never loses it.
+ */
+@Component
+@ConditionalOnProperty(name = "calendar.holidays.notify.enabled", havingValue = "true", matchIfMissing = true)
+public class HolidayChangeWatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(HolidayChangeWatcher.class);
+
+    public static final String CHANNEL = "holidays_changed";
+
+    private static final String VERSION_QUERY = "SELECT version FROM holidays_version WHERE id = 1";
+
+    // Arbitrary key; serializes the schema setup of replicas that start together
+    private static final long SCHEMA_LOCK = 0x686f6c6964617973L;
+
+    private static final String[] SCHEMA = {
+            "CREATE TABLE IF NOT EXISTS holidays_version (id INT PRIMARY KEY CHECK (id = 1), version BIGINT NOT NULL)",
+            "INSERT INTO holidays_version (id, version) VALUES (1, 0) ON CONFLICT (id) DO NOTHING",
+            """
+            CREATE OR REPLACE FUNCTION notify_holidays_changed() RETURNS trigger AS $$
+            DECLARE
+                new_version BIGINT;
+            BEGIN
+                UPDATE holidays_version SET version = version + 1 WHERE id = 1 RETURNING version INTO new_version;
+                PERFORM pg_notify('holidays_changed', new_version::text);
+                RETURN NULL;
+            END
+            $$ LANGUAGE plpgsql""",
+            """
+            DO $$
+            BEGIN
+                IF NOT EXISTS (SELECT 1 FROM pg_trigger WHERE tgname = 'holidays_changed' AND tgrelid = 'holidays'::regclass) THEN
+                    CREATE TRIGGER holidays_changed AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON holidays
+                        FOR EACH STATEMENT EXECUTE FUNCTION notify_holidays_changed();
+                END IF;
+            END
+            $$"""
+    };
+
+    interface ConnectionFactory {
+        Connection open() throws SQLException;
+    }
+
+    private final ConnectionFactory listenerConnections;
+    private final ConnectionFactory pooledConnections;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration pollInterval;
+    private final Duration reconnectDelay;
+    private final Duration heartbeat;
+    private final ScheduledExecutorService poller;
+    // Long.MIN_VALUE until the first read, so the first version seen also triggers a rebuild
+    private final AtomicLong lastVersion = new AtomicLong(Long.MIN_VALUE);
+
+    private volatile boolean running;
+    private volatile boolean listening;
+    private volatile Connection listenerConnection;
+    private Thread listenerThread;
+
+    @Autowired
+    public HolidayChangeWatcher(DataSource dataSource,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${spring.datasource.url}") String url,
+                                @Value("${spring.datasource.username:}") String username,
+                                @Value("${spring.datasource.password:}") String password,
+                                @Value("${calendar.holidays.notify.poll-interval:30s}") Duration pollInterval,
+                                @Value("${calendar.holidays.notify.reconnect-delay:5s}") Duration reconnectDelay,
+                                @Value("${calendar.holidays.notify.heartbeat:10s}") Duration heartbeat) {
+        this(() -> DriverManager.getConnection(url, username, password), dataSource::getConnection,
+                eventPublisher, pollInterval, reconnectDelay, heartbeat);
+    }
+
+    HolidayChangeWatcher(ConnectionFactory listenerConnections,
+                         ConnectionFactory pooledConnections,
+                         ApplicationEventPublisher eventPublisher,
+                         Duration pollInterval,
+                         Duration reconnectDelay,
+                         Duration heartbeat) {
+        this.listenerConnections = listenerConnections;
+        this.pooledConnections = pooledConnections;
+        this.eventPublisher = eventPublisher;
+        this.pollInterval = pollInterval;
+        this.reconnectDelay = reconnectDelay;
+        this.heartbeat = heartbeat;
+        this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "holiday-version-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // After startup, so Hibernate has created the holidays table the trigger goes on
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            installSchema();
+        } catch (SQLException e) {
+            log.error("Cannot install the holidays change trigger; other replicas' edits will not be seen", e);
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(this::listen, "holiday-change-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+        poller.scheduleWithFixedDelay(this::pollIfNotListening,
+                pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        poller.shutdownNow();
+        closeQuietly(listenerConnection);
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    boolean isListening() {
+        return listening;
+    }
+
+    private void installSchema() throws SQLException {
+        try (Connection connection = pooledConnections.open(); Statement statement = connection.createStatement()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                statement.execute("SELECT pg_advisory_xact_lock(" + SCHEMA_LOCK + ")");
+                for (String sql : SCHEMA) {
+                    statement.execute(sql);
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private void listen() {
+        // Warn once per outage rather than on every reconnect attempt
+        boolean outageReported = false;
+        while (running) {
+            try (Connection connection = listenerConnections.open()) {
+                listenerConnection = connection;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                // Polling stays on until this connection can actually deliver notifications
+                PGConnection notifications = connection.unwrap(PGConnection.class);
+                listening = true;
+                outageReported = false;
+                log.info("Listening for holiday changes on channel {}", CHANNEL);
+                // Catches up on anything committed while there was no listener
+                versionSeen(readVersion(connection));
+
+                while (running) {
+                    PGNotification[] received = notifications.getNotifications((int) heartbeat.toMillis());
+                    if (received == null || received.length == 0) {
+                        // Idle: a query both proves the connection is alive and covers a lost notification
+                        versionSeen(readVersion(connection));
+                        continue;
+                    }
+                    for (PGNotification notification : received) {
+                        notificationReceived(notification.getParameter(), connection);
+                    }
+                }
+            } catch (SQLException e) {
+                if (running && !outageReported) {
+                    log.warn("Holiday change listener disconnected, polling every {} until it reconnects: {}",
+                            pollInterval, e.getMessage());
+                    outageReported = true;
+                } else {
+                    log.debug("Holiday change listener reconnect failed: {}", e.getMessage());
+                }
+            } catch (RuntimeException e) {
+                // From the driver or an event listener; the thread must live on to reconnect
+                if (running && !outageReported) {
+                    log.error("Holiday change listener failed, polling every {} until it reconnects",
+                            pollInterval, e);
+                    outageReported = true;
+                } else {
+                    log.debug("Holiday change listener failed again: {}", e.toString());
+                }
+            } finally {
+                listening = false;
+                listenerConnection = null;
+            }
+            sleep(reconnectDelay);
+        }
+    }
+
+    private void notificationReceived(String payload, Connection connection) throws SQLException {
+        try {
+            versionSeen(Long.parseLong(payload.trim()));
+        } catch (NumberFormatException e) {
+            // A bare NOTIFY from someone else; read the version instead
+            versionSeen(readVersion(connection));
+        }
+    }
+
+    void pollIfNotListening() {
+        if (listening) {
+            return;
+        }
+        try (Connection connection = pooledConnections.open()) {
+            versionSeen(readVersion(connection));
+        } catch (SQLException e) {
+            log.warn("Cannot poll the holidays version: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            // A failure must not cancel the scheduled poll
+            log.error("Holiday version poll failed", e);
+        }
+    }
+
+    void versionSeen(long version) {
+        long previous = lastVersion.getAndAccumulate(version, Math::max);
+        if (version > previous) {
+            log.debug("Holidays version {} -> {}, rebuilding holiday caches", previous, version);
+            eventPublisher.publishEvent(new HolidayChangeListener.HolidaysChanged());
+        }
+    }
+
+    private static long readVersion(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(VERSION_QUERY)) {
+            if (!resultSet.next()) {
+                throw new SQLException("holidays_version has no row");
+            }
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Error closing the holiday change listener connection: {}", e.getMessage());
+        }
+    }
+}
@@ -11,8 +11,12 @@ import com.itextpdf.layout.element.Table;
 import com.itextpdf.layout.properties.TextAlignment;
 import com.itextpdf.layout.properties.UnitValue;
 import com.sadbob.CalendarConverter.entity.Holiday;
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import com.sadbob.CalendarConverter.service.interf.CalendarEngine;
 import com.sadbob.CalendarConverter.service.interf.HolidayService;
 import com.sadbob.CalendarConverter.util.CalendarMonthUtils;
+import com.sadbob.CalendarConverter.util.CalendarTypeHelper;
+import com.sadbob.CalendarConverter.util.PackedDate;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
@@ -24,15 +28,18 @@ public class PdfExportService {
 
     private final HolidayService holidayService;
     private final CalendarMonthUtils monthUtils;
+    private final CalendarEngineRegistry calendarEngines;
 
     private static final Color HEADER_COLOR = new DeviceRgb(70, 130, 180);
     private static final Color HOLIDAY_COLOR = new DeviceRgb(220, 20, 60);
     private static final Color WEEKEND_COLOR = new DeviceRgb(240, 240, 240);
     private static final Color TODAY_COLOR = new DeviceRgb(255, 255, 200);
 
-    public PdfExportService(HolidayService holidayService, CalendarMonthUtils monthUtils) {
+    public PdfExportService(HolidayService holidayService, CalendarMonthUtils monthUtils,
+                            CalendarEngineRegistry calendarEngines) {
         this.holidayService = holidayService;
         this.monthUtils = monthUtils;
+        this.calendarEngines = calendarEngines;
     }
 
     public byte[] generateSimpleCalendarPdf(String calendarType, int year, int month) {
@@ -84,68 +91,26 @@ public class PdfExportService {
         // Add weekday headers
         addWeekdayHeaders(table);
 
-        if ("ethiopian".equalsIgnoreCase(calendarType)) {
-            createEthiopianCalendar(table, year, month, holidays);
-        } else if ("hijri".equalsIgnoreCase(calendarType)) {
-            createHijriCalendar(table, year, month, holidays);
-        } else {
-            createGregorianCalendar(table, year, month, holidays);
-        }
+        createMonthCells(table, CalendarTypeHelper.safeFromString(calendarType), year, month, holidays);
 
         return table;
     }
 
-    private void createGregorianCalendar(Table table, int year, int month, List<Holiday> holidays) {
-        LocalDate firstDay = LocalDate.of(year, month, 1);
-        int daysInMonth = firstDay.lengthOfMonth();
-        int startDayOfWeek = firstDay.getDayOfWeek().getValue() % 7;
-
-        for (int i = 0; i < startDayOfWeek; i++) {
-            table.addCell(createEmptyCell());
-        }
-
-        LocalDate today = LocalDate.now();
-        for (int day = 1; day <= daysInMonth; day++) {
-            boolean isToday = (year == today.getYear() && month == today.getMonthValue() && day == today.getDayOfMonth());
-            table.addCell(createDayCell(day, holidays, startDayOfWeek + day - 1, isToday));
-        }
-
-        int totalCells = 42;
-        int filledCells = startDayOfWeek + daysInMonth;
-        for (int i = filledCells; i < totalCells; i++) {
-            table.addCell(createEmptyCell());
-        }
-    }
-
-    private void createEthiopianCalendar(Table table, int year, int month, List<Holiday> holidays) {
-        int daysInMonth = (month == 13) ? 6 : 30;
-        int startDayOfWeek = 0;
-
-        for (int i = 0; i < startDayOfWeek; i++) {
-            table.addCell(createEmptyCell());
-        }
-
-        for (int day = 1; day <= daysInMonth; day++) {
-            table.addCell(createDayCell(day, holidays, startDayOfWeek + day - 1, false));
-        }
-
-        int totalCells = 42;
-        int filledCells = startDayOfWeek + daysInMonth;
-        for (int i = filledCells; i < totalCells; i++) {
-            table.addCell(createEmptyCell());
-        }
-    }
-
-    private void createHijriCalendar(Table table, int year, int month, List<Holiday> holidays) {
-        int daysInMonth = 30;
-        int startDayOfWeek = 0;
+    private void createMonthCells(Table table, CalendarType calendarType, int year, int month, List<Holiday> holidays) {
+        CalendarEngine engine = calendarEngines.get(calendarType);
+        int daysInMonth = engine.monthLength(year, month);
+        ConversionCursor cursor = calendarEngines.cursorAt(engine.toEpochDay(year, month, 1));
+        int startDayOfWeek = cursor.dayOfWeek() % 7;
 
         for (int i = 0; i < startDayOfWeek; i++) {
             table.addCell(createEmptyCell());
         }
 
-        for (int day = 1; day <= daysInMonth; day++) {
-            table.addCell(createDayCell(day, holidays, startDayOfWeek + day - 1, false));
+        long today = LocalDate.now().toEpochDay();
+        for (int cell = startDayOfWeek; cell < startDayOfWeek + daysInMonth; cell++) {
+            int day = PackedDate.day(cursor.packed(calendarType));
+            table.addCell(createDayCell(day, holidays, cell, cursor.epochDay() == today));
+            cursor.advance();
         }
 
         int totalCells = 42;
@@ -3,6 +3,7 @@ package com.sadbob.CalendarConverter.service;
 import com.sadbob.CalendarConverter.dto.responseDTO.calendar.TodayResponse;
 import com.sadbob.CalendarConverter.util.EthiopianDateConverter;
 import com.sadbob.CalendarConverter.util.HijriDateConverter;
+import com.sadbob.CalendarConverter.util.IsoDateCodec;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -13,6 +14,8 @@ import java.util.Map;
 @Service
 public class TodayService {
 
+    private static final DateTimeFormatter GREGORIAN_DISPLAY_FORMATTER = DateTimeFormatter.ofPattern("EEEE, d MMMM yyyy");
+
     private final EthiopianDateConverter ethiopianConverter;
     private final HijriDateConverter hijriConverter;
 
@@ -25,17 +28,17 @@ public class TodayService {
         LocalDate today = LocalDate.now();
 
         // Gregorian
-        String gregorianDate = today.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-        String gregorianFormatted = today.format(DateTimeFormatter.ofPattern("EEEE, d MMMM yyyy"));
+        String gregorianDate = IsoDateCodec.format(today.getYear(), today.getMonthValue(), today.getDayOfMonth());
+        String gregorianFormatted = today.format(GREGORIAN_DISPLAY_FORMATTER);
 
         // Ethiopian
         var ethDate = ethiopianConverter.toEthiopian(today.getYear(), today.getMonthValue(), today.getDayOfMonth());
-        String ethiopianDate = String.format("%d-%02d-%02d", ethDate.year(), ethDate.month(), ethDate.day());
+        String ethiopianDate = IsoDateCodec.format(ethDate.year(), ethDate.month(), ethDate.day());
         String ethiopianFormatted = formatEthiopianDate(ethDate, today.getDayOfWeek().getValue());
 
         // Hijri
         var hijriDate = hijriConverter.toHijri(today.getYear(), today.getMonthValue(), today.getDayOfMonth());
-        String hijriDateStr = String.format("%d-%02d-%02d", hijriDate.year(), hijriDate.month(), hijriDate.day());
+        String hijriDateStr = IsoDateCodec.format(hijriDate.year(), hijriDate.month(), hijriDate.day());
         String hijriFormatted = formatHijriDate(hijriDate, today.getDayOfWeek().getValue());
 
         Map<String, String> todayDates = new LinkedHashMap<>();
@@ -0,0 +1,39 @@
+package com.sadbob.CalendarConverter.service;
+
+import com.sadbob.CalendarConverter.util.WeekendMask;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Weekend days per country, from {@code calendar.business-days.weekends}, a list of
+ * {@code COUNTRY=DAY,DAY} entries separated by semicolons. Countries not listed get
+ * the default weekend.
+ */
+@Component
+public class WeekendCalendar {
+
+    private final WeekendMask defaultWeekend;
+    private final Map<String, WeekendMask> weekends = new HashMap<>();
+
+    public WeekendCalendar(@Value("${calendar.business-days.default-weekend:SATURDAY,SUNDAY}") String defaultWeekend,
+                           @Value("${calendar.business-days.weekends:}") String weekends) {
+        this.defaultWeekend = WeekendMask.parse(defaultWeekend);
+        for (String entry : weekends.split(";")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int equals = entry.indexOf('=');
+            if (equals <= 0) {
+                throw new IllegalArgumentException("calendar.business-days.weekends entry must be COUNTRY=DAY,DAY: " + entry);
+            }
+            this.weekends.put(entry.substring(0, equals).trim().toUpperCase(), WeekendMask.parse(entry.substring(equals + 1)));
+        }
+    }
+
+    public WeekendMask forCountry(String country) {
+        return country == null ? defaultWeekend : weekends.getOrDefault(country.toUpperCase(), defaultWeekend);
+    }
+}
@@ -8,6 +8,7 @@ import com.sadbob.CalendarConverter.entity.Holiday;
 import com.sadbob.CalendarConverter.service.interf.ExportService;
 import com.sadbob.CalendarConverter.service.interf.HolidayService;
 import com.sadbob.CalendarConverter.util.CalendarMonthUtils;
+import com.sadbob.CalendarConverter.util.IsoDateCodec;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
@@ -138,7 +139,7 @@ public class DataExportServiceImpl implements ExportService {
     }
 
     private HolidayDataResponse convertToHolidayData(Holiday holiday) {
-        String date = String.format("%d-%02d-%02d",
+        String date = IsoDateCodec.format(
                 holiday.getSpecificYear() != null ? holiday.getSpecificYear() : LocalDate.now().getYear(),
                 holiday.getMonthNumber(),
                 holiday.getDayOfMonth()
@@ -0,0 +1,56 @@
+package com.sadbob.CalendarConverter.service.impl;
+
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import com.sadbob.CalendarConverter.service.interf.CalendarEngine;
+import com.sadbob.CalendarConverter.util.EthiopianDateConverter;
+import com.sadbob.CalendarConverter.util.PackedDate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EthiopianCalendarEngine implements CalendarEngine {
+
+    private static final String[] MONTHS = {
+            "Mäskäräm", "Ṭiqimt", "Ḫidar", "Taḫśaś", "Ṭirr", "Yäkatit",
+            "Mägabit", "Miyazya", "Gənbot", "Säne", "Ḥamle", "Nähäse", "Ṗagume"
+    };
+
+    private final EthiopianDateConverter ethiopianConverter;
+
+    public EthiopianCalendarEngine(EthiopianDateConverter ethiopianConverter) {
+        this.ethiopianConverter = ethiopianConverter;
+    }
+
+    @Override
+    public CalendarType getCalendarType() {
+        return CalendarType.ETHIOPIAN;
+    }
+
+    @Override
+    public long toEpochDay(int year, int month, int day) {
+        return ethiopianConverter.ethiopianToEpochDay(year, month, day);
+    }
+
+    @Override
+    public int fromEpochDay(long epochDay) {
+        return ethiopianConverter.toEthiopianPacked(epochDay);
+    }
+
+    @Override
+    public int monthLength(int year, int month) {
+        if (month == 13) {
+            return ethiopianConverter.isLeapYear(year) ? 6 : 5;
+        }
+        return 30;
+    }
+
+    @Override
+    public int monthsInYear(int year) {
+        return 13;
+    }
+
+    @Override
+    public String format(int packedDate) {
+        return MONTHS[PackedDate.month(packedDate) - 1] + " " + PackedDate.day(packedDate) + ", "
+                + PackedDate.year(packedDate) + " (Ethiopian)";
+    }
+}
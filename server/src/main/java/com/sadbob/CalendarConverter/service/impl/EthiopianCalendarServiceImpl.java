@@ -4,28 +4,46 @@ import com.sadbob.CalendarConverter.dto.responseDTO.calendar.CalendarDayResponse
 import com.sadbob.CalendarConverter.dto.responseDTO.calendar.CalendarResponse;
 import com.sadbob.CalendarConverter.dto.responseDTO.calendar.CalendarWeekResponse;
 import com.sadbob.CalendarConverter.enums.CalendarType;
+import com.sadbob.CalendarConverter.service.CalendarEngineRegistry;
+import com.sadbob.CalendarConverter.service.ConversionCursor;
 import com.sadbob.CalendarConverter.service.interf.CalendarService;
 import com.sadbob.CalendarConverter.util.CalendarMonthUtils;
 import com.sadbob.CalendarConverter.util.EthiopianDateConverter;
+import com.sadbob.CalendarConverter.util.PackedDate;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.Month;
+import java.time.format.TextStyle;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 
 @Service
 public class EthiopianCalendarServiceImpl implements CalendarService {
 
     private final EthiopianDateConverter ethiopianConverter;
     private final CalendarMonthUtils monthUtils;
+    private final CalendarEngineRegistry calendarEngines;
+
+    // Same text as a "MMM d" formatter, without building a LocalDate per cell
+    private static final String[] GREGORIAN_SHORT_MONTHS = Arrays.stream(Month.values())
+            .map(m -> m.getDisplayName(TextStyle.SHORT, Locale.getDefault(Locale.Category.FORMAT)))
+            .toArray(String[]::new);
+
+    // 1970-01-01 was a Thursday; shifts epoch days onto a Sunday-first week index
+    private static final int EPOCH_DAY_OF_WEEK_OFFSET = 4;
 
     private static final String[] ETHIOPIAN_DAYS = {
             "እሑድ", "ሰኞ", "ማክሰኞ", "ረቡዕ", "ሐሙስ", "ዓርብ", "ቅዳሜ"
     };
 
-    public EthiopianCalendarServiceImpl(EthiopianDateConverter ethiopianConverter, CalendarMonthUtils monthUtils) {
+    public EthiopianCalendarServiceImpl(EthiopianDateConverter ethiopianConverter, CalendarMonthUtils monthUtils,
+                                        CalendarEngineRegistry calendarEngines) {
         this.ethiopianConverter = ethiopianConverter;
         this.monthUtils = monthUtils;
+        this.calendarEngines = calendarEngines;
     }
 
     @Override
@@ -70,40 +88,27 @@ public class EthiopianCalendarServiceImpl implements CalendarService {
         List<CalendarDayResponse> currentDays = new ArrayList<>();
 
         int daysInMonth = getDaysInEthiopianMonth(year, month);
-
-        LocalDate firstDayGregorian = ethiopianConverter.toGregorian(year, month, 1);
-        int firstDayOfWeek = firstDayGregorian.getDayOfWeek().getValue() % 7;
-
-        int previousMonthYear = (month == 1) ? year - 1 : year;
-        int previousMonth = (month == 1) ? 13 : month - 1;
-        int previousMonthDays = getDaysInEthiopianMonth(previousMonthYear, previousMonth);
-
-        for (int i = previousMonthDays - firstDayOfWeek + 1; i <= previousMonthDays; i++) {
-            String otherCalendarDate = getGregorianEquivalent(previousMonthYear, previousMonth, i);
-            currentDays.add(new CalendarDayResponse(i, String.valueOf(i), false, false, otherCalendarDate));
-        }
-
-        for (int day = 1; day <= daysInMonth; day++) {
-            boolean isToday = isTodayInEthiopian(year, month, day);
-            String otherCalendarDate = getGregorianEquivalent(year, month, day);
-            currentDays.add(new CalendarDayResponse(day, String.valueOf(day), true, isToday, otherCalendarDate));
+        int todayPacked = ethiopianConverter.toEthiopianPacked(LocalDate.now().toEpochDay());
+
+        long firstDayEpoch = ethiopianConverter.ethiopianToEpochDay(year, month, 1);
+        int firstDayOfWeek = (int) Math.floorMod(firstDayEpoch + EPOCH_DAY_OF_WEEK_OFFSET, 7);
+        long lastDayEpoch = firstDayEpoch + daysInMonth - 1;
+
+        // Walk from the Sunday before the 1st to the Saturday after the last day
+        ConversionCursor cursor = calendarEngines.cursorAt(firstDayEpoch - firstDayOfWeek);
+        while (cursor.epochDay() <= lastDayEpoch || !currentDays.isEmpty()) {
+            int packed = cursor.packed(CalendarType.ETHIOPIAN);
+            int day = PackedDate.day(packed);
+            boolean isCurrentMonth = cursor.epochDay() >= firstDayEpoch && cursor.epochDay() <= lastDayEpoch;
+            boolean isToday = isCurrentMonth && packed == todayPacked;
+            String otherCalendarDate = getGregorianEquivalent(cursor.packed(CalendarType.GREGORIAN));
+            currentDays.add(new CalendarDayResponse(day, String.valueOf(day), isCurrentMonth, isToday, otherCalendarDate));
 
             if (currentDays.size() == 7) {
                 weeks.add(new CalendarWeekResponse(new ArrayList<>(currentDays)));
                 currentDays.clear();
             }
-        }
-
-        int nextMonthYear = (month == 13) ? year + 1 : year;
-        int nextMonth = (month == 13) ? 1 : month + 1;
-        int nextDay = 1;
-        while (!currentDays.isEmpty() && currentDays.size() < 7) {
-            String otherCalendarDate = getGregorianEquivalent(nextMonthYear, nextMonth, nextDay);
-            currentDays.add(new CalendarDayResponse(nextDay, String.valueOf(nextDay), false, false, otherCalendarDate));
-            nextDay++;
-        }
-        if (!currentDays.isEmpty()) {
-            weeks.add(new CalendarWeekResponse(new ArrayList<>(currentDays)));
+            cursor.advance();
         }
 
         return weeks;
@@ -111,27 +116,13 @@ public class EthiopianCalendarServiceImpl implements CalendarService {
 
     private int getDaysInEthiopianMonth(int year, int month) {
         if (month == 13) {
-            return (year % 4 == 3) ? 6 : 5;
+            return ethiopianConverter.isLeapYear(year) ? 6 : 5;
         }
         return 30;
     }
 
-    private boolean isTodayInEthiopian(int year, int month, int day) {
-        LocalDate today = LocalDate.now();
-        EthiopianDateConverter.EthiopianDate currentEthiopian = ethiopianConverter.toEthiopian(
-                today.getYear(), today.getMonthValue(), today.getDayOfMonth());
-        return currentEthiopian.year() == year &&
-                currentEthiopian.month() == month &&
-                currentEthiopian.day() == day;
-    }
-
-    private String getGregorianEquivalent(int ethYear, int ethMonth, int ethDay) {
-        try {
-            LocalDate gregorianDate = ethiopianConverter.toGregorian(ethYear, ethMonth, ethDay);
-            return gregorianDate.format(java.time.format.DateTimeFormatter.ofPattern("MMM d"));
-        } catch (Exception e) {
-            return "";
-        }
+    private String getGregorianEquivalent(int gregorianPacked) {
+        return GREGORIAN_SHORT_MONTHS[PackedDate.month(gregorianPacked) - 1] + " " + PackedDate.day(gregorianPacked);
     }
 
     private String getCurrentEthiopianDate() {
@@ -0,0 +1,54 @@
+package com.sadbob.CalendarConverter.service.impl;
+
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import com.sadbob.CalendarConverter.service.interf.CalendarEngine;
+import com.sadbob.CalendarConverter.util.HijriDateConverter;
+import com.sadbob.CalendarConverter.util.PackedDate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class HijriCalendarEngine implements CalendarEngine {
+
+    private static final String[] MONTHS = {
+            "Muḥarram", "Ṣafar", "Rabīʿ al-Awwal", "Rabīʿ al-Thānī",
+            "Jumādā al-Ūlā", "Jumādā al-Thāniya", "Rajab", "Shaʿbān",
+            "Ramaḍān", "Shawwāl", "Dhū al-Qaʿda", "Dhū al-Ḥijja"
+    };
+
+    private final HijriDateConverter hijriConverter;
+
+    public HijriCalendarEngine(HijriDateConverter hijriConverter) {
+        this.hijriConverter = hijriConverter;
+    }
+
+    @Override
+    public CalendarType getCalendarType() {
+        return CalendarType.HIJRI;
+    }
+
+    @Override
+    public long toEpochDay(int year, int month, int day) {
+        return hijriConverter.hijriToEpochDay(year, month, day);
+    }
+
+    @Override
+    public int fromEpochDay(long epochDay) {
+        return hijriConverter.toHijriPacked(epochDay);
+    }
+
+    @Override
+    public int monthLength(int year, int month) {
+        return hijriConverter.monthLength(year, month);
+    }
+
+    @Override
+    public int monthsInYear(int year) {
+        return 12;
+    }
+
+    @Override
+    public String format(int packedDate) {
+        return MONTHS[PackedDate.month(packedDate) - 1] + " " + PackedDate.day(packedDate) + ", "
+                + PackedDate.year(packedDate) + " (Hijri)";
+    }
+}
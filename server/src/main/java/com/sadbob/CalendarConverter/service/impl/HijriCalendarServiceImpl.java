@@ -4,29 +4,47 @@ import com.sadbob.CalendarConverter.dto.responseDTO.calendar.CalendarDayResponse
 import com.sadbob.CalendarConverter.dto.responseDTO.calendar.CalendarResponse;
 import com.sadbob.CalendarConverter.dto.responseDTO.calendar.CalendarWeekResponse;
 import com.sadbob.CalendarConverter.enums.CalendarType;
+import com.sadbob.CalendarConverter.service.CalendarEngineRegistry;
+import com.sadbob.CalendarConverter.service.ConversionCursor;
 import com.sadbob.CalendarConverter.service.interf.CalendarService;
 import com.sadbob.CalendarConverter.util.CalendarMonthUtils;
 import com.sadbob.CalendarConverter.util.HijriDateConverter;
+import com.sadbob.CalendarConverter.util.PackedDate;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.Month;
+import java.time.format.TextStyle;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 
 @Service
 public class HijriCalendarServiceImpl implements CalendarService {
 
     private final HijriDateConverter hijriConverter;
     private final CalendarMonthUtils monthUtils;
+    private final CalendarEngineRegistry calendarEngines;
+
+    // Same text as a "MMM d" formatter, without building a LocalDate per cell
+    private static final String[] GREGORIAN_SHORT_MONTHS = Arrays.stream(Month.values())
+            .map(m -> m.getDisplayName(TextStyle.SHORT, Locale.getDefault(Locale.Category.FORMAT)))
+            .toArray(String[]::new);
+
+    // 1970-01-01 was a Thursday; shifts epoch days onto a Sunday-first week index
+    private static final int EPOCH_DAY_OF_WEEK_OFFSET = 4;
 
     private static final String[] HIJRI_DAYS = {
             "al-Aḥad", "al-Ithnayn", "al-Thulāthāʾ", "al-Arbiʿāʾ",
             "al-Khamīs", "al-Jumuʿah", "al-Sabt"
     };
 
-    public HijriCalendarServiceImpl(HijriDateConverter hijriConverter, CalendarMonthUtils monthUtils) {
+    public HijriCalendarServiceImpl(HijriDateConverter hijriConverter, CalendarMonthUtils monthUtils,
+                                    CalendarEngineRegistry calendarEngines) {
         this.hijriConverter = hijriConverter;
         this.monthUtils = monthUtils;
+        this.calendarEngines = calendarEngines;
     }
 
     @Override
@@ -70,72 +88,35 @@ public class HijriCalendarServiceImpl implements CalendarService {
         List<CalendarWeekResponse> weeks = new ArrayList<>();
         List<CalendarDayResponse> currentDays = new ArrayList<>();
 
-        int daysInMonth = getDaysInHijriMonth(year, month);
-
-        LocalDate firstDayGregorian = hijriConverter.toGregorian(year, month, 1);
-        int firstDayOfWeek = firstDayGregorian.getDayOfWeek().getValue() % 7;
-
-        int previousMonthYear = (month == 1) ? year - 1 : year;
-        int previousMonth = (month == 1) ? 12 : month - 1;
-        int previousMonthDays = getDaysInHijriMonth(previousMonthYear, previousMonth);
+        int daysInMonth = hijriConverter.monthLength(year, month);
+        int todayPacked = hijriConverter.toHijriPacked(LocalDate.now().toEpochDay());
 
-        for (int i = previousMonthDays - firstDayOfWeek + 1; i <= previousMonthDays; i++) {
-            String otherCalendarDate = getGregorianEquivalent(previousMonthYear, previousMonth, i);
-            currentDays.add(new CalendarDayResponse(i, String.valueOf(i), false, false, otherCalendarDate));
-        }
+        long firstDayEpoch = hijriConverter.hijriToEpochDay(year, month, 1);
+        int firstDayOfWeek = (int) Math.floorMod(firstDayEpoch + EPOCH_DAY_OF_WEEK_OFFSET, 7);
+        long lastDayEpoch = firstDayEpoch + daysInMonth - 1;
 
-        for (int day = 1; day <= daysInMonth; day++) {
-            boolean isToday = isTodayInHijri(year, month, day);
-            String otherCalendarDate = getGregorianEquivalent(year, month, day);
-            currentDays.add(new CalendarDayResponse(day, String.valueOf(day), true, isToday, otherCalendarDate));
+        // Walk from the Sunday before the 1st to the Saturday after the last day
+        ConversionCursor cursor = calendarEngines.cursorAt(firstDayEpoch - firstDayOfWeek);
+        while (cursor.epochDay() <= lastDayEpoch || !currentDays.isEmpty()) {
+            int packed = cursor.packed(CalendarType.HIJRI);
+            int day = PackedDate.day(packed);
+            boolean isCurrentMonth = cursor.epochDay() >= firstDayEpoch && cursor.epochDay() <= lastDayEpoch;
+            boolean isToday = isCurrentMonth && packed == todayPacked;
+            String otherCalendarDate = getGregorianEquivalent(cursor.packed(CalendarType.GREGORIAN));
+            currentDays.add(new CalendarDayResponse(day, String.valueOf(day), isCurrentMonth, isToday, otherCalendarDate));
 
             if (currentDays.size() == 7) {
                 weeks.add(new CalendarWeekResponse(new ArrayList<>(currentDays)));
                 currentDays.clear();
             }
-        }
-
-        int nextMonthYear = (month == 12) ? year + 1 : year;
-        int nextMonth = (month == 12) ? 1 : month + 1;
-        int nextDay = 1;
-        while (!currentDays.isEmpty() && currentDays.size() < 7) {
-            String otherCalendarDate = getGregorianEquivalent(nextMonthYear, nextMonth, nextDay);
-            currentDays.add(new CalendarDayResponse(nextDay, String.valueOf(nextDay), false, false, otherCalendarDate));
-            nextDay++;
-        }
-        if (!currentDays.isEmpty()) {
-            weeks.add(new CalendarWeekResponse(new ArrayList<>(currentDays)));
+            cursor.advance();
         }
 
         return weeks;
     }
 
-    private int getDaysInHijriMonth(int year, int month) {
-        LocalDate firstDay = hijriConverter.toGregorian(year, month, 1);
-        LocalDate firstDayNextMonth = hijriConverter.toGregorian(
-                (month == 12) ? year + 1 : year,
-                (month == 12) ? 1 : month + 1,
-                1
-        );
-        return (int) java.time.temporal.ChronoUnit.DAYS.between(firstDay, firstDayNextMonth);
-    }
-
-    private boolean isTodayInHijri(int year, int month, int day) {
-        LocalDate today = LocalDate.now();
-        HijriDateConverter.HijriDate currentHijri = hijriConverter.toHijri(
-                today.getYear(), today.getMonthValue(), today.getDayOfMonth());
-        return currentHijri.year() == year &&
-                currentHijri.month() == month &&
-                currentHijri.day() == day;
-    }
-
-    private String getGregorianEquivalent(int hijriYear, int hijriMonth, int hijriDay) {
-        try {
-            LocalDate gregorianDate = hijriConverter.toGregorian(hijriYear, hijriMonth, hijriDay);
-            return gregorianDate.format(java.time.format.DateTimeFormatter.ofPattern("MMM d"));
-        } catch (Exception e) {
-            return "";
-        }
+    private String getGregorianEquivalent(int gregorianPacked) {
+        return GREGORIAN_SHORT_MONTHS[PackedDate.month(gregorianPacked) - 1] + " " + PackedDate.day(gregorianPacked);
     }
 
     private String getCurrentHijriDate() {
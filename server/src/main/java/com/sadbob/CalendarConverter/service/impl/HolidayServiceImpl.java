@@ -1,18 +1,33 @@
 package com.sadbob.CalendarConverter.service.impl;
 
 import com.sadbob.CalendarConverter.entity.Holiday;
+import com.sadbob.CalendarConverter.entity.HolidayChangeListener;
 import com.sadbob.CalendarConverter.enums.CalendarType;
 import com.sadbob.CalendarConverter.enums.HolidayType;
+import com.sadbob.CalendarConverter.enums.MovableFeastRule;
 import com.sadbob.CalendarConverter.repository.HolidayRepository;
+import com.sadbob.CalendarConverter.service.CalendarEngineRegistry;
 import com.sadbob.CalendarConverter.service.interf.HolidayService;
+import com.sadbob.CalendarConverter.util.CalendarDate;
+import com.sadbob.CalendarConverter.util.HolidayIndex;
+import com.sadbob.CalendarConverter.util.PackedDate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,31 +36,75 @@ public class HolidayServiceImpl implements HolidayService {
     private static final Logger logger = LoggerFactory.getLogger(HolidayServiceImpl.class);
 
     private final HolidayRepository holidayRepository;
+    private final CalendarEngineRegistry calendarEngines;
+    // Readers take whichever snapshot is current; a rebuild swaps in a new one whole
+    private final AtomicReference<HolidayIndex> index = new AtomicReference<>(HolidayIndex.EMPTY);
+    private final AtomicBoolean stale = new AtomicBoolean();
+    private final AtomicLong versions = new AtomicLong();
 
-    public HolidayServiceImpl(HolidayRepository holidayRepository) {
+    public HolidayServiceImpl(HolidayRepository holidayRepository, CalendarEngineRegistry calendarEngines) {
         this.holidayRepository = holidayRepository;
+        this.calendarEngines = calendarEngines;
         initializeSampleHolidays();
+        migrateFixedEasterHolidays();
+        refresh();
+    }
+
+    /**
+     * Rebuilds the index from one full table scan. On failure the previous snapshot
+     * stays in place.
+     */
+    public void refresh() {
+        try {
+            HolidayIndex rebuilt = HolidayIndex.build(holidayRepository.findAll(), versions.incrementAndGet());
+            index.set(rebuilt);
+            logger.debug("Holiday index rebuilt with {} holidays", rebuilt.size());
+        } catch (Exception e) {
+            logger.error("Error rebuilding the holiday index; keeping the previous one", e);
+        }
+    }
+
+    // A transaction that touches many rows publishes one event per row but rebuilds once.
+    // Outside a transaction both listeners run at once, so marking must come first.
+    @EventListener
+    @Order(0)
+    public void markStale(HolidayChangeListener.HolidaysChanged event) {
+        stale.set(true);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(1)
+    public void refreshAfterCommit(HolidayChangeListener.HolidaysChanged event) {
+        if (stale.compareAndSet(true, false)) {
+            refresh();
+        }
+    }
+
+    @Override
+    public HolidayIndex getHolidayIndex() {
+        return index.get();
     }
 
     @Override
     public List<Holiday> getHolidaysForDate(String calendarType, String date) {
         try {
-            LocalDate localDate = LocalDate.parse(date);
-            CalendarType calType = CalendarType.fromCode(calendarType);
-            return holidayRepository.findByCalendarTypeAndMonthNumberAndDayOfMonth(
-                    calType, localDate.getMonthValue(), localDate.getDayOfMonth()
-            );
+            return getHolidaysForDate(CalendarDate.parse(CalendarType.fromCode(calendarType), date));
         } catch (Exception e) {
             logger.error("Error fetching holidays for date {} of calendar type {}", date, calendarType, e);
             return new ArrayList<>();
         }
     }
 
+    @Override
+    public List<Holiday> getHolidaysForDate(CalendarDate date) {
+        return index.get().forDate(date.calendarType(), date.year(), date.month(), date.day());
+    }
+
     @Override
     public List<Holiday> getHolidaysForMonth(String calendarType, int year, int month) {
         try {
             CalendarType calType = CalendarType.fromCode(calendarType);
-            return holidayRepository.findHolidaysForMonth(calType, month, year);
+            return index.get().forMonth(calType, month, year);
         } catch (Exception e) {
             logger.error("Error fetching holidays for month {}-{} of calendar type {}", year, month, calendarType, e);
             return new ArrayList<>();
@@ -56,7 +115,9 @@ public class HolidayServiceImpl implements HolidayService {
     public List<Holiday> getUpcomingHolidays(String calendarType, int currentMonth, int currentDay) {
         try {
             CalendarType calType = CalendarType.fromCode(calendarType);
-            return holidayRepository.findUpcomingHolidays(calType, currentMonth, currentDay);
+            // Movable holidays are placed in the current year of that calendar
+            int currentYear = PackedDate.year(calendarEngines.get(calType).fromEpochDay(LocalDate.now().toEpochDay()));
+            return index.get().upcoming(calType, currentYear, currentMonth, currentDay);
         } catch (Exception e) {
             logger.error("Error fetching upcoming holidays after {}-{} of calendar type {}", currentMonth, currentDay, calendarType, e);
             return new ArrayList<>();
@@ -68,7 +129,7 @@ public class HolidayServiceImpl implements HolidayService {
         try {
             CalendarType calType = CalendarType.fromCode(calendarType);
             HolidayType hType = HolidayType.valueOf(holidayType.toUpperCase());
-            return holidayRepository.findByCalendarTypeAndHolidayType(calType, hType);
+            return index.get().byType(calType, hType);
         } catch (IllegalArgumentException e) {
             logger.warn("Invalid holiday type: {}", holidayType, e);
             return Collections.emptyList();
@@ -86,6 +147,22 @@ public class HolidayServiceImpl implements HolidayService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<String> getHolidayNamesForDate(CalendarDate date) {
+        return index.get().namesForDate(date.calendarType(), date.year(), date.month(), date.day());
+    }
+
+    @Override
+    public Map<CalendarDate, List<String>> getHolidayNames(Collection<CalendarDate> dates) {
+        // One snapshot for the whole batch, so every date sees the same holidays
+        HolidayIndex snapshot = index.get();
+        Map<CalendarDate, List<String>> result = new HashMap<>();
+        for (CalendarDate date : dates) {
+            result.put(date, snapshot.namesForDate(date.calendarType(), date.year(), date.month(), date.day()));
+        }
+        return result;
+    }
+
     private void initializeSampleHolidays() {
         if (holidayRepository.count() > 0) return;
 
@@ -97,7 +174,8 @@ public class HolidayServiceImpl implements HolidayService {
         sampleHolidays.add(new Holiday("Christmas", "Ethiopian Christmas - Genna", CalendarType.ETHIOPIAN, HolidayType.RELIGIOUS, 7, 4, "ET"));
         sampleHolidays.add(new Holiday("Timkat", "Epiphany", CalendarType.ETHIOPIAN, HolidayType.RELIGIOUS, 11, 5, "ET"));
         sampleHolidays.add(new Holiday("Adwa Victory", "Victory of Adwa", CalendarType.ETHIOPIAN, HolidayType.NATIONAL, 2, 6, "ET"));
-        sampleHolidays.add(new Holiday("Easter", "Ethiopian Easter - Fasika", CalendarType.ETHIOPIAN, HolidayType.RELIGIOUS, 15, 7, null));
+        sampleHolidays.add(new Holiday("Siklet", "Ethiopian Good Friday", HolidayType.RELIGIOUS, MovableFeastRule.SIKLET, 0, "ET"));
+        sampleHolidays.add(new Holiday("Easter", "Ethiopian Easter - Fasika", HolidayType.RELIGIOUS, MovableFeastRule.FASIKA, 0, null));
 
         // Islamic Holidays
         sampleHolidays.add(new Holiday("Ramadan", "Month of Fasting", CalendarType.HIJRI, HolidayType.RELIGIOUS, 1, 9, null));
@@ -109,8 +187,36 @@ public class HolidayServiceImpl implements HolidayService {
         // Gregorian Holidays
         sampleHolidays.add(new Holiday("New Year's Day", "International New Year", CalendarType.GREGORIAN, HolidayType.INTERNATIONAL, 1, 1, null));
         sampleHolidays.add(new Holiday("Christmas", "Christmas Day", CalendarType.GREGORIAN, HolidayType.RELIGIOUS, 25, 12, null));
-        sampleHolidays.add(new Holiday("Easter", "Easter Sunday", CalendarType.GREGORIAN, HolidayType.RELIGIOUS, 9, 4, null));
+        sampleHolidays.add(new Holiday("Easter", "Easter Sunday", HolidayType.RELIGIOUS, MovableFeastRule.EASTER, 0, null));
 
         holidayRepository.saveAll(sampleHolidays);
     }
+
+    // Earlier versions seeded both Easters on one year's date; turn those rows into
+    // movable ones. Rows already moved no longer match, so this runs once per database.
+    private void migrateFixedEasterHolidays() {
+        List<Holiday> migrated = new ArrayList<>();
+        migrated.addAll(toMovable(CalendarType.GREGORIAN, 4, 9, "Easter Sunday", MovableFeastRule.EASTER));
+        migrated.addAll(toMovable(CalendarType.ETHIOPIAN, 7, 15, "Ethiopian Easter - Fasika", MovableFeastRule.FASIKA));
+        if (!migrated.isEmpty()) {
+            holidayRepository.saveAll(migrated);
+            logger.info("Migrated {} fixed Easter holidays to movable feasts", migrated.size());
+        }
+    }
+
+    private List<Holiday> toMovable(CalendarType calendarType, int month, int day, String description,
+                                    MovableFeastRule rule) {
+        List<Holiday> matches = new ArrayList<>();
+        for (Holiday holiday : holidayRepository.findByCalendarTypeAndMonthNumberAndDayOfMonth(calendarType, month, day)) {
+            if (holiday.getMovableRule() == null && holiday.getSpecificYear() == null
+                    && "Easter".equals(holiday.getName()) && description.equals(holiday.getDescription())) {
+                holiday.setMovableRule(rule);
+                holiday.setMovableOffset(0);
+                holiday.setMonthNumber(0);
+                holiday.setDayOfMonth(0);
+                matches.add(holiday);
+            }
+        }
+        return matches;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.sadbob.CalendarConverter.service.interf;
+
+import com.sadbob.CalendarConverter.enums.CalendarType;
+
+/**
+ * Arithmetic for one calendar system, pivoting through Gregorian epoch days
+ * (days since 1970-01-01). Dates are exchanged as {@code PackedDate} ints so a
+ * conversion is source → epoch day → target with no intermediate objects.
+ *
+ * One bean is registered per {@link CalendarType}; adding a calendar means adding an engine.
+ */
+public interface CalendarEngine {
+    CalendarType getCalendarType();
+    long toEpochDay(int year, int month, int day);
+    int fromEpochDay(long epochDay);
+    int monthLength(int year, int month);
+    int monthsInYear(int year);
+    String format(int packedDate);
+}
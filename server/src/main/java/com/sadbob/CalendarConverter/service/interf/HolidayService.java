@@ -4,22 +4,32 @@ import com.sadbob.CalendarConverter.entity.Holiday;
 import com.sadbob.CalendarConverter.enums.CalendarType;
 import com.sadbob.CalendarConverter.enums.HolidayType;
 import com.sadbob.CalendarConverter.repository.HolidayRepository;
+import com.sadbob.CalendarConverter.util.CalendarDate;
+import com.sadbob.CalendarConverter.util.HolidayIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public interface HolidayService {
 
     List<Holiday> getHolidaysForDate(String calendarType, String date);
+    List<Holiday> getHolidaysForDate(CalendarDate date);
     List<Holiday> getHolidaysForMonth(String calendarType, int year, int month);
     List<Holiday> getUpcomingHolidays(String calendarType, int currentMonth, int currentDay);
     List<Holiday> getHolidaysByType(String calendarType, String holidayType);
     List<String> getHolidayNamesForDate(String calendarType, String date);
+    List<String> getHolidayNamesForDate(CalendarDate date);
+    // Names for many dates from one snapshot; every date gets an entry
+    Map<CalendarDate, List<String>> getHolidayNames(Collection<CalendarDate> dates);
+    // The current snapshot; its version changes whenever the holidays do
+    HolidayIndex getHolidayIndex();
 
 }
@@ -0,0 +1,87 @@
+package com.sadbob.CalendarConverter.util;
+
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Converts arrays of Gregorian epoch days in one call, for reconciliation-sized
+ * workloads. When the JVM is started with {@code --add-modules jdk.incubator.vector}
+ * the Ethiopian and Hijri paths run on the Vector API; otherwise, or with
+ * {@code calendar.batch.vectorized=false}, they loop over the scalar converters.
+ * Both paths produce identical results.
+ */
+@Component
+public class BatchDateConverter {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchDateConverter.class);
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    private final EthiopianDateConverter ethiopianConverter;
+    private final HijriDateConverter hijriConverter;
+    private final boolean vectorized;
+
+    public BatchDateConverter(EthiopianDateConverter ethiopianConverter,
+                              HijriDateConverter hijriConverter,
+                              @Value("${calendar.batch.vectorized:true}") boolean vectorized) {
+        this.ethiopianConverter = ethiopianConverter;
+        this.hijriConverter = hijriConverter;
+        this.vectorized = vectorized && isVectorApiAvailable();
+        if (vectorized && !this.vectorized) {
+            log.info("{} is not enabled; batch conversions use the scalar converters", VECTOR_MODULE);
+        }
+    }
+
+    public static boolean isVectorApiAvailable() {
+        return ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+    }
+
+    public boolean isVectorized() {
+        return vectorized;
+    }
+
+    /**
+     * Writes the {@link PackedDate} of each epoch day in {@code target} to the same
+     * index of {@code outPacked}. Hijri days outside the Umm al-Qura table throw
+     * {@link java.time.DateTimeException}, as the single-date converter does.
+     */
+    public void convertBatch(long[] epochDays, int[] outPacked, CalendarType target) {
+        if (outPacked.length < epochDays.length) {
+            throw new IllegalArgumentException("Output holds " + outPacked.length
+                    + " dates but " + epochDays.length + " were given");
+        }
+        int length = epochDays.length;
+
+        switch (target) {
+            case ETHIOPIAN -> {
+                if (vectorized) {
+                    VectorBatchKernel.toEthiopian(epochDays, outPacked, length, ethiopianConverter);
+                } else {
+                    for (int i = 0; i < length; i++) {
+                        outPacked[i] = ethiopianConverter.toEthiopianPacked(epochDays[i]);
+                    }
+                }
+            }
+            case HIJRI -> {
+                if (vectorized) {
+                    VectorBatchKernel.toHijri(epochDays, outPacked, length, hijriConverter);
+                } else {
+                    for (int i = 0; i < length; i++) {
+                        outPacked[i] = hijriConverter.toHijriPacked(epochDays[i]);
+                    }
+                }
+            }
+            case GREGORIAN -> {
+                for (int i = 0; i < length; i++) {
+                    LocalDate date = LocalDate.ofEpochDay(epochDays[i]);
+                    outPacked[i] = PackedDate.pack(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.sadbob.CalendarConverter.util;
+
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import com.sadbob.CalendarConverter.exception.InvalidDateException;
+
+/**
+ * A date in one of the supported calendars, held as its calendar type plus a
+ * {@link PackedDate} int. Requests are parsed into this once at the controller
+ * edge and the services pass it down instead of re-splitting "yyyy-MM-dd" strings.
+ */
+public record CalendarDate(CalendarType calendarType, int packed) {
+
+    public static CalendarDate of(CalendarType calendarType, int year, int month, int day) {
+        return new CalendarDate(calendarType, PackedDate.pack(year, month, day));
+    }
+
+    /**
+     * Parses the "yyyy-MM-dd" shape only; range checks against the calendar are
+     * done by {@code DateValidationService}.
+     */
+    public static CalendarDate parse(CalendarType calendarType, String date) {
+        int packed = IsoDateCodec.parse(date);
+        if (packed == IsoDateCodec.INVALID) {
+            throw new InvalidDateException("Date must be in YYYY-MM-DD format: " + date);
+        }
+        return new CalendarDate(calendarType, packed);
+    }
+
+    public int year() {
+        return PackedDate.year(packed);
+    }
+
+    public int month() {
+        return PackedDate.month(packed);
+    }
+
+    public int day() {
+        return PackedDate.day(packed);
+    }
+
+    public StringBuilder appendTo(StringBuilder target) {
+        return IsoDateCodec.appendTo(target, packed);
+    }
+
+    @Override
+    public String toString() {
+        return IsoDateCodec.format(packed);
+    }
+}
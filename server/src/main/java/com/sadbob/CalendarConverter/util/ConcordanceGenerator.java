@@ -0,0 +1,54 @@
+package com.sadbob.CalendarConverter.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Build-time generator for the concordance file read by {@link ConcordanceTable}.
+ * Invoked from the {@code process-classes} phase with the output path as its only argument.
+ */
+public final class ConcordanceGenerator {
+
+    private ConcordanceGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: ConcordanceGenerator <output file>");
+        }
+        write(Path.of(args[0]));
+    }
+
+    public static void write(Path output) throws IOException {
+        EthiopianDateConverter ethiopianConverter = new EthiopianDateConverter();
+        HijriDateConverter hijriConverter = new HijriDateConverter();
+
+        long firstEpochDay = ConcordanceTable.FIRST_DAY.toEpochDay();
+        int recordCount = (int) (ConcordanceTable.LAST_DAY.toEpochDay() - firstEpochDay + 1);
+
+        ByteBuffer records = ByteBuffer.allocate(recordCount * ConcordanceTable.RECORD_SIZE);
+        for (int i = 0; i < recordCount; i++) {
+            long epochDay = firstEpochDay + i;
+            records.putInt(ethiopianConverter.toEthiopianPacked(epochDay));
+            records.putInt(hijriConverter.toHijriPacked(epochDay));
+        }
+        records.flip();
+
+        ByteBuffer header = ByteBuffer.allocate(ConcordanceTable.HEADER_SIZE);
+        header.putInt(ConcordanceTable.MAGIC)
+                .putInt(ConcordanceTable.VERSION)
+                .putLong(firstEpochDay)
+                .putInt(recordCount)
+                .putInt(ConcordanceTable.RECORD_SIZE)
+                .putLong(ConcordanceTable.checksum(records));
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (OutputStream out = Files.newOutputStream(output)) {
+            out.write(header.array());
+            out.write(records.array());
+        }
+    }
+}
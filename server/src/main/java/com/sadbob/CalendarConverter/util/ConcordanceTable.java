@@ -0,0 +1,169 @@
+package com.sadbob.CalendarConverter.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.zip.CRC32;
+
+/**
+ * Read-only view over the precomputed Gregorian → Ethiopian/Hijri concordance file
+ * produced by {@link ConcordanceGenerator} at build time.
+ *
+ * <p>File layout (big-endian): a {@value #HEADER_SIZE}-byte header holding the magic,
+ * format version, first epoch day, record count, record size and a CRC32 of the
+ * record block, followed by one {@value #RECORD_SIZE}-byte record per Gregorian day:
+ * packed Ethiopian date and packed Hijri date.</p>
+ *
+ * <p>Lookups are absolute reads on a {@link MappedByteBuffer}, so they are O(1),
+ * allocation-free and safe to share between threads.</p>
+ */
+public final class ConcordanceTable {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcordanceTable.class);
+
+    public static final int MAGIC = 0x43434F4E; // "CCON"
+    public static final int VERSION = 2;
+    public static final int HEADER_SIZE = 32;
+    public static final int RECORD_SIZE = 8;
+
+    public static final LocalDate FIRST_DAY = LocalDate.of(1900, 1, 1);
+    public static final LocalDate LAST_DAY = LocalDate.of(2100, 12, 31);
+
+    public static final String RESOURCE_PATH = "concordance/concordance-v" + VERSION + ".bin";
+
+    public enum Mode {
+        // Pages the whole file in and verifies its checksum at startup
+        RESIDENT,
+        // Maps the file and lets the OS page records in on first access; header checks only
+        LAZY,
+        // Always use the arithmetic converters
+        DISABLED
+    }
+
+    private static final ConcordanceTable EMPTY = new ConcordanceTable(null, 0, 0);
+
+    private final ByteBuffer records;
+    private final long firstEpochDay;
+    private final long endEpochDay;
+
+    private ConcordanceTable(ByteBuffer records, long firstEpochDay, int recordCount) {
+        this.records = records;
+        this.firstEpochDay = firstEpochDay;
+        this.endEpochDay = firstEpochDay + recordCount;
+    }
+
+    public static ConcordanceTable empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Loads the table from an explicit file, or from the bundled classpath resource
+     * when {@code path} is blank. Any problem is logged and yields an empty table so
+     * the converters fall back to arithmetic.
+     */
+    public static ConcordanceTable load(String path, Mode mode) {
+        if (mode == Mode.DISABLED) {
+            return EMPTY;
+        }
+        try {
+            Path file = (path == null || path.isBlank()) ? locateBundledFile() : Path.of(path);
+            if (file == null) {
+                log.info("Concordance table {} not found on the classpath; using arithmetic converters", RESOURCE_PATH);
+                return EMPTY;
+            }
+            return map(file, mode);
+        } catch (IOException | IllegalStateException e) {
+            log.warn("Concordance table could not be loaded; using arithmetic converters: {}", e.getMessage());
+            return EMPTY;
+        }
+    }
+
+    static ConcordanceTable map(Path file, Mode mode) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalStateException("not a concordance file: " + file);
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new IllegalStateException("unsupported concordance version " + version + " in " + file);
+        }
+        long firstEpochDay = buffer.getLong(8);
+        int recordCount = buffer.getInt(16);
+        int recordSize = buffer.getInt(20);
+        long checksum = buffer.getLong(24);
+        if (recordSize != RECORD_SIZE || buffer.capacity() != HEADER_SIZE + (long) recordCount * RECORD_SIZE) {
+            throw new IllegalStateException("truncated or malformed concordance file: " + file);
+        }
+
+        ByteBuffer records = buffer.slice(HEADER_SIZE, recordCount * RECORD_SIZE);
+        if (mode == Mode.RESIDENT) {
+            buffer.load();
+            if (checksum(records) != checksum) {
+                throw new IllegalStateException("checksum mismatch in concordance file: " + file);
+            }
+        }
+
+        log.info("Loaded {} concordance table with {} days from {}", mode, recordCount, file);
+        return new ConcordanceTable(records, firstEpochDay, recordCount);
+    }
+
+    static long checksum(ByteBuffer records) {
+        CRC32 crc = new CRC32();
+        crc.update(records.duplicate());
+        return crc.getValue();
+    }
+
+    public boolean covers(long epochDay) {
+        return epochDay >= firstEpochDay && epochDay < endEpochDay;
+    }
+
+    // Callers must check covers(epochDay) first
+    public int ethiopianPacked(long epochDay) {
+        return records.getInt(offset(epochDay));
+    }
+
+    public int hijriPacked(long epochDay) {
+        return records.getInt(offset(epochDay) + 4);
+    }
+
+    private int offset(long epochDay) {
+        return (int) (epochDay - firstEpochDay) * RECORD_SIZE;
+    }
+
+    // A jar entry cannot be mapped, so copy it out to a temporary file first
+    private static Path locateBundledFile() throws IOException {
+        URL resource = ConcordanceTable.class.getClassLoader().getResource(RESOURCE_PATH);
+        if (resource == null) {
+            return null;
+        }
+        if ("file".equals(resource.getProtocol())) {
+            try {
+                return Path.of(resource.toURI());
+            } catch (java.net.URISyntaxException e) {
+                throw new IOException(e);
+            }
+        }
+
+        Path copy = Files.createTempFile("concordance-v" + VERSION, ".bin");
+        copy.toFile().deleteOnExit();
+        try (InputStream in = resource.openStream()) {
+            Files.copy(in, copy, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,169 @@
+package com.sadbob.CalendarConverter.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming RFC 4180 reader. Holds one record at a time, both as fields and as the raw
+ * text it was read from (without the line break), so a record can be echoed back
+ * byte for byte with extra columns appended. Quoted fields may contain delimiters,
+ * doubled quotes and line breaks; a quote inside an unquoted field is kept literally.
+ */
+public final class CsvRecordReader {
+
+    private static final int BUFFER_CHARS = 1 << 16;
+    private static final int EOF = -1;
+
+    private final Reader reader;
+    private final char delimiter;
+    private final int maxRecordChars;
+    private final char[] buffer = new char[BUFFER_CHARS];
+    private int position;
+    private int limit;
+
+    private final StringBuilder raw = new StringBuilder();
+    private final StringBuilder field = new StringBuilder();
+    private final List<String> fields = new ArrayList<>();
+    private long recordNumber;
+
+    public CsvRecordReader(Reader reader, char delimiter, int maxRecordChars) throws IOException {
+        this.reader = reader;
+        this.delimiter = delimiter;
+        this.maxRecordChars = maxRecordChars;
+        // Spreadsheet exports often start with a UTF-8 byte order mark
+        if (peek() == '﻿') {
+            position++;
+        }
+    }
+
+    /**
+     * Reads the next record; false at end of input.
+     */
+    public boolean next() throws IOException {
+        raw.setLength(0);
+        field.setLength(0);
+        fields.clear();
+
+        int c = read();
+        if (c == EOF) {
+            return false;
+        }
+        recordNumber++;
+        boolean quoted = false;
+        boolean fieldStart = true;
+        while (true) {
+            if (c == EOF) {
+                if (quoted) {
+                    throw new IOException("Unterminated quoted field in record " + recordNumber);
+                }
+                fields.add(field.toString());
+                return true;
+            }
+            char ch = (char) c;
+            if (quoted) {
+                raw.append(ch);
+                if (ch != '"') {
+                    field.append(ch);
+                } else if (peek() == '"') {
+                    raw.append((char) read());
+                    field.append('"');
+                } else {
+                    quoted = false;
+                }
+            } else if (ch == delimiter) {
+                raw.append(ch);
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStart = true;
+                c = read();
+                continue;
+            } else if (ch == '\n') {
+                fields.add(field.toString());
+                return true;
+            } else if (ch == '\r') {
+                if (peek() == '\n') {
+                    position++;
+                }
+                fields.add(field.toString());
+                return true;
+            } else {
+                raw.append(ch);
+                if (ch == '"' && fieldStart) {
+                    quoted = true;
+                } else {
+                    field.append(ch);
+                }
+            }
+            fieldStart = false;
+            if (raw.length() > maxRecordChars) {
+                throw new IOException("Record " + recordNumber + " is longer than " + maxRecordChars + " characters");
+            }
+            c = read();
+        }
+    }
+
+    public List<String> fields() {
+        return fields;
+    }
+
+    public CharSequence raw() {
+        return raw;
+    }
+
+    public long recordNumber() {
+        return recordNumber;
+    }
+
+    /**
+     * Appends {@code value} to {@code out} as one CSV field, quoting it only when needed.
+     */
+    public static void appendField(Appendable out, String value, char delimiter) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char ch = value.charAt(i);
+            needsQuotes = ch == delimiter || ch == '"' || ch == '\n' || ch == '\r';
+        }
+        if (!needsQuotes) {
+            out.append(value);
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch == '"') {
+                out.append('"');
+            }
+            out.append(ch);
+        }
+        out.append('"');
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return EOF;
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return EOF;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+}
@@ -1,50 +1,76 @@
 package com.sadbob.CalendarConverter.util;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import java.time.LocalDate;
 
 @Component
 public class EthiopianDateConverter {
 
-    public EthiopianDate toEthiopian(int gregorianYear, int gregorianMonth, int gregorianDay) {
-        LocalDate gregorianDate = LocalDate.of(gregorianYear, gregorianMonth, gregorianDay);
+    // Epoch day of 1 Mäskäräm of Ethiopian year 0 (Amete Mihret); year 1 starts 365 days later
+    static final long YEAR_ZERO_EPOCH_DAY = -716732L;
 
-        int ethiopianYear = gregorianYear - 7;
-        if (gregorianMonth < 9 || (gregorianMonth == 9 && gregorianDay < 11)) {
-            ethiopianYear--;
-        }
+    // Four Ethiopian years, the last of which (year % 4 == 3) carries the sixth day of Ṗagume
+    static final int DAYS_PER_CYCLE = 1461;
 
-        LocalDate newYear = LocalDate.of(gregorianYear, 9, 11);
-        if (gregorianYear % 4 == 3) { // leap year adjustment
-            newYear = LocalDate.of(gregorianYear, 9, 12);
-        }
+    private final ConcordanceTable concordance;
 
-        long daysBetween = java.time.temporal.ChronoUnit.DAYS.between(newYear, gregorianDate);
-        if (daysBetween < 0) {
-            newYear = newYear.minusYears(1);
-            daysBetween = java.time.temporal.ChronoUnit.DAYS.between(newYear, gregorianDate);
-            ethiopianYear--;
-        }
+    // Arithmetic only, for use outside the Spring context
+    public EthiopianDateConverter() {
+        this(ConcordanceTable.empty());
+    }
 
-        int ethiopianMonth = (int) (daysBetween / 30) + 1;
-        int ethiopianDay = (int) (daysBetween % 30) + 1;
+    @Autowired
+    public EthiopianDateConverter(ConcordanceTable concordance) {
+        this.concordance = concordance;
+    }
 
-        return new EthiopianDate(ethiopianYear, ethiopianMonth, ethiopianDay);
+    public EthiopianDate toEthiopian(int gregorianYear, int gregorianMonth, int gregorianDay) {
+        int packed = toEthiopianPacked(LocalDate.of(gregorianYear, gregorianMonth, gregorianDay).toEpochDay());
+        return new EthiopianDate(PackedDate.year(packed), PackedDate.month(packed), PackedDate.day(packed));
     }
 
-    // 👇 ADD THIS: Ethiopian → Gregorian
+    // Ethiopian → Gregorian
     public LocalDate toGregorian(int ethYear, int ethMonth, int ethDay) {
-        // Ethiopian new year in Gregorian
-        int gregorianYear = ethYear + 8;
-        LocalDate newYear = LocalDate.of(gregorianYear, 9, 11);
-        if (gregorianYear % 4 == 3) {
-            newYear = LocalDate.of(gregorianYear, 9, 12);
+        return LocalDate.ofEpochDay(ethiopianToEpochDay(ethYear, ethMonth, ethDay));
+    }
+
+    /**
+     * Allocation-free Gregorian epoch day → Ethiopian conversion, served from the
+     * concordance table inside its window and by arithmetic outside it.
+     * Returns the Ethiopian date packed with {@link PackedDate}.
+     */
+    public int toEthiopianPacked(long epochDay) {
+        if (concordance.covers(epochDay)) {
+            return concordance.ethiopianPacked(epochDay);
         }
 
-        // Days since Ethiopian New Year
-        int daysSinceNewYear = (ethMonth - 1) * 30 + (ethDay - 1);
+        long daysSinceYearZero = epochDay - YEAR_ZERO_EPOCH_DAY;
+        long cycle = Math.floorDiv(daysSinceYearZero, DAYS_PER_CYCLE);
+        int dayOfCycle = (int) Math.floorMod(daysSinceYearZero, DAYS_PER_CYCLE);
+
+        // The leap year closes the cycle, so its 366th day must not roll over into a fifth year
+        int yearOfCycle = Math.min(dayOfCycle / 365, 3);
+        int dayOfYear = dayOfCycle - yearOfCycle * 365;
+
+        int year = (int) (cycle * 4 + yearOfCycle);
+        return PackedDate.pack(year, dayOfYear / 30 + 1, dayOfYear % 30 + 1);
+    }
+
+    /**
+     * Allocation-free Ethiopian → Gregorian epoch day conversion.
+     * The fields are not range checked; callers validate them beforehand.
+     */
+    public long ethiopianToEpochDay(int ethYear, int ethMonth, int ethDay) {
+        return YEAR_ZERO_EPOCH_DAY
+                + 365L * ethYear
+                + Math.floorDiv(ethYear, 4)
+                + 30L * (ethMonth - 1)
+                + (ethDay - 1);
+    }
 
-        return newYear.plusDays(daysSinceNewYear);
+    public boolean isLeapYear(int ethYear) {
+        return Math.floorMod(ethYear, 4) == 3;
     }
 
     public record EthiopianDate(int year, int month, int day) {}
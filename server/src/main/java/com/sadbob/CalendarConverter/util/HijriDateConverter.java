@@ -1,30 +1,131 @@
 package com.sadbob.CalendarConverter.util;
 
 
+import java.time.DateTimeException;
 import java.time.LocalDate;
+import java.time.chrono.HijrahChronology;
 import java.time.chrono.HijrahDate;
 import java.time.temporal.ChronoField;
+import java.time.temporal.ValueRange;
+import java.util.Arrays;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
 public class HijriDateConverter {
 
-    // Convert Gregorian to Hijri (Umm al-Qura)
-    public HijriDate toHijri(int gregorianYear, int gregorianMonth, int gregorianDay) {
-        LocalDate gregorianDate = LocalDate.of(gregorianYear, gregorianMonth, gregorianDay);
-        HijrahDate hijrahDate = HijrahDate.from(gregorianDate);
+    private static final int MIN_YEAR;
+    private static final int MAX_YEAR;
+
+    // Epoch day of the first day of every supported Umm al-Qura month, in order,
+    // followed by one sentinel entry holding the day after the last supported month
+    private static final int[] MONTH_STARTS;
+
+    static {
+        ValueRange years = HijrahChronology.INSTANCE.range(ChronoField.YEAR);
+        MIN_YEAR = (int) years.getMinimum();
+        MAX_YEAR = (int) years.getMaximum();
+
+        int months = (MAX_YEAR - MIN_YEAR + 1) * 12;
+        int[] starts = new int[months + 1];
+        for (int i = 0; i < months; i++) {
+            starts[i] = (int) HijrahDate.of(MIN_YEAR + i / 12, i % 12 + 1, 1).toEpochDay();
+        }
+        starts[months] = starts[months - 1] + HijrahDate.of(MAX_YEAR, 12, 1).lengthOfMonth();
+        MONTH_STARTS = starts;
+    }
+
+    private final ConcordanceTable concordance;
+
+    // Table search only, for use outside the Spring context
+    public HijriDateConverter() {
+        this(ConcordanceTable.empty());
+    }
 
-        int hYear = hijrahDate.get(ChronoField.YEAR);
-        int hMonth = hijrahDate.get(ChronoField.MONTH_OF_YEAR);
-        int hDay = hijrahDate.get(ChronoField.DAY_OF_MONTH);
+    @Autowired
+    public HijriDateConverter(ConcordanceTable concordance) {
+        this.concordance = concordance;
+    }
 
-        return new HijriDate(hYear, hMonth, hDay);
+    // Convert Gregorian to Hijri (Umm al-Qura)
+    public HijriDate toHijri(int gregorianYear, int gregorianMonth, int gregorianDay) {
+        int packed = toHijriPacked(LocalDate.of(gregorianYear, gregorianMonth, gregorianDay).toEpochDay());
+        return new HijriDate(PackedDate.year(packed), PackedDate.month(packed), PackedDate.day(packed));
     }
 
     // Convert Hijri to Gregorian
     public LocalDate toGregorian(int hijriYear, int hijriMonth, int hijriDay) {
-        HijrahDate hijrahDate = HijrahDate.of(hijriYear, hijriMonth, hijriDay);
-        return LocalDate.from(hijrahDate);
+        return LocalDate.ofEpochDay(hijriToEpochDay(hijriYear, hijriMonth, hijriDay));
+    }
+
+    /**
+     * Allocation-free Gregorian epoch day → Hijri conversion, served from the
+     * concordance table inside its window and by a binary search over the
+     * month-start table outside it. Returns the Hijri date packed with {@link PackedDate}.
+     */
+    public int toHijriPacked(long epochDay) {
+        if (concordance.covers(epochDay)) {
+            return concordance.hijriPacked(epochDay);
+        }
+        if (epochDay < MONTH_STARTS[0] || epochDay >= MONTH_STARTS[MONTH_STARTS.length - 1]) {
+            throw new DateTimeException("Hijrah date out of range: epoch day " + epochDay);
+        }
+
+        int index = Arrays.binarySearch(MONTH_STARTS, (int) epochDay);
+        if (index < 0) {
+            index = -index - 2;
+        }
+
+        return PackedDate.pack(MIN_YEAR + index / 12, index % 12 + 1, (int) (epochDay - MONTH_STARTS[index]) + 1);
+    }
+
+    /**
+     * Allocation-free Hijri → Gregorian epoch day conversion.
+     */
+    public long hijriToEpochDay(int hijriYear, int hijriMonth, int hijriDay) {
+        int index = monthIndex(hijriYear, hijriMonth);
+        if (hijriDay < 1 || hijriDay > MONTH_STARTS[index + 1] - MONTH_STARTS[index]) {
+            throw new DateTimeException("Invalid Hijrah day of month: " + hijriDay);
+        }
+        return MONTH_STARTS[index] + hijriDay - 1L;
+    }
+
+    public int monthLength(int hijriYear, int hijriMonth) {
+        int index = monthIndex(hijriYear, hijriMonth);
+        return MONTH_STARTS[index + 1] - MONTH_STARTS[index];
+    }
+
+    // Years covered by the Umm al-Qura table; no other Hijri year can be converted
+    public boolean supportsYear(int hijriYear) {
+        return hijriYear >= MIN_YEAR && hijriYear <= MAX_YEAR;
+    }
+
+    public long minEpochDay() {
+        return MONTH_STARTS[0];
+    }
+
+    // Exclusive upper bound
+    public long maxEpochDay() {
+        return MONTH_STARTS[MONTH_STARTS.length - 1];
+    }
+
+    // Shared with the batch kernels, which must not modify it
+    static int[] monthStarts() {
+        return MONTH_STARTS;
+    }
+
+    static int minYear() {
+        return MIN_YEAR;
+    }
+
+    private int monthIndex(int hijriYear, int hijriMonth) {
+        if (hijriYear < MIN_YEAR || hijriYear > MAX_YEAR) {
+            throw new DateTimeException("Hijrah year out of range: " + hijriYear);
+        }
+        if (hijriMonth < 1 || hijriMonth > 12) {
+            throw new DateTimeException("Invalid Hijrah month: " + hijriMonth);
+        }
+        return (hijriYear - MIN_YEAR) * 12 + hijriMonth - 1;
     }
 
     // Record to hold Hijri date
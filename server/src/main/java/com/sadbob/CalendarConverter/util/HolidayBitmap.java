@@ -0,0 +1,182 @@
+package com.sadbob.CalendarConverter.util;
+
+import java.util.Collection;
+
+/**
+ * Immutable set of holiday days over one contiguous run of epoch days, one bit per
+ * day. A membership check is a single bit test and a count over a range is a popcount
+ * over the covered words, with the two end words masked.
+ */
+public final class HolidayBitmap {
+
+    private final long firstEpochDay;
+    private final int days;
+    private final long[] words;
+
+    private HolidayBitmap(long firstEpochDay, int days, long[] words) {
+        this.firstEpochDay = firstEpochDay;
+        this.days = days;
+        this.words = words;
+    }
+
+    public static Builder builder(long firstEpochDay, int days) {
+        return new Builder(firstEpochDay, days);
+    }
+
+    // Takes ownership of words; bits past the last day are cleared
+    static HolidayBitmap ofWords(long firstEpochDay, int days, long[] words) {
+        if (words.length != (days + 63) >>> 6) {
+            throw new IllegalArgumentException("Expected " + ((days + 63) >>> 6) + " words for " + days + " days");
+        }
+        if ((days & 63) != 0) {
+            words[words.length - 1] &= -1L >>> (64 - (days & 63));
+        }
+        return new HolidayBitmap(firstEpochDay, days, words);
+    }
+
+    /**
+     * Bitmaps over the same days, combined word by word. All of them must start on
+     * the same epoch day and have the same length.
+     */
+    public static HolidayBitmap union(Collection<HolidayBitmap> bitmaps) {
+        if (bitmaps.isEmpty()) {
+            throw new IllegalArgumentException("Nothing to combine");
+        }
+        HolidayBitmap first = bitmaps.iterator().next();
+        long[] words = new long[first.words.length];
+        for (HolidayBitmap bitmap : bitmaps) {
+            if (bitmap.firstEpochDay != first.firstEpochDay || bitmap.days != first.days) {
+                throw new IllegalArgumentException("Bitmaps cover different days");
+            }
+            for (int i = 0; i < words.length; i++) {
+                words[i] |= bitmap.words[i];
+            }
+        }
+        return new HolidayBitmap(first.firstEpochDay, first.days, words);
+    }
+
+    public long firstEpochDay() {
+        return firstEpochDay;
+    }
+
+    public long lastEpochDay() {
+        return firstEpochDay + days - 1;
+    }
+
+    public int days() {
+        return days;
+    }
+
+    public boolean contains(long epochDay) {
+        long offset = epochDay - firstEpochDay;
+        if (offset < 0 || offset >= days) {
+            return false;
+        }
+        return (words[(int) (offset >>> 6)] & (1L << offset)) != 0;
+    }
+
+    // Holiday days in [fromEpochDay, toEpochDay], both inclusive and clipped to this bitmap
+    public int count(long fromEpochDay, long toEpochDay) {
+        long from = Math.max(fromEpochDay, firstEpochDay) - firstEpochDay;
+        long to = Math.min(toEpochDay, lastEpochDay()) - firstEpochDay;
+        if (from > to) {
+            return 0;
+        }
+        int firstWord = (int) (from >>> 6);
+        int lastWord = (int) (to >>> 6);
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> (63 - (to & 63));
+        if (firstWord == lastWord) {
+            return Long.bitCount(words[firstWord] & firstMask & lastMask);
+        }
+        int count = Long.bitCount(words[firstWord] & firstMask);
+        for (int i = firstWord + 1; i < lastWord; i++) {
+            count += Long.bitCount(words[i]);
+        }
+        return count + Long.bitCount(words[lastWord] & lastMask);
+    }
+
+    public int cardinality() {
+        return count(firstEpochDay, lastEpochDay());
+    }
+
+    // Days in [fromEpochDay, toEpochDay], clipped to this bitmap, whose bit is clear
+    public int countClear(long fromEpochDay, long toEpochDay) {
+        long from = Math.max(fromEpochDay, firstEpochDay);
+        long to = Math.min(toEpochDay, lastEpochDay());
+        return from > to ? 0 : (int) (to - from + 1) - count(from, to);
+    }
+
+    /**
+     * The n-th day (1-based) at or after {@code fromEpochDay} whose bit is clear.
+     * Whole words are skipped by their popcount, so only the word holding the
+     * answer is walked bit by bit. There must be at least n such days left.
+     */
+    public long nthClear(long fromEpochDay, int n) {
+        long from = Math.max(fromEpochDay, firstEpochDay) - firstEpochDay;
+        if (n < 1 || from >= days) {
+            throw new IllegalArgumentException("No clear day " + n + " from epoch day " + fromEpochDay);
+        }
+        int word = (int) (from >>> 6);
+        long clear = ~words[word] & (-1L << from);
+        int remaining = n;
+        while (true) {
+            if (word == words.length - 1 && (days & 63) != 0) {
+                clear &= -1L >>> (64 - (days & 63));
+            }
+            int free = Long.bitCount(clear);
+            if (free >= remaining) {
+                break;
+            }
+            remaining -= free;
+            if (++word == words.length) {
+                throw new IllegalArgumentException("No clear day " + n + " from epoch day " + fromEpochDay);
+            }
+            clear = ~words[word];
+        }
+        for (int i = 1; i < remaining; i++) {
+            clear &= clear - 1;
+        }
+        return firstEpochDay + ((long) word << 6) + Long.numberOfTrailingZeros(clear);
+    }
+
+    public static final class Builder {
+        private final long firstEpochDay;
+        private final int days;
+        private final long[] words;
+
+        private Builder(long firstEpochDay, int days) {
+            if (days < 0) {
+                throw new IllegalArgumentException("Negative length: " + days);
+            }
+            this.firstEpochDay = firstEpochDay;
+            this.days = days;
+            this.words = new long[(days + 63) >>> 6];
+        }
+
+        // Days outside the bitmap are ignored
+        public Builder set(long epochDay) {
+            long offset = epochDay - firstEpochDay;
+            if (offset >= 0 && offset < days) {
+                words[(int) (offset >>> 6)] |= 1L << offset;
+            }
+            return this;
+        }
+
+        // Adds the days of another bitmap that fall inside this one
+        public Builder or(HolidayBitmap other) {
+            for (int i = 0; i < other.words.length; i++) {
+                long word = other.words[i];
+                while (word != 0) {
+                    set(other.firstEpochDay + ((long) i << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return this;
+        }
+
+        public HolidayBitmap build() {
+            return new HolidayBitmap(firstEpochDay, days, words.clone());
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.sadbob.CalendarConverter.util;
+
+import com.sadbob.CalendarConverter.entity.Holiday;
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import com.sadbob.CalendarConverter.enums.HolidayType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable in-memory copy of the holidays table, built from one full scan. Per
+ * calendar, holidays sit in an array indexed by {@code month * 32 + day} and in one
+ * list sorted by month and day, so a month or "from this day on" is a sublist of it.
+ * Lookups take no locks and build nothing; every list handed out is unmodifiable.
+ *
+ * Movable holidays are kept apart and placed by {@link MovableFeastEngine} for the
+ * year asked about; they are handed out as copies pinned to that year's date.
+ */
+public final class HolidayIndex {
+
+    public static final HolidayIndex EMPTY = build(List.of(), 0);
+
+    // Months 1-13 (Ethiopian Pagume) and days 1-31
+    private static final int MAX_MONTH = 13;
+    private static final int KEYS = (MAX_MONTH + 1) * 32;
+
+    private final Map<CalendarType, CalendarHolidays> calendars;
+    private final int size;
+    private final long version;
+
+    private HolidayIndex(Map<CalendarType, CalendarHolidays> calendars, int size, long version) {
+        this.calendars = calendars;
+        this.size = size;
+        this.version = version;
+    }
+
+    /**
+     * Rows with a month or day outside the index are left out. {@code version} should
+     * grow with every rebuild, so anything derived from an index can be keyed by it.
+     */
+    public static HolidayIndex build(Collection<Holiday> holidays, long version) {
+        Map<CalendarType, List<Holiday>> grouped = new EnumMap<>(CalendarType.class);
+        for (CalendarType type : CalendarType.values()) {
+            grouped.put(type, new ArrayList<>());
+        }
+        int size = 0;
+        for (Holiday holiday : holidays) {
+            if (holiday.getCalendarType() != null && (holiday.getMovableRule() != null
+                    ? holiday.getMovableRule().getCalendarType() == holiday.getCalendarType()
+                    : isIndexed(holiday.getMonthNumber(), holiday.getDayOfMonth()))) {
+                grouped.get(holiday.getCalendarType()).add(holiday);
+                size++;
+            }
+        }
+
+        Map<CalendarType, CalendarHolidays> calendars = new EnumMap<>(CalendarType.class);
+        grouped.forEach((type, list) -> calendars.put(type, new CalendarHolidays(list)));
+        return new HolidayIndex(calendars, size, version);
+    }
+
+    public static int monthDayKey(int month, int day) {
+        return month * 32 + day;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public List<Holiday> forDate(CalendarType calendarType, int year, int month, int day) {
+        if (!isIndexed(month, day)) {
+            return List.of();
+        }
+        CalendarHolidays holidays = calendars.get(calendarType);
+        List<Holiday> fixed = holidays.byDay[monthDayKey(month, day)];
+        if (holidays.movable.isEmpty()) {
+            return fixed;
+        }
+        return withMovable(fixed, holidays, year, monthDayKey(month, day), monthDayKey(month, day) + 1);
+    }
+
+    public List<String> namesForDate(CalendarType calendarType, int year, int month, int day) {
+        if (!isIndexed(month, day)) {
+            return List.of();
+        }
+        CalendarHolidays holidays = calendars.get(calendarType);
+        List<String> fixed = holidays.namesByDay[monthDayKey(month, day)];
+        if (holidays.movable.isEmpty()) {
+            return fixed;
+        }
+        int key = monthDayKey(month, day);
+        List<Holiday> movable = holidays.movableIn(year, key, key + 1);
+        if (movable.isEmpty()) {
+            return fixed;
+        }
+        List<String> names = new ArrayList<>(fixed);
+        movable.forEach(h -> names.add(h.getName()));
+        return List.copyOf(names);
+    }
+
+    // Recurring holidays plus the one-off holidays of the given year
+    public List<Holiday> forMonth(CalendarType calendarType, int month, int year) {
+        if (month < 1 || month > MAX_MONTH) {
+            return List.of();
+        }
+        CalendarHolidays holidays = calendars.get(calendarType);
+        List<Holiday> slice = holidays.from(monthDayKey(month, 0), monthDayKey(month + 1, 0));
+        if (holidays.hasOneOffs) {
+            slice = slice.stream().filter(h -> appliesIn(h, year)).toList();
+        }
+        if (holidays.movable.isEmpty()) {
+            return slice;
+        }
+        return withMovable(slice, holidays, year, monthDayKey(month, 0), monthDayKey(month + 1, 0));
+    }
+
+    // Holidays on or after the given day until the end of the year, by month and day
+    public List<Holiday> upcoming(CalendarType calendarType, int year, int month, int day) {
+        // A day past 31 reads as the start of the next month, as the SQL comparison did
+        int key = Math.max(0, Math.min(KEYS, monthDayKey(month, Math.max(0, Math.min(32, day)))));
+        CalendarHolidays holidays = calendars.get(calendarType);
+        List<Holiday> fixed = holidays.from(key, KEYS);
+        if (holidays.movable.isEmpty()) {
+            return fixed;
+        }
+        return withMovable(fixed, holidays, year, key, KEYS);
+    }
+
+    public List<Holiday> byType(CalendarType calendarType, HolidayType holidayType) {
+        return calendars.get(calendarType).byType.getOrDefault(holidayType, List.of());
+    }
+
+    // Adds the movable holidays falling in [fromKey, toKey) of the year, keeping month and day order
+    private static List<Holiday> withMovable(List<Holiday> fixed, CalendarHolidays holidays, int year, int fromKey, int toKey) {
+        List<Holiday> movable = holidays.movableIn(year, fromKey, toKey);
+        if (movable.isEmpty()) {
+            return fixed;
+        }
+        List<Holiday> merged = new ArrayList<>(fixed);
+        merged.addAll(movable);
+        merged.sort(Comparator.comparingInt(h -> monthDayKey(h.getMonthNumber(), h.getDayOfMonth())));
+        return List.copyOf(merged);
+    }
+
+    private static boolean appliesIn(Holiday holiday, int year) {
+        return Boolean.TRUE.equals(holiday.getIsRecurring()) || Integer.valueOf(year).equals(holiday.getSpecificYear());
+    }
+
+    private static boolean isIndexed(Integer month, Integer day) {
+        return month != null && day != null && month >= 1 && month <= MAX_MONTH && day >= 1 && day <= 31;
+    }
+
+    private static final class CalendarHolidays {
+        private final List<Holiday>[] byDay;
+        private final List<String>[] namesByDay;
+        private final List<Holiday> ordered;
+        // firstAtOrAfter[key] is the index in ordered of the first holiday whose key is >= key
+        private final int[] firstAtOrAfter = new int[KEYS + 1];
+        private final Map<HolidayType, List<Holiday>> byType = new EnumMap<>(HolidayType.class);
+        private final boolean hasOneOffs;
+        private final List<Holiday> movable;
+
+        @SuppressWarnings("unchecked")
+        CalendarHolidays(List<Holiday> holidays) {
+            this.byDay = new List[KEYS];
+            this.namesByDay = new List[KEYS];
+            this.movable = holidays.stream().filter(h -> h.getMovableRule() != null).toList();
+            this.ordered = holidays.stream()
+                    .filter(h -> h.getMovableRule() == null)
+                    .sorted(Comparator.comparingInt((Holiday h) -> monthDayKey(h.getMonthNumber(), h.getDayOfMonth())))
+                    .toList();
+
+            int next = 0;
+            for (int key = 0; key <= KEYS; key++) {
+                while (next < ordered.size() && monthDayKey(ordered.get(next).getMonthNumber(), ordered.get(next).getDayOfMonth()) < key) {
+                    next++;
+                }
+                firstAtOrAfter[key] = next;
+            }
+            for (int key = 0; key < KEYS; key++) {
+                List<Holiday> day = from(key, key + 1);
+                byDay[key] = day;
+                namesByDay[key] = day.stream().map(Holiday::getName).toList();
+            }
+
+            Map<HolidayType, List<Holiday>> grouped = new EnumMap<>(HolidayType.class);
+            boolean oneOffs = false;
+            for (Holiday holiday : holidays) {
+                if (holiday.getHolidayType() != null) {
+                    grouped.computeIfAbsent(holiday.getHolidayType(), type -> new ArrayList<>()).add(holiday);
+                }
+                oneOffs |= holiday.getMovableRule() == null && !Boolean.TRUE.equals(holiday.getIsRecurring());
+            }
+            grouped.forEach((type, list) -> byType.put(type, List.copyOf(list)));
+            this.hasOneOffs = oneOffs;
+        }
+
+        List<Holiday> from(int fromKey, int toKey) {
+            return ordered.subList(firstAtOrAfter[fromKey], firstAtOrAfter[toKey]);
+        }
+
+        List<Holiday> movableIn(int year, int fromKey, int toKey) {
+            List<Holiday> found = null;
+            for (Holiday holiday : movable) {
+                if (!appliesIn(holiday, year)) {
+                    continue;
+                }
+                int packed = MovableFeastEngine.dateOf(holiday, year);
+                if (packed < 0) {
+                    continue;
+                }
+                int key = monthDayKey(PackedDate.month(packed), PackedDate.day(packed));
+                if (key >= fromKey && key < toKey) {
+                    if (found == null) {
+                        found = new ArrayList<>();
+                    }
+                    found.add(holiday.resolvedIn(year, PackedDate.month(packed), PackedDate.day(packed)));
+                }
+            }
+            return found == null ? List.of() : found;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.sadbob.CalendarConverter.util;
+
+/**
+ * Char-level parser and formatter for calendar-neutral "yyyy-MM-dd" dates.
+ * Works on {@link PackedDate} ints and never allocates apart from the final
+ * {@code String} when one is asked for. Month 13 is accepted so Ethiopian
+ * Ṗagume dates round-trip; checking a date against its calendar is left to
+ * {@code DateValidationService}.
+ */
+public final class IsoDateCodec {
+
+    // Returned by parse for malformed input; no valid packed date is negative
+    public static final int INVALID = -1;
+
+    // Four-digit year plus the two separators and two-digit month and day
+    public static final int MIN_LENGTH = 10;
+
+    private static final int MAX_YEAR_DIGITS = 6;
+
+    // A sign and the seven digits a packed year can hold, plus "-MM-dd"
+    private static final int MAX_FORMATTED_LENGTH = 14;
+
+    private IsoDateCodec() {
+    }
+
+    public static int parse(CharSequence text) {
+        return text == null ? INVALID : parse(text, 0, text.length());
+    }
+
+    /**
+     * Parses {@code text[start, end)} into a packed date, or returns {@link #INVALID}.
+     * The year has four to six digits; month 01–13 and day 01–31.
+     */
+    public static int parse(CharSequence text, int start, int end) {
+        int yearDigits = end - start - 6;
+        if (yearDigits < 4 || yearDigits > MAX_YEAR_DIGITS) {
+            return INVALID;
+        }
+
+        int monthStart = start + yearDigits + 1;
+        if (text.charAt(monthStart - 1) != '-' || text.charAt(monthStart + 2) != '-') {
+            return INVALID;
+        }
+
+        int year = digits(text, start, start + yearDigits);
+        int month = digits(text, monthStart, monthStart + 2);
+        int day = digits(text, monthStart + 3, end);
+        if (year < 0 || month < 1 || month > 13 || day < 1 || day > 31) {
+            return INVALID;
+        }
+        return PackedDate.pack(year, month, day);
+    }
+
+    public static StringBuilder appendTo(StringBuilder target, int packedDate) {
+        return appendTo(target, PackedDate.year(packedDate), PackedDate.month(packedDate), PackedDate.day(packedDate));
+    }
+
+    // Years are zero-padded to four chars, sign included, as String.format("%04d") does
+    public static StringBuilder appendTo(StringBuilder target, int year, int month, int day) {
+        long magnitude = Math.abs((long) year);
+        if (year < 0) {
+            target.append('-');
+        }
+        for (int pad = (year < 0 ? 3 : 4) - digitCount(magnitude); pad > 0; pad--) {
+            target.append('0');
+        }
+        target.append(magnitude).append('-');
+        appendTwoDigits(target, month).append('-');
+        return appendTwoDigits(target, day);
+    }
+
+    /**
+     * Writes the date into {@code buffer} at {@code offset} and returns the number
+     * of chars written, so callers can reuse one buffer across many rows.
+     */
+    public static int write(int packedDate, char[] buffer, int offset) {
+        int year = PackedDate.year(packedDate);
+        int start = offset;
+        if (year < 0) {
+            buffer[start++] = '-';
+        }
+        long magnitude = Math.abs((long) year);
+        int yearDigits = Math.max(year < 0 ? 3 : 4, digitCount(magnitude));
+
+        int position = start + yearDigits;
+        for (int i = position - 1; i >= start; i--, magnitude /= 10) {
+            buffer[i] = (char) ('0' + magnitude % 10);
+        }
+        buffer[position++] = '-';
+        position = writeTwoDigits(PackedDate.month(packedDate), buffer, position);
+        buffer[position++] = '-';
+        position = writeTwoDigits(PackedDate.day(packedDate), buffer, position);
+        return position - offset;
+    }
+
+    public static String format(int packedDate) {
+        char[] buffer = new char[MAX_FORMATTED_LENGTH];
+        return new String(buffer, 0, write(packedDate, buffer, 0));
+    }
+
+    public static String format(int year, int month, int day) {
+        return format(PackedDate.pack(year, month, day));
+    }
+
+    private static int digits(CharSequence text, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return INVALID;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int digitCount(long value) {
+        int count = 1;
+        while (value >= 10) {
+            value /= 10;
+            count++;
+        }
+        return count;
+    }
+
+    private static StringBuilder appendTwoDigits(StringBuilder target, int value) {
+        return target.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    private static int writeTwoDigits(int value, char[] buffer, int position) {
+        buffer[position] = (char) ('0' + value / 10);
+        buffer[position + 1] = (char) ('0' + value % 10);
+        return position + 2;
+    }
+}
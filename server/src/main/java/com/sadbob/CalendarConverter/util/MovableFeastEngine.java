@@ -0,0 +1,146 @@
+package com.sadbob.CalendarConverter.util;
+
+import com.sadbob.CalendarConverter.entity.Holiday;
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import com.sadbob.CalendarConverter.enums.MovableFeastRule;
+
+import java.time.LocalDate;
+
+/**
+ * Dates of the {@link MovableFeastRule} feasts. Results are cached per rule and year
+ * in one int array per rule, holding the packed date or 0 while not yet computed, so
+ * each feast is worked out at most once per year on a node. Two threads may both
+ * compute a missing year; they store the same value, so no lock is taken.
+ */
+public final class MovableFeastEngine {
+
+    // Years outside this range are computed on every call
+    private static final int MIN_CACHED_YEAR = 1;
+    private static final int MAX_CACHED_YEAR = 9999;
+
+    // Tewsak by day of the week, Monday first: the days from Metqi to Tsome Nineveh
+    private static final int[] TEWSAK = {6, 5, 4, 3, 2, 8, 7};
+
+    private static final int[][] CACHE = new int[MovableFeastRule.values().length][MAX_CACHED_YEAR - MIN_CACHED_YEAR + 1];
+
+    private static final EthiopianDateConverter ETHIOPIAN = new EthiopianDateConverter();
+
+    private MovableFeastEngine() {
+    }
+
+    // The feast in the given year of the rule's own calendar, as a PackedDate
+    public static int date(MovableFeastRule rule, int year) {
+        if (year < MIN_CACHED_YEAR || year > MAX_CACHED_YEAR) {
+            return compute(rule, year);
+        }
+        int[] cache = CACHE[rule.ordinal()];
+        int packed = cache[year - MIN_CACHED_YEAR];
+        if (packed == 0) {
+            packed = compute(rule, year);
+            cache[year - MIN_CACHED_YEAR] = packed;
+        }
+        return packed;
+    }
+
+    public static long epochDay(MovableFeastRule rule, int year) {
+        return toEpochDay(rule.getCalendarType(), date(rule, year));
+    }
+
+    /**
+     * Where a movable holiday falls in the given year of its calendar, offset included,
+     * or -1 when the holiday is not movable or the offset carries it into another year.
+     */
+    public static int dateOf(Holiday holiday, int year) {
+        int packed = occurrenceOf(holiday, year);
+        return packed >= 0 && PackedDate.year(packed) == year ? packed : -1;
+    }
+
+    /**
+     * Where a movable holiday falls counting from the feast of the given year, offset
+     * included, even when that lands in the year before or after; -1 when the holiday
+     * is not movable.
+     */
+    public static int occurrenceOf(Holiday holiday, int feastYear) {
+        MovableFeastRule rule = holiday.getMovableRule();
+        if (rule == null || rule.getCalendarType() != holiday.getCalendarType()) {
+            return -1;
+        }
+        int offset = holiday.getMovableOffset() == null ? 0 : holiday.getMovableOffset();
+        return offset == 0
+                ? date(rule, feastYear)
+                : fromEpochDay(rule.getCalendarType(), epochDay(rule, feastYear) + offset);
+    }
+
+    private static int compute(MovableFeastRule rule, int year) {
+        if (rule.getBase() != null) {
+            return fromEpochDay(rule.getCalendarType(), epochDay(rule.getBase(), year) + rule.getDaysAfterBase());
+        }
+        return switch (rule) {
+            case EASTER -> gregorianEaster(year);
+            case NINEVEH -> tsomeNineveh(year);
+            default -> throw new IllegalStateException("No computation for " + rule);
+        };
+    }
+
+    // The anonymous Gregorian algorithm (Meeus/Jones/Butcher)
+    static int gregorianEaster(int year) {
+        int a = year % 19;
+        int b = year / 100;
+        int c = year % 100;
+        int d = b / 4;
+        int e = b % 4;
+        int f = (b + 8) / 25;
+        int g = (b - f + 1) / 3;
+        int h = (19 * a + b - d - g + 15) % 30;
+        int i = c / 4;
+        int k = c % 4;
+        int l = (32 + 2 * e + 2 * i - h - k) % 7;
+        int m = (a + 11 * h + 22 * l) / 451;
+        int month = (h + l - 7 * m + 114) / 31;
+        int day = (h + l - 7 * m + 114) % 31 + 1;
+        return PackedDate.pack(year, month, day);
+    }
+
+    /**
+     * Bahire Hasab: Wenber from the year of the world (Amete Alem), Metqi from Wenber;
+     * Metqi falls in Mäskäräm when above 14 and in Ṭiqimt otherwise, and Tsome Nineveh
+     * follows it by the Tewsak of its weekday, four months later.
+     */
+    static int tsomeNineveh(int year) {
+        int ameteAlem = 5500 + year;
+        int wenber = Math.floorMod(ameteAlem - 1, 19);
+        int metqi = wenber * 19 % 30;
+        if (metqi == 0) {
+            metqi = 30;
+        }
+        int metqiMonth = metqi > 14 ? 1 : 2;
+        long metqiEpochDay = ETHIOPIAN.ethiopianToEpochDay(year, metqiMonth, metqi);
+        int mebajaHamer = metqi + TEWSAK[(int) Math.floorMod(metqiEpochDay + 3, 7L)];
+
+        int month = metqiMonth + 4;
+        if (mebajaHamer > 30) {
+            mebajaHamer -= 30;
+            month++;
+        }
+        return PackedDate.pack(year, month, mebajaHamer);
+    }
+
+    private static long toEpochDay(CalendarType calendarType, int packed) {
+        return switch (calendarType) {
+            case GREGORIAN -> LocalDate.of(PackedDate.year(packed), PackedDate.month(packed), PackedDate.day(packed)).toEpochDay();
+            case ETHIOPIAN -> ETHIOPIAN.ethiopianToEpochDay(PackedDate.year(packed), PackedDate.month(packed), PackedDate.day(packed));
+            case HIJRI -> throw new IllegalArgumentException("No movable feasts are defined in the Hijri calendar");
+        };
+    }
+
+    private static int fromEpochDay(CalendarType calendarType, long epochDay) {
+        return switch (calendarType) {
+            case GREGORIAN -> {
+                LocalDate date = LocalDate.ofEpochDay(epochDay);
+                yield PackedDate.pack(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+            }
+            case ETHIOPIAN -> ETHIOPIAN.toEthiopianPacked(epochDay);
+            case HIJRI -> throw new IllegalArgumentException("No movable feasts are defined in the Hijri calendar");
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package com.sadbob.CalendarConverter.util;
+
+/**
+ * Packs a calendar-neutral year/month/day triple into a single int so dates can
+ * be passed around the conversion hot paths without allocating.
+ * Layout: year in the high bits, then 4 bits of month and 5 bits of day.
+ */
+public final class PackedDate {
+
+    private static final int DAY_BITS = 5;
+    private static final int MONTH_BITS = 4;
+    private static final int YEAR_SHIFT = DAY_BITS + MONTH_BITS;
+
+    private PackedDate() {
+    }
+
+    public static int pack(int year, int month, int day) {
+        return (year << YEAR_SHIFT) | (month << DAY_BITS) | day;
+    }
+
+    public static int year(int packed) {
+        return packed >> YEAR_SHIFT;
+    }
+
+    public static int month(int packed) {
+        return (packed >>> DAY_BITS) & ((1 << MONTH_BITS) - 1);
+    }
+
+    public static int day(int packed) {
+        return packed & ((1 << DAY_BITS) - 1);
+    }
+}
@@ -0,0 +1,22 @@
+package com.sadbob.CalendarConverter.util;
+
+import com.sadbob.CalendarConverter.enums.ConversionErrorCategory;
+
+/**
+ * Outcome of validating a request date without throwing: either the parsed date, or
+ * the reason it was rejected. Bulk paths use this so a bad row costs no stack trace.
+ */
+public record ValidationResult(CalendarDate date, ConversionErrorCategory errorCategory, String message) {
+
+    public static ValidationResult valid(CalendarDate date) {
+        return new ValidationResult(date, null, null);
+    }
+
+    public static ValidationResult invalid(ConversionErrorCategory errorCategory, String message) {
+        return new ValidationResult(null, errorCategory, message);
+    }
+
+    public boolean isValid() {
+        return date != null;
+    }
+}
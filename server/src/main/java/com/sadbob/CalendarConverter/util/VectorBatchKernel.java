@@ -0,0 +1,174 @@
+package com.sadbob.CalendarConverter.util;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD kernels behind {@link BatchDateConverter}. This is the only class that links
+ * against {@code jdk.incubator.vector}; it is never loaded unless the module is present.
+ *
+ * Sticks to the operations C2 intrinsifies on JDK 17: lane casts and integer DIV
+ * are not among them, so quotients are taken as a multiply by a rounded-up
+ * reciprocal and a shift, and longs are narrowed to ints by packing two long
+ * vectors into one and unzipping the halves with a shuffle. Chunks with a day
+ * outside the kernel's window go through the scalar converter instead.
+ */
+final class VectorBatchKernel {
+
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+    // Two long vectors interleaved as ints → the first one's lanes, then the second's
+    private static final VectorShuffle<Integer> UNZIP;
+
+    // floor(x / d) == (x * ceil(2^40 / d)) >>> 40 for every x below 2^24 and d up to 1461
+    private static final int RECIPROCAL_SHIFT = 40;
+    private static final long ETHIOPIAN_DAY_LIMIT = 1L << 24;
+    private static final long PER_CYCLE = reciprocal(EthiopianDateConverter.DAYS_PER_CYCLE);
+    private static final long PER_YEAR = reciprocal(365);
+    private static final long PER_MONTH = reciprocal(30);
+
+    private static final int DAY_SHIFT = 5;
+    private static final int MONTH_SHIFT = 9;
+
+    // Narrower than the shortest Hijri month, so a bucket holds at most one month start
+    private static final int HIJRI_BUCKET_SHIFT = 4;
+    // floor(i / 12) == (i * 5462) >>> 16 for every month index below 8192
+    private static final int PER_HIJRI_YEAR = 5462;
+    private static final int HIJRI_YEAR_SHIFT = 16;
+
+    private static final int HIJRI_MIN_YEAR = HijriDateConverter.minYear();
+    private static final long HIJRI_FIRST_DAY;
+    private static final long HIJRI_DAY_LIMIT;
+    // Month starts as days since HIJRI_FIRST_DAY, including the closing sentinel
+    private static final int[] HIJRI_MONTH_STARTS;
+    // Index of the month containing the first day of each bucket
+    private static final int[] HIJRI_BUCKET_MONTHS;
+
+    static {
+        if (INTS.length() != 2 * LONGS.length()) {
+            throw new IllegalStateException("Unexpected vector shapes " + INTS + " / " + LONGS);
+        }
+        int half = LONGS.length();
+        int[] unzip = new int[INTS.length()];
+        for (int lane = 0; lane < half; lane++) {
+            unzip[lane] = 2 * lane;
+            unzip[half + lane] = 2 * lane + 1;
+        }
+        UNZIP = VectorShuffle.fromArray(INTS, unzip, 0);
+
+        int[] starts = HijriDateConverter.monthStarts();
+        HIJRI_FIRST_DAY = starts[0];
+        HIJRI_DAY_LIMIT = starts[starts.length - 1] - HIJRI_FIRST_DAY;
+        HIJRI_MONTH_STARTS = new int[starts.length];
+        for (int i = 0; i < starts.length; i++) {
+            HIJRI_MONTH_STARTS[i] = starts[i] - starts[0];
+        }
+        HIJRI_BUCKET_MONTHS = new int[(int) (HIJRI_DAY_LIMIT >> HIJRI_BUCKET_SHIFT) + 1];
+        int month = 0;
+        for (int bucket = 0; bucket < HIJRI_BUCKET_MONTHS.length; bucket++) {
+            while (HIJRI_MONTH_STARTS[month + 1] <= bucket << HIJRI_BUCKET_SHIFT) {
+                month++;
+            }
+            HIJRI_BUCKET_MONTHS[bucket] = month;
+        }
+    }
+
+    private VectorBatchKernel() {
+    }
+
+    static void toEthiopian(long[] epochDays, int[] out, int length, EthiopianDateConverter scalar) {
+        int bound = INTS.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += INTS.length()) {
+            LongVector low = LongVector.fromArray(LONGS, epochDays, i).sub(EthiopianDateConverter.YEAR_ZERO_EPOCH_DAY);
+            LongVector high = LongVector.fromArray(LONGS, epochDays, i + LONGS.length()).sub(EthiopianDateConverter.YEAR_ZERO_EPOCH_DAY);
+            if (outside(low, ETHIOPIAN_DAY_LIMIT) || outside(high, ETHIOPIAN_DAY_LIMIT)) {
+                for (int j = i; j < i + INTS.length(); j++) {
+                    out[j] = scalar.toEthiopianPacked(epochDays[j]);
+                }
+                continue;
+            }
+            narrow(ethiopian(low), ethiopian(high)).intoArray(out, i);
+        }
+        for (; i < length; i++) {
+            out[i] = scalar.toEthiopianPacked(epochDays[i]);
+        }
+    }
+
+    static void toHijri(long[] epochDays, int[] out, int length, HijriDateConverter scalar) {
+        int[] scratch = new int[INTS.length()];
+        int bound = INTS.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += INTS.length()) {
+            LongVector low = LongVector.fromArray(LONGS, epochDays, i).sub(HIJRI_FIRST_DAY);
+            LongVector high = LongVector.fromArray(LONGS, epochDays, i + LONGS.length()).sub(HIJRI_FIRST_DAY);
+            if (outside(low, HIJRI_DAY_LIMIT) || outside(high, HIJRI_DAY_LIMIT)) {
+                for (int j = i; j < i + INTS.length(); j++) {
+                    out[j] = scalar.toHijriPacked(epochDays[j]);
+                }
+                continue;
+            }
+            IntVector days = narrow(low, high);
+
+            // The bucket's first month, or the one after it if that starts inside the bucket
+            IntVector month = gather(HIJRI_BUCKET_MONTHS, days.lanewise(VectorOperators.LSHR, HIJRI_BUCKET_SHIFT), scratch);
+            VectorMask<Integer> inNextMonth = gather(HIJRI_MONTH_STARTS, month.add(1), scratch)
+                    .compare(VectorOperators.LE, days);
+            month = month.blend(month.add(1), inNextMonth);
+
+            IntVector yearOffset = month.mul(PER_HIJRI_YEAR).lanewise(VectorOperators.LSHR, HIJRI_YEAR_SHIFT);
+            IntVector dayOfMonth = days.sub(gather(HIJRI_MONTH_STARTS, month, scratch)).add(1);
+            IntVector monthOfYear = month.sub(yearOffset.mul(12)).add(1);
+
+            yearOffset.add(HIJRI_MIN_YEAR).lanewise(VectorOperators.LSHL, MONTH_SHIFT)
+                    .or(monthOfYear.lanewise(VectorOperators.LSHL, DAY_SHIFT))
+                    .or(dayOfMonth)
+                    .intoArray(out, i);
+        }
+        for (; i < length; i++) {
+            out[i] = scalar.toHijriPacked(epochDays[i]);
+        }
+    }
+
+    // Days since Ethiopian year zero → packed Ethiopian dates, mirroring EthiopianDateConverter
+    private static LongVector ethiopian(LongVector days) {
+        LongVector cycle = divide(days, PER_CYCLE);
+        LongVector dayOfCycle = days.sub(cycle.mul(EthiopianDateConverter.DAYS_PER_CYCLE));
+        LongVector yearOfCycle = divide(dayOfCycle, PER_YEAR).min(3);
+        LongVector dayOfYear = dayOfCycle.sub(yearOfCycle.mul(365));
+        LongVector monthIndex = divide(dayOfYear, PER_MONTH);
+
+        LongVector year = cycle.mul(4).add(yearOfCycle);
+        LongVector day = dayOfYear.sub(monthIndex.mul(30)).add(1);
+        return year.lanewise(VectorOperators.LSHL, MONTH_SHIFT)
+                .or(monthIndex.add(1).lanewise(VectorOperators.LSHL, DAY_SHIFT))
+                .or(day);
+    }
+
+    private static long reciprocal(int divisor) {
+        return ((1L << RECIPROCAL_SHIFT) + divisor - 1) / divisor;
+    }
+
+    private static LongVector divide(LongVector dividend, long reciprocal) {
+        return dividend.mul(reciprocal).lanewise(VectorOperators.LSHR, RECIPROCAL_SHIFT);
+    }
+
+    private static boolean outside(LongVector values, long limit) {
+        return values.compare(VectorOperators.LT, 0).or(values.compare(VectorOperators.GE, limit)).anyTrue();
+    }
+
+    // Both inputs must hold values in [0, 2^31)
+    private static IntVector narrow(LongVector low, LongVector high) {
+        return low.or(high.lanewise(VectorOperators.LSHL, 32)).reinterpretAsInts().rearrange(UNZIP);
+    }
+
+    private static IntVector gather(int[] table, IntVector index, int[] scratch) {
+        index.intoArray(scratch, 0);
+        return IntVector.fromArray(INTS, table, 0, scratch, 0);
+    }
+}
@@ -0,0 +1,81 @@
+package com.sadbob.CalendarConverter.util;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of values derived from one version of some source data, such as a
+ * {@link HolidayIndex} snapshot. Only the newest version seen is cached: a newer
+ * version swaps in an empty generation in one step, and a caller still holding an
+ * older version gets a freshly built value that is never stored, so it cannot push
+ * the cache back to stale data.
+ *
+ * Reads and writes take no lock. Two callers missing the same key may both build
+ * it; the first one stored wins. When a generation is full an arbitrary entry is
+ * evicted to make room.
+ */
+public final class VersionedCache<K, V> {
+
+    private record Generation<K, V>(long version, ConcurrentHashMap<K, V> values) {
+    }
+
+    private final int maxSize;
+    private final AtomicReference<Generation<K, V>> current =
+            new AtomicReference<>(new Generation<>(Long.MIN_VALUE, new ConcurrentHashMap<>()));
+
+    public VersionedCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+    }
+
+    // The builder may call back into this cache for other keys
+    public V get(long version, K key, Supplier<? extends V> builder) {
+        Generation<K, V> generation = generationFor(version);
+        if (generation == null) {
+            return builder.get();
+        }
+        V value = generation.values().get(key);
+        if (value != null) {
+            return value;
+        }
+        value = builder.get();
+        if (generation.values().size() >= maxSize) {
+            evictOne(generation.values());
+        }
+        V raced = generation.values().putIfAbsent(key, value);
+        return raced != null ? raced : value;
+    }
+
+    public int size() {
+        return current.get().values().size();
+    }
+
+    // Null for a version older than the cached one
+    private Generation<K, V> generationFor(long version) {
+        while (true) {
+            Generation<K, V> generation = current.get();
+            if (generation.version() == version) {
+                return generation;
+            }
+            if (version < generation.version()) {
+                return null;
+            }
+            Generation<K, V> next = new Generation<>(version, new ConcurrentHashMap<>());
+            if (current.compareAndSet(generation, next)) {
+                return next;
+            }
+        }
+    }
+
+    private static <K, V> void evictOne(ConcurrentHashMap<K, V> values) {
+        Iterator<K> keys = values.keySet().iterator();
+        if (keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+}
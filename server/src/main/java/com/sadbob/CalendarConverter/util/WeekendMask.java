@@ -0,0 +1,99 @@
+package com.sadbob.CalendarConverter.util;
+
+import java.time.DayOfWeek;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The days of the week that are not working days, such as Saturday and Sunday or
+ * Friday and Saturday. The pattern repeats every seven days, so each 64-day word of
+ * a bitmap is one of seven precomputed words, picked by its first day of the week.
+ */
+public final class WeekendMask {
+
+    public static final WeekendMask SATURDAY_SUNDAY = of(EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY));
+
+    private final Set<DayOfWeek> days;
+    // bits: bit d is set when the ISO day d + 1 (0 = Monday) is a weekend day
+    private final int bits;
+    // patterns[d] covers 64 days starting on ISO day d + 1
+    private final long[] patterns = new long[7];
+
+    private WeekendMask(Set<DayOfWeek> days) {
+        this.days = Collections.unmodifiableSet(days);
+        int mask = 0;
+        for (DayOfWeek day : days) {
+            mask |= 1 << (day.getValue() - 1);
+        }
+        this.bits = mask;
+        for (int first = 0; first < 7; first++) {
+            long pattern = 0;
+            for (int bit = 0; bit < 64; bit++) {
+                if ((mask & (1 << ((first + bit) % 7))) != 0) {
+                    pattern |= 1L << bit;
+                }
+            }
+            patterns[first] = pattern;
+        }
+    }
+
+    public static WeekendMask of(Collection<DayOfWeek> days) {
+        return new WeekendMask(days.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(days));
+    }
+
+    // Comma-separated day names, e.g. "FRIDAY,SATURDAY"; blank means no weekend
+    public static WeekendMask parse(String days) {
+        Set<DayOfWeek> parsed = EnumSet.noneOf(DayOfWeek.class);
+        for (String day : days.split(",")) {
+            if (!day.isBlank()) {
+                parsed.add(DayOfWeek.valueOf(day.trim().toUpperCase()));
+            }
+        }
+        return new WeekendMask(parsed);
+    }
+
+    public Set<DayOfWeek> days() {
+        return days;
+    }
+
+    public boolean isEveryDay() {
+        return bits == 0x7f;
+    }
+
+    public boolean isWeekend(long epochDay) {
+        return (bits & (1 << dayOfWeekIndex(epochDay))) != 0;
+    }
+
+    public HolidayBitmap bitmap(long firstEpochDay, int days) {
+        long[] words = new long[(days + 63) >>> 6];
+        int first = dayOfWeekIndex(firstEpochDay);
+        for (int i = 0; i < words.length; i++) {
+            words[i] = patterns[first];
+            // 64 days on, the week has moved one day forward
+            first = first == 6 ? 0 : first + 1;
+        }
+        return HolidayBitmap.ofWords(firstEpochDay, days, words);
+    }
+
+    // 1970-01-01 was a Thursday
+    private static int dayOfWeekIndex(long epochDay) {
+        return (int) Math.floorMod(epochDay + 3, 7L);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof WeekendMask mask && mask.bits == bits;
+    }
+
+    @Override
+    public int hashCode() {
+        return bits;
+    }
+
+    @Override
+    public String toString() {
+        return days.toString();
+    }
+}
@@ -0,0 +1,71 @@
+package com.sadbob.CalendarConverter.config;
+
+import com.sadbob.CalendarConverter.dto.requestDTO.conversion.ColumnarConversionRequest;
+import com.sadbob.CalendarConverter.dto.responseDTO.conversion.BulkConversionResponse;
+import com.sadbob.CalendarConverter.dto.responseDTO.conversion.ColumnarConversionResponse;
+import com.sadbob.CalendarConverter.enums.DateEncoding;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ColumnarBinaryMessageConverterTest {
+
+    private final ColumnarBinaryMessageConverter converter = new ColumnarBinaryMessageConverter();
+
+    @Test
+    void readsRequestsAndRoundTripsResponses() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeUTF("gregorian");
+        out.writeUTF("hijri");
+        out.writeByte(1);
+        out.writeInt(2);
+        out.writeInt(20148);
+        out.writeInt(20149);
+
+        ColumnarConversionRequest request = (ColumnarConversionRequest) converter.read(
+                ColumnarConversionRequest.class, new MockHttpInputMessage(bytes.toByteArray()));
+        assertEquals("hijri", request.getTargetCalendar());
+        assertEquals(DateEncoding.EPOCH_DAY, request.getEncoding());
+        assertArrayEquals(new int[]{20148, 20149}, request.getDates());
+
+        ColumnarConversionResponse response = new ColumnarConversionResponse("gregorian", "hijri",
+                new int[]{740641, 0}, new int[]{20148, 0}, Map.of(1, "out of range"),
+                new BulkConversionResponse.BulkSummary(2, 1, 1, 3));
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(response, MediaType.APPLICATION_OCTET_STREAM, output);
+
+        ColumnarConversionResponse decoded = ColumnarBinaryMessageConverter.readResponse(
+                new DataInputStream(new ByteArrayInputStream(output.getBodyAsBytes())));
+        assertArrayEquals(response.getTargetDates(), decoded.getTargetDates());
+        assertArrayEquals(response.getEpochDays(), decoded.getEpochDays());
+        assertEquals(response.getErrors(), decoded.getErrors());
+        assertEquals(response.getSummary(), decoded.getSummary());
+    }
+
+    @Test
+    void rejectsAForgedDateCount() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeUTF("gregorian");
+        out.writeUTF("hijri");
+        out.writeByte(0);
+        out.writeInt(Integer.MAX_VALUE);
+
+        assertThrows(HttpMessageNotReadableException.class, () -> converter.read(
+                ColumnarConversionRequest.class, new MockHttpInputMessage(bytes.toByteArray())));
+    }
+}
@@ -0,0 +1,84 @@
+package com.sadbob.CalendarConverter.service;
+
+import com.sadbob.CalendarConverter.dto.requestDTO.conversion.BulkConversionRequest;
+import com.sadbob.CalendarConverter.dto.responseDTO.conversion.BulkConversionResponse;
+import com.sadbob.CalendarConverter.enums.ConversionErrorCategory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkConversionEngineTest {
+
+    private final CalendarEngineRegistry engines = TestCalendars.engines();
+    private final DateValidationService validation = TestCalendars.validation();
+    // Tiny chunks so even a small batch fans out across several tasks
+    private final BulkConversionEngine engine = new BulkConversionEngine(engines, validation, 3, 7);
+
+    @AfterEach
+    void shutdown() {
+        engine.shutdown();
+    }
+
+    @Test
+    void mixedRoutesComeBackInInputOrder() {
+        String[] calendars = {"gregorian", "ethiopian", "hijri"};
+        List<BulkConversionRequest.SingleConversionRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            String date = LocalDate.of(2024, 1, 1).plusDays(i).toString();
+            requests.add(request(date, "gregorian", calendars[i % 3]));
+        }
+        requests.add(100, request("2024-02-30", "gregorian", "ethiopian"));
+        requests.add(request("2017-13-05", "ethiopian", "gregorian"));
+        requests.add(request("1446-09-01", "hijri", "gregorian"));
+
+        BulkConversionEngine.Outcome outcome = engine.convert(requests);
+        List<BulkConversionResponse.SingleConversionResult> results = outcome.results();
+
+        assertEquals(requests.size(), results.size());
+        for (int i = 0; i < requests.size(); i++) {
+            assertEquals(requests.get(i).getDate(), results.get(i).getSourceDate());
+            assertEquals(requests.get(i).getTargetCalendar(), results.get(i).getTargetCalendar());
+        }
+        assertFalse(results.get(100).isSuccess());
+        assertNull(results.get(100).getTargetDate());
+        assertEquals("2024-01-01", results.get(0).getTargetDate());
+        assertEquals("2016-04-23", results.get(1).getTargetDate());
+        assertEquals("2025-09-10", results.get(301).getTargetDate());
+        assertEquals("2025-03-01", results.get(302).getTargetDate());
+        assertEquals(302, results.stream().filter(BulkConversionResponse.SingleConversionResult::isSuccess).count());
+        assertTrue(outcome.phaseTimingsMs().keySet().containsAll(List.of("parse", "group", "convert", "assemble")));
+    }
+
+    @Test
+    void hijriDatesAreCheckedAgainstTheUmmAlQuraTable() {
+        // Muharram 1445 has 29 days, and the table ends long before 9000
+        List<BulkConversionRequest.SingleConversionRequest> requests = List.of(
+                request("1445-01-30", "hijri", "gregorian"),
+                request("9000-01-01", "hijri", "gregorian"),
+                request("2200-01-01", "gregorian", "hijri"));
+
+        List<BulkConversionResponse.SingleConversionResult> results = engine.convert(requests).results();
+        for (int i = 0; i < 2; i++) {
+            assertEquals(ConversionErrorCategory.INVALID_DATE, results.get(i).getErrorCategory());
+            assertEquals(ConversionErrorCategory.INVALID_DATE, engine.convertOne(requests.get(i)).getErrorCategory());
+        }
+        // A valid source whose target falls outside the table is still out of range
+        assertEquals(ConversionErrorCategory.OUT_OF_RANGE, results.get(2).getErrorCategory());
+    }
+
+    private static BulkConversionRequest.SingleConversionRequest request(String date, String source, String target) {
+        BulkConversionRequest.SingleConversionRequest request = new BulkConversionRequest.SingleConversionRequest();
+        request.setDate(date);
+        request.setSourceCalendar(source);
+        request.setTargetCalendar(target);
+        return request;
+    }
+}
@@ -0,0 +1,221 @@
+package com.sadbob.CalendarConverter.service;
+
+import com.sadbob.CalendarConverter.dto.requestDTO.conversion.BulkConversionRequest;
+import com.sadbob.CalendarConverter.dto.requestDTO.conversion.DateRangeRequest;
+import com.sadbob.CalendarConverter.dto.responseDTO.conversion.BulkConversionResponse;
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import com.sadbob.CalendarConverter.enums.ConversionErrorCategory;
+import com.sadbob.CalendarConverter.enums.StepUnit;
+import com.sadbob.CalendarConverter.exception.InvalidDateException;
+import com.sadbob.CalendarConverter.exception.ValidationException;
+import com.sadbob.CalendarConverter.service.interf.HolidayService;
+import com.sadbob.CalendarConverter.util.CalendarDate;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BulkConversionServiceTest {
+
+    private final BulkConversionService bulkConversionService;
+    private final List<Collection<CalendarDate>> holidayLookups = new ArrayList<>();
+
+    BulkConversionServiceTest() {
+        CalendarEngineRegistry engines = TestCalendars.engines();
+        DateValidationService validation = TestCalendars.validation();
+        bulkConversionService = new BulkConversionService(validation, engines,
+                new BulkConversionEngine(engines, validation, 1, 16), holidayService());
+    }
+
+    @Test
+    void duplicateRowsAreConvertedOnceAndFannedOut() {
+        List<BulkConversionRequest.SingleConversionRequest> rows = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            rows.add(request("2024-12-25", "gregorian", "ethiopian"));
+            rows.add(request("2024-12-25", "gregorian", "hijri"));
+            rows.add(request("2024-02-30", "gregorian", "hijri"));
+        }
+        BulkConversionRequest request = new BulkConversionRequest();
+        request.setConversions(rows);
+
+        for (BulkConversionResponse response : List.of(
+                bulkConversionService.convertBulkDates(request),
+                bulkConversionService.convertBatchSameSource(request))) {
+            BulkConversionResponse.BulkSummary summary = response.getSummary();
+            assertEquals(150, summary.getTotalRequests());
+            assertEquals(3, summary.getUniqueConversions());
+            assertEquals(100, summary.getSuccessfulConversions());
+            assertEquals(50, summary.getFailedConversions());
+            assertEquals(Map.of(ConversionErrorCategory.INVALID_DATE, 50), summary.getErrorCategories());
+
+            List<BulkConversionResponse.SingleConversionResult> results = response.getResults();
+            assertEquals(150, results.size());
+            assertEquals("2017-04-16", results.get(147).getTargetDate());
+            assertEquals("hijri", results.get(148).getTargetCalendar());
+            assertFalse(results.get(149).isSuccess());
+        }
+    }
+
+    @Test
+    void badRowsAreReportedByCategoryWithoutFailingTheBatch() {
+        BulkConversionRequest request = new BulkConversionRequest();
+        request.setConversions(List.of(
+                request("2024-01-01", "gregorian", "hijri"),
+                request("01/01/2024", "gregorian", "hijri"),
+                request("2024-01-01", "julian", "hijri"),
+                request("2024-01-01", "gregorian", null),
+                request("2016-13-06", "ethiopian", "gregorian"),
+                request("9000-01-01", "gregorian", "hijri")));
+
+        for (BulkConversionResponse response : List.of(
+                bulkConversionService.convertBulkDates(request),
+                bulkConversionService.convertBatchSameSource(request))) {
+            List<ConversionErrorCategory> categories = response.getResults().stream()
+                    .map(BulkConversionResponse.SingleConversionResult::getErrorCategory).toList();
+            assertEquals(Arrays.asList(null,
+                    ConversionErrorCategory.MALFORMED_DATE,
+                    ConversionErrorCategory.UNKNOWN_CALENDAR,
+                    ConversionErrorCategory.UNKNOWN_CALENDAR,
+                    ConversionErrorCategory.INVALID_DATE,
+                    ConversionErrorCategory.OUT_OF_RANGE), categories);
+            assertEquals(Map.of(ConversionErrorCategory.MALFORMED_DATE, 1,
+                    ConversionErrorCategory.UNKNOWN_CALENDAR, 2,
+                    ConversionErrorCategory.INVALID_DATE, 1,
+                    ConversionErrorCategory.OUT_OF_RANGE, 1), response.getSummary().getErrorCategories());
+            assertEquals("Invalid date '2016-13-06' for calendar type 'ethiopian'",
+                    response.getResults().get(4).getErrorMessage());
+        }
+    }
+
+    @Test
+    void holidaysArePrefetchedOncePerBatch() {
+        BulkConversionRequest request = new BulkConversionRequest();
+        request.setIncludeHolidays(true);
+        request.setConversions(List.of(
+                request("2024-12-25", "gregorian", "ethiopian"),
+                request("2024-12-26", "gregorian", "hijri"),
+                request("2024-02-30", "gregorian", "hijri")));
+
+        BulkConversionResponse response = bulkConversionService.convertBatchSameSource(request);
+
+        assertEquals(1, holidayLookups.size());
+        assertEquals(4, holidayLookups.get(0).size());
+        assertEquals(List.of("Christmas"), response.getResults().get(0).getSourceHolidays());
+        assertEquals(List.of(), response.getResults().get(0).getTargetHolidays());
+        assertNull(response.getResults().get(2).getSourceHolidays());
+
+        DateRangeRequest range = range("gregorian", "ethiopian", "2024-12-01", "2024-12-31");
+        range.setIncludeHolidays(true);
+        bulkConversionService.convertDateRange(range);
+        assertEquals(2, holidayLookups.size());
+    }
+
+    @Test
+    void rangePagesResumeWhereThePreviousPageStopped() {
+        DateRangeRequest range = range("gregorian", "ethiopian", "2020-01-01", "2024-12-31");
+        range.setIncludeWeekends(false);
+        range.setPageSize(400);
+
+        List<String> dates = new ArrayList<>();
+        int pages = 0;
+        do {
+            BulkConversionResponse page = bulkConversionService.convertDateRange(range);
+            page.getResults().forEach(result -> dates.add(result.getSourceDate()));
+            range.setCursor(page.getNextCursor());
+            pages++;
+        } while (range.getCursor() != null);
+
+        // 1827 days, 522 of them on weekends
+        assertEquals(1305, dates.size());
+        assertEquals(4, pages);
+        assertEquals("2020-01-01", dates.get(0));
+        assertEquals("2024-12-31", dates.get(dates.size() - 1));
+        assertEquals(dates.size(), Set.copyOf(dates).size());
+    }
+
+    @Test
+    void monthlyStepsFollowTheSourceCalendar() {
+        DateRangeRequest range = range("ethiopian", "gregorian", "2015-12-30", "2016-03-01");
+        range.setStepUnit(StepUnit.MONTHS);
+
+        BulkConversionResponse response = bulkConversionService.convertDateRange(range);
+
+        assertEquals(List.of("2015-12-30", "2015-13-06", "2016-01-30", "2016-02-30"),
+                response.getResults().stream().map(BulkConversionResponse.SingleConversionResult::getSourceDate).toList());
+        assertEquals("2023-09-11", response.getResults().get(1).getTargetDate());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    void rangeEndsAreDatesOfTheSourceCalendar() {
+        // Pagume 5 and 6 of the Ethiopian leap year 2015, then into the new year
+        BulkConversionResponse pagume = bulkConversionService.convertDateRange(
+                range("ethiopian", "gregorian", "2015-13-05", "2016-01-02"));
+        assertEquals(List.of("2015-13-05", "2015-13-06", "2016-01-01", "2016-01-02"),
+                pagume.getResults().stream().map(BulkConversionResponse.SingleConversionResult::getSourceDate).toList());
+        assertEquals("2023-09-10", pagume.getResults().get(0).getTargetDate());
+
+        // Safar 1445 has 30 days
+        BulkConversionResponse safar = bulkConversionService.convertDateRange(
+                range("hijri", "gregorian", "1445-02-30", "1445-03-02"));
+        assertEquals(List.of("1445-02-30", "1445-03-01", "1445-03-02"),
+                safar.getResults().stream().map(BulkConversionResponse.SingleConversionResult::getSourceDate).toList());
+        assertEquals("2023-09-15", safar.getResults().get(0).getTargetDate());
+
+        assertThrows(InvalidDateException.class, () -> bulkConversionService.convertDateRange(
+                range("ethiopian", "gregorian", "2016-13-06", "2017-01-01")));
+    }
+
+    @Test
+    void rejectsACursorFromADifferentRange() {
+        DateRangeRequest range = range("gregorian", "hijri", "2024-01-01", "2024-12-31");
+        range.setPageSize(10);
+        String cursor = bulkConversionService.convertDateRange(range).getNextCursor();
+
+        range.setTargetCalendar("ethiopian");
+        range.setCursor(cursor);
+        assertThrows(ValidationException.class, () -> bulkConversionService.convertDateRange(range));
+    }
+
+    // Only the batch lookup is expected; Christmas is the one holiday it knows
+    @SuppressWarnings("unchecked")
+    private HolidayService holidayService() {
+        return TestCalendars.holidays("getHolidayNames", args -> {
+            Collection<CalendarDate> dates = (Collection<CalendarDate>) args[0];
+            holidayLookups.add(dates);
+            Map<CalendarDate, List<String>> names = new HashMap<>();
+            for (CalendarDate date : dates) {
+                boolean christmas = date.calendarType() == CalendarType.GREGORIAN && date.month() == 12 && date.day() == 25;
+                names.put(date, christmas ? List.of("Christmas") : List.of());
+            }
+            return names;
+        });
+    }
+
+    private static DateRangeRequest range(String source, String target, String start, String end) {
+        DateRangeRequest range = new DateRangeRequest();
+        range.setSourceCalendar(source);
+        range.setTargetCalendar(target);
+        range.setStartDate(start);
+        range.setEndDate(end);
+        return range;
+    }
+
+    private static BulkConversionRequest.SingleConversionRequest request(String date, String source, String target) {
+        BulkConversionRequest.SingleConversionRequest request = new BulkConversionRequest.SingleConversionRequest();
+        request.setDate(date);
+        request.setSourceCalendar(source);
+        request.setTargetCalendar(target);
+        return request;
+    }
+}
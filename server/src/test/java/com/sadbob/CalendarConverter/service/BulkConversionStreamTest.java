@@ -0,0 +1,57 @@
+package com.sadbob.CalendarConverter.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sadbob.CalendarConverter.dto.responseDTO.conversion.BulkConversionResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkConversionStreamTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BulkConversionService bulkConversionService;
+
+    BulkConversionStreamTest() {
+        CalendarEngineRegistry engines = TestCalendars.engines();
+        DateValidationService validation = TestCalendars.validation();
+        bulkConversionService = new BulkConversionService(validation, engines,
+                new BulkConversionEngine(engines, validation, 2, 2), null);
+    }
+
+    @Test
+    void writesOneResultPerLineAndATrailingSummary() throws Exception {
+        String input = """
+                {"date":"2024-12-25","sourceCalendar":"gregorian","targetCalendar":"ethiopian"}
+
+                not json
+                {"date":"2017-13-07","sourceCalendar":"ethiopian","targetCalendar":"gregorian"}
+                {"date":"1446-09-01","sourceCalendar":"hijri","targetCalendar":"gregorian"}
+                """;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        BulkConversionResponse.BulkSummary summary = bulkConversionService.convertStream(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(5, lines.length);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertTrue(first.get("success").asBoolean());
+        assertEquals("2017-04-16", first.get("targetDate").asText());
+        assertFalse(objectMapper.readTree(lines[1]).get("success").asBoolean());
+        assertFalse(objectMapper.readTree(lines[2]).get("success").asBoolean());
+        assertEquals("2025-03-01", objectMapper.readTree(lines[3]).get("targetDate").asText());
+
+        JsonNode trailer = objectMapper.readTree(lines[4]).get("summary");
+        assertEquals(4, trailer.get("totalRequests").asInt());
+        assertEquals(2, trailer.get("successfulConversions").asInt());
+        assertEquals(2, summary.getFailedConversions());
+    }
+}
@@ -0,0 +1,119 @@
+package com.sadbob.CalendarConverter.service;
+
+import com.sadbob.CalendarConverter.dto.requestDTO.conversion.BulkConversionRequest;
+import com.sadbob.CalendarConverter.dto.requestDTO.conversion.DateRangeRequest;
+import com.sadbob.CalendarConverter.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkEventStreamServiceTest {
+
+    private static final Pattern EVENT = Pattern.compile("event: (\\w+)\n");
+
+    private final BulkEventStreamService eventStreams;
+
+    BulkEventStreamServiceTest() {
+        CalendarEngineRegistry engines = TestCalendars.engines();
+        DateValidationService validation = TestCalendars.validation();
+        BulkConversionEngine engine = new BulkConversionEngine(engines, validation, 1, 16);
+        BulkConversionService bulk = new BulkConversionService(validation, engines, engine, null);
+        eventStreams = new BulkEventStreamService(bulk, engine);
+    }
+
+    @Test
+    void bulkResultsArriveInBatchesFollowedByASummary() throws IOException {
+        BulkConversionRequest request = new BulkConversionRequest();
+        List<BulkConversionRequest.SingleConversionRequest> rows = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            rows.add(row(i == 7 ? "2024-02-30" : "2024-01-01", "gregorian", "ethiopian"));
+        }
+        request.setConversions(rows);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        eventStreams.streamBulk(request, 10).writeTo(output);
+        String stream = output.toString(StandardCharsets.UTF_8);
+
+        assertEquals(List.of("results", "results", "results", "summary"), events(stream));
+        assertTrue(stream.contains("id: 20\n"));
+        assertTrue(stream.contains("\"totalRequests\":25,\"successfulConversions\":24,\"failedConversions\":1"));
+    }
+
+    @Test
+    void rangeIsWalkedPageByPage() throws IOException {
+        DateRangeRequest range = new DateRangeRequest();
+        range.setSourceCalendar("gregorian");
+        range.setTargetCalendar("hijri");
+        range.setStartDate("2024-01-01");
+        range.setEndDate("2024-12-31");
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        eventStreams.streamRange(range, 100).writeTo(output);
+        String stream = output.toString(StandardCharsets.UTF_8);
+
+        assertEquals(4, events(stream).stream().filter("results"::equals).count());
+        assertTrue(stream.contains("\"totalRequests\":366"));
+    }
+
+    @Test
+    void disconnectedClientStopsTheConversion() throws IOException {
+        BulkConversionRequest request = new BulkConversionRequest();
+        List<BulkConversionRequest.SingleConversionRequest> rows = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            rows.add(row("2024-01-01", "gregorian", "hijri"));
+        }
+        request.setConversions(rows);
+
+        int[] writes = {0};
+        OutputStream closed = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                writes[0]++;
+                throw new IOException("Broken pipe");
+            }
+        };
+        eventStreams.streamBulk(request, 10).writeTo(closed);
+
+        assertEquals(1, writes[0]);
+    }
+
+    @Test
+    void rejectsAnOutOfRangeBatchSize() {
+        BulkConversionRequest request = new BulkConversionRequest();
+        request.setConversions(List.of(row("2024-01-01", "gregorian", "hijri")));
+        assertThrows(ValidationException.class, () -> eventStreams.streamBulk(request, 0));
+    }
+
+    private static List<String> events(String stream) {
+        List<String> events = new ArrayList<>();
+        Matcher matcher = EVENT.matcher(stream);
+        while (matcher.find()) {
+            events.add(matcher.group(1));
+        }
+        return events;
+    }
+
+    private static BulkConversionRequest.SingleConversionRequest row(String date, String source, String target) {
+        BulkConversionRequest.SingleConversionRequest request = new BulkConversionRequest.SingleConversionRequest();
+        request.setDate(date);
+        request.setSourceCalendar(source);
+        request.setTargetCalendar(target);
+        return request;
+    }
+}
@@ -0,0 +1,108 @@
+package com.sadbob.CalendarConverter.service;
+
+import com.sadbob.CalendarConverter.dto.requestDTO.conversion.BulkConversionRequest;
+import com.sadbob.CalendarConverter.dto.responseDTO.conversion.BulkJobStatus;
+import com.sadbob.CalendarConverter.enums.JobStatus;
+import com.sadbob.CalendarConverter.exception.JobLimitException;
+import com.sadbob.CalendarConverter.exception.JobNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkJobServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<BulkJobService> services = new ArrayList<>();
+    private final BulkConversionEngine engine;
+
+    BulkJobServiceTest() {
+        CalendarEngineRegistry engines = TestCalendars.engines();
+        engine = new BulkConversionEngine(engines, TestCalendars.validation(), 1, 64);
+    }
+
+    @AfterEach
+    void shutdown() {
+        services.forEach(BulkJobService::stop);
+        engine.shutdown();
+    }
+
+    @Test
+    void completedJobsSurviveARestart() throws Exception {
+        BulkJobService service = start(1 << 20);
+        BulkJobStatus submitted = service.submit(request(250));
+
+        BulkJobStatus finished = awaitFinished(service, submitted.getJobId());
+        assertEquals(JobStatus.COMPLETED, finished.getStatus());
+        assertEquals(250, finished.getProcessedRequests());
+        assertEquals(249, finished.getSuccessfulConversions());
+
+        service.stop();
+        BulkJobService restarted = start(1 << 20);
+        assertEquals(finished, restarted.getStatus(submitted.getJobId()));
+
+        String result;
+        try (InputStream in = restarted.openResult(submitted.getJobId())) {
+            result = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String[] lines = result.split("\n");
+        assertEquals(251, lines.length);
+        assertTrue(lines[0].contains("\"targetDate\":\"2016-04-22\""));
+        assertTrue(lines[250].startsWith("{\"summary\""));
+
+        restarted.deleteJob(submitted.getJobId());
+        assertThrows(JobNotFoundException.class, () -> restarted.getStatus(submitted.getJobId()));
+    }
+
+    @Test
+    void rejectsJobsThatWouldExceedTheDiskQuota() {
+        BulkJobService service = start(1024);
+        assertThrows(JobLimitException.class, () -> service.submit(request(250)));
+    }
+
+    private BulkJobService start(long maxDiskBytes) {
+        BulkJobService service = new BulkJobService(engine, directory.toString(), 1, 4, maxDiskBytes, 100,
+                Duration.ofHours(1));
+        service.start();
+        services.add(service);
+        return service;
+    }
+
+    private static BulkJobStatus awaitFinished(BulkJobService service, String jobId) throws InterruptedException {
+        for (int attempt = 0; attempt < 500; attempt++) {
+            BulkJobStatus status = service.getStatus(jobId);
+            if (status.getStatus().isFinished()) {
+                return status;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Job " + jobId + " did not finish");
+    }
+
+    private static BulkConversionRequest request(int rows) {
+        List<BulkConversionRequest.SingleConversionRequest> conversions = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            BulkConversionRequest.SingleConversionRequest conversion = new BulkConversionRequest.SingleConversionRequest();
+            conversion.setDate(i == rows - 1 ? "2024-02-30" : LocalDate.of(2024, 1, 1).plusDays(i).toString());
+            conversion.setSourceCalendar("gregorian");
+            conversion.setTargetCalendar("ethiopian");
+            conversions.add(conversion);
+        }
+        BulkConversionRequest request = new BulkConversionRequest();
+        request.setConversions(conversions);
+        return request;
+    }
+}
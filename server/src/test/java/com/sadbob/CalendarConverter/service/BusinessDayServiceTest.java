@@ -0,0 +1,154 @@
+package com.sadbob.CalendarConverter.service;
+
+import com.sadbob.CalendarConverter.dto.requestDTO.businessday.BusinessDayRequest;
+import com.sadbob.CalendarConverter.dto.responseDTO.businessday.BulkBusinessDayResponse;
+import com.sadbob.CalendarConverter.dto.responseDTO.businessday.BusinessDayResponse;
+import com.sadbob.CalendarConverter.entity.Holiday;
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import com.sadbob.CalendarConverter.enums.HolidayType;
+import com.sadbob.CalendarConverter.exception.ValidationException;
+import com.sadbob.CalendarConverter.service.interf.HolidayService;
+import com.sadbob.CalendarConverter.util.HolidayIndex;
+import com.sadbob.CalendarConverter.util.PackedDate;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BusinessDayServiceTest {
+
+    private final CalendarEngineRegistry engines = TestCalendars.engines();
+    private final HolidayIndex index = HolidayIndex.build(List.of(
+            new Holiday("Enkutatash", "Ethiopian New Year", CalendarType.ETHIOPIAN, HolidayType.NATIONAL, 1, 1, "ET"),
+            new Holiday("Meskel", "Finding of the True Cross", CalendarType.ETHIOPIAN, HolidayType.RELIGIOUS, 17, 1, "ET"),
+            new Holiday("Eid al-Fitr", "End of Ramadan", CalendarType.HIJRI, HolidayType.RELIGIOUS, 1, 10, null),
+            new Holiday("Eid al-Adha", "Feast of Sacrifice", CalendarType.HIJRI, HolidayType.RELIGIOUS, 10, 12, null),
+            new Holiday("New Year's Day", "International New Year", CalendarType.GREGORIAN, HolidayType.INTERNATIONAL, 1, 1, null),
+            new Holiday("Christmas", "Christmas Day", CalendarType.GREGORIAN, HolidayType.RELIGIOUS, 25, 12, null)), 1);
+    private final BusinessDayService businessDays;
+
+    BusinessDayServiceTest() {
+        HolidayService holidays = TestCalendars.holidays(() -> index);
+        businessDays = new BusinessDayService(holidays, new HolidayBitmapService(holidays, engines, 64), engines,
+                TestCalendars.validation(), new WeekendCalendar("SATURDAY,SUNDAY", "SA=FRIDAY,SATURDAY; IR = FRIDAY"), 16);
+    }
+
+    @Test
+    void skipsWeekendsAndHolidays() {
+        // Friday 2024-12-20: Monday the 23rd is next, and Christmas is skipped
+        assertEquals("2024-12-23", businessDays.add(add("gregorian", "2024-12-20", 1, null)).getEndDate());
+        assertEquals("2024-12-26", businessDays.add(add("gregorian", "2024-12-23", 2, null)).getEndDate());
+        assertEquals("2024-12-20", businessDays.add(add("gregorian", "2024-12-20", 0, null)).getEndDate());
+        // In Saudi Arabia Sunday the 22nd is a working day
+        assertEquals("2024-12-22", businessDays.add(add("gregorian", "2024-12-20", 1, "SA")).getEndDate());
+    }
+
+    @Test
+    void countryLeavesOutOtherCountriesHolidays() {
+        // Meskel 2017 is 2024-09-27, a Friday
+        BusinessDayRequest request = count("ethiopian", "2017-01-17", "2017-01-17", "ET");
+        assertEquals(0, businessDays.count(request).getBusinessDays());
+        request.setCountry("IR");
+        request.setWeekendDays(List.of(DayOfWeek.SUNDAY));
+        assertEquals(1, businessDays.count(request).getBusinessDays());
+    }
+
+    @Test
+    void matchesADayByDayWalk() {
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            LocalDate start = LocalDate.of(2000, 1, 1).plusDays(random.nextInt(30 * 365));
+            int days = random.nextInt(3000);
+            String country = random.nextBoolean() ? "SA" : "ET";
+
+            BusinessDayResponse added = businessDays.add(add("gregorian", start.toString(), days, country));
+            LocalDate expected = start;
+            for (int left = days; left > 0; ) {
+                expected = expected.plusDays(1);
+                if (isBusinessDay(expected, country)) {
+                    left--;
+                }
+            }
+            assertEquals(expected.toString(), added.getEndDate(), start + " + " + days + " in " + country);
+
+            long walked = start.datesUntil(expected.plusDays(1)).filter(d -> isBusinessDay(d, country)).count();
+            BusinessDayResponse counted = businessDays.count(count("gregorian", start.toString(), expected.toString(), country));
+            assertEquals(walked, counted.getBusinessDays());
+            assertEquals(expected.toEpochDay() - start.toEpochDay() + 1, counted.getCalendarDays());
+        }
+    }
+
+    @Test
+    void theLongestAddOutgrowsTheCachesAndStillAgrees() {
+        // Two working days a week stretch 100000 business days over more than 950 years
+        BusinessDayRequest request = add("gregorian", "2000-01-03", BusinessDayService.MAX_BUSINESS_DAYS, null);
+        request.setWeekendDays(List.copyOf(EnumSet.complementOf(EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY))));
+        String first = businessDays.add(request).getEndDate();
+        assertEquals(first, businessDays.add(request).getEndDate());
+
+        BusinessDayRequest counted = count("gregorian", "2000-01-04", first, null);
+        counted.setWeekendDays(request.getWeekendDays());
+        assertEquals(BusinessDayService.MAX_BUSINESS_DAYS, businessDays.count(counted).getBusinessDays());
+    }
+
+    @Test
+    void bulkReportsFailuresPerRow() {
+        BulkBusinessDayResponse response = businessDays.addAll(List.of(
+                add("gregorian", "2024-12-20", 1, null),
+                add("gregorian", "2024-02-30", 1, null),
+                add("gregorian", "2024-12-20", -1, null)));
+        assertEquals(1, response.getSuccessful());
+        assertEquals(2, response.getFailed());
+        assertFalse(response.getResults().get(1).isSuccess());
+        assertNull(response.getResults().get(2).getEndDate());
+
+        BusinessDayRequest everyDayOff = add("gregorian", "2024-12-20", 1, null);
+        everyDayOff.setWeekendDays(List.of(DayOfWeek.values()));
+        assertThrows(ValidationException.class, () -> businessDays.add(everyDayOff));
+    }
+
+    private boolean isBusinessDay(LocalDate date, String country) {
+        DayOfWeek day = date.getDayOfWeek();
+        boolean weekend = "SA".equals(country)
+                ? day == DayOfWeek.FRIDAY || day == DayOfWeek.SATURDAY
+                : day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY;
+        if (weekend) {
+            return false;
+        }
+        for (CalendarType calendar : CalendarType.values()) {
+            int packed = engines.get(calendar).fromEpochDay(date.toEpochDay());
+            boolean holiday = index.forDate(calendar, PackedDate.year(packed), PackedDate.month(packed), PackedDate.day(packed)).stream()
+                    .anyMatch(h -> h.getCountryCode() == null || h.getCountryCode().equals(country));
+            if (holiday) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static BusinessDayRequest add(String calendarType, String startDate, int days, String country) {
+        BusinessDayRequest request = new BusinessDayRequest();
+        request.setCalendarType(calendarType);
+        request.setStartDate(startDate);
+        request.setDays(days);
+        request.setCountry(country);
+        return request;
+    }
+
+    private static BusinessDayRequest count(String calendarType, String startDate, String endDate, String country) {
+        BusinessDayRequest request = new BusinessDayRequest();
+        request.setCalendarType(calendarType);
+        request.setStartDate(startDate);
+        request.setEndDate(endDate);
+        request.setCountry(country);
+        return request;
+    }
+}
@@ -0,0 +1,61 @@
+package com.sadbob.CalendarConverter.service;
+
+import com.sadbob.CalendarConverter.dto.requestDTO.conversion.ColumnarConversionRequest;
+import com.sadbob.CalendarConverter.dto.responseDTO.conversion.ColumnarConversionResponse;
+import com.sadbob.CalendarConverter.enums.DateEncoding;
+import com.sadbob.CalendarConverter.util.BatchDateConverter;
+import com.sadbob.CalendarConverter.util.EthiopianDateConverter;
+import com.sadbob.CalendarConverter.util.HijriDateConverter;
+import com.sadbob.CalendarConverter.util.PackedDate;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ColumnarConversionServiceTest {
+
+    private final ColumnarConversionService columnarConversionService;
+
+    ColumnarConversionServiceTest() {
+        columnarConversionService = new ColumnarConversionService(TestCalendars.engines(), TestCalendars.validation(),
+                new BatchDateConverter(new EthiopianDateConverter(), new HijriDateConverter(), true));
+    }
+
+    @Test
+    void packedDatesConvertWithSparseErrors() {
+        ColumnarConversionRequest request = request("gregorian", "ethiopian", DateEncoding.PACKED,
+                PackedDate.pack(2024, 12, 25), PackedDate.pack(2024, 2, 30), PackedDate.pack(2025, 9, 11));
+
+        ColumnarConversionResponse response = columnarConversionService.convert(request);
+
+        assertArrayEquals(new int[]{PackedDate.pack(2017, 4, 16), 0, PackedDate.pack(2018, 1, 1)},
+                response.getTargetDates());
+        assertArrayEquals(new int[]{20082, 0, 20342}, response.getEpochDays());
+        assertEquals(Set.of(1), response.getErrors().keySet());
+        assertEquals(2, response.getSummary().getSuccessfulConversions());
+    }
+
+    @Test
+    void epochDaysOutsideTheHijriTableFailOnlyTheirRow() {
+        ColumnarConversionRequest request = request("gregorian", "hijri", DateEncoding.EPOCH_DAY,
+                20148, -100_000, 20149);
+
+        ColumnarConversionResponse response = columnarConversionService.convert(request);
+
+        assertArrayEquals(new int[]{PackedDate.pack(1446, 9, 1), 0, PackedDate.pack(1446, 9, 2)},
+                response.getTargetDates());
+        assertEquals(Set.of(1), response.getErrors().keySet());
+        assertEquals(1, response.getSummary().getFailedConversions());
+    }
+
+    static ColumnarConversionRequest request(String source, String target, DateEncoding encoding, int... dates) {
+        ColumnarConversionRequest request = new ColumnarConversionRequest();
+        request.setSourceCalendar(source);
+        request.setTargetCalendar(target);
+        request.setEncoding(encoding);
+        request.setDates(dates);
+        return request;
+    }
+}
@@ -0,0 +1,79 @@
+package com.sadbob.CalendarConverter.service;
+
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import com.sadbob.CalendarConverter.service.interf.CalendarEngine;
+import com.sadbob.CalendarConverter.util.HijriDateConverter;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConversionCursorTest {
+
+    private final List<CalendarEngine> engines = TestCalendars.engineList();
+
+    @Test
+    void steppingMatchesFullConversionEveryDay() {
+        long start = LocalDate.of(1999, 1, 1).toEpochDay();
+        long end = LocalDate.of(2031, 12, 31).toEpochDay();
+        ConversionCursor cursor = new ConversionCursor(engines, start);
+
+        for (long epochDay = start; epochDay <= end; epochDay++) {
+            assertMatches(cursor, epochDay);
+            cursor.advance();
+        }
+    }
+
+    @Test
+    void largeStepsCarryAcrossMonthsAndYears() {
+        long start = LocalDate.of(2000, 2, 27).toEpochDay();
+        for (int step : new int[]{7, 29, 45, 366, 1000}) {
+            ConversionCursor cursor = new ConversionCursor(engines, start);
+            for (int i = 1; i <= 40; i++) {
+                cursor.advance(step);
+                assertMatches(cursor, start + (long) i * step);
+            }
+        }
+    }
+
+    @Test
+    void hijriIsUnsupportedOutsideItsTableAndRecovers() {
+        long beforeTable = new HijriDateConverter().minEpochDay() - 2;
+        ConversionCursor cursor = new ConversionCursor(engines, beforeTable);
+
+        assertFalse(cursor.isSupported(CalendarType.HIJRI));
+        assertEquals(ConversionCursor.UNSUPPORTED, cursor.packed(CalendarType.HIJRI));
+        cursor.advance(2);
+        assertTrue(cursor.isSupported(CalendarType.HIJRI));
+        assertMatches(cursor, beforeTable + 2);
+    }
+
+    @Test
+    void rangeSplitsIntoContiguousHalves() {
+        long start = LocalDate.of(2020, 1, 1).toEpochDay();
+        long end = start + 999;
+
+        long[] seen = StreamSupport.stream(ConversionCursor.range(engines, start, end, 3), true)
+                .mapToLong(ConversionCursor::epochDay)
+                .toArray();
+
+        assertEquals(334, seen.length);
+        for (int i = 0; i < seen.length; i++) {
+            assertEquals(start + 3L * i, seen[i]);
+        }
+    }
+
+    private void assertMatches(ConversionCursor cursor, long epochDay) {
+        assertEquals(epochDay, cursor.epochDay());
+        for (CalendarEngine engine : engines) {
+            assertEquals(engine.fromEpochDay(epochDay), cursor.packed(engine.getCalendarType()),
+                    engine.getCalendarType() + " at " + LocalDate.ofEpochDay(epochDay));
+        }
+        assertEquals(LocalDate.ofEpochDay(epochDay).getDayOfWeek().getValue(), cursor.dayOfWeek());
+    }
+}
@@ -0,0 +1,69 @@
+package com.sadbob.CalendarConverter.service;
+
+import com.sadbob.CalendarConverter.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvConversionServiceTest {
+
+    private final CsvConversionService csvConversionService = new CsvConversionService(
+            TestCalendars.validation(),
+            TestCalendars.engines());
+
+    @Test
+    void appendsConvertedColumnsAndKeepsOriginalRows() throws IOException {
+        String input = "﻿name,Date,note\n"
+                + "Abebe,2024-12-25,\"says \"\"hi\"\", twice\"\r\n"
+                + "\n"
+                + "Sara,2024-02-30,\"multi\nline\"\n"
+                + "Omar,2025-03-01,x";
+
+        String output = convert(input, new CsvConversionService.Options(
+                "date", "gregorian", List.of("ethiopian", "hijri"), true, false, ','));
+
+        assertEquals("name,Date,note,ethiopian_date,hijri_date,conversion_error\r\n"
+                + "Abebe,2024-12-25,\"says \"\"hi\"\", twice\",2017-04-16,1446-06-24,\r\n"
+                + "\r\n"
+                + "Sara,2024-02-30,\"multi\nline\",,,Invalid date '2024-02-30' for calendar type 'gregorian'\r\n"
+                + "Omar,2025-03-01,x,2017-06-22,1446-09-01,\r\n", output);
+    }
+
+    @Test
+    void headerlessFilesUseAColumnIndex() throws IOException {
+        String output = convert("2017-13-05;x\n", new CsvConversionService.Options(
+                "0", "ethiopian", List.of("gregorian"), false, true, ';'));
+
+        assertEquals("2017-13-05;x;2025-09-10;September 10, 2025;\r\n", output);
+    }
+
+    @Test
+    void reportsHijriDaysMissingFromTheirMonth() throws IOException {
+        String output = convert("1445-02-30\n1445-01-30\n", new CsvConversionService.Options(
+                "0", "hijri", List.of("gregorian"), false, false, ','));
+
+        assertEquals("1445-02-30,2023-09-15,\r\n"
+                + "1445-01-30,,Invalid date '1445-01-30' for calendar type 'hijri'\r\n", output);
+    }
+
+    @Test
+    void rejectsAnUnknownDateColumnBeforeWritingAnything() {
+        assertThrows(ValidationException.class, () -> csvConversionService.open(
+                new ByteArrayInputStream("a,b\n1,2\n".getBytes(StandardCharsets.UTF_8)),
+                new CsvConversionService.Options("date", "gregorian", List.of("hijri"), true, false, ',')));
+    }
+
+    private String convert(String input, CsvConversionService.Options options) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        csvConversionService.open(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), options)
+                .writeTo(output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
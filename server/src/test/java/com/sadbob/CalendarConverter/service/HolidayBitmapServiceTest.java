@@ -0,0 +1,117 @@
+package com.sadbob.CalendarConverter.service;
+
+import com.sadbob.CalendarConverter.entity.Holiday;
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import com.sadbob.CalendarConverter.enums.HolidayType;
+import com.sadbob.CalendarConverter.exception.ValidationException;
+import com.sadbob.CalendarConverter.service.interf.CalendarEngine;
+import com.sadbob.CalendarConverter.util.CalendarDate;
+import com.sadbob.CalendarConverter.util.HolidayBitmap;
+import com.sadbob.CalendarConverter.util.HolidayIndex;
+import com.sadbob.CalendarConverter.util.PackedDate;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HolidayBitmapServiceTest {
+
+    private final CalendarEngineRegistry engines = TestCalendars.engines();
+    private final List<Holiday> holidays = new ArrayList<>(List.of(
+            new Holiday("Enkutatash", "Ethiopian New Year", CalendarType.ETHIOPIAN, HolidayType.NATIONAL, 1, 1, "ET"),
+            new Holiday("Timkat", "Epiphany", CalendarType.ETHIOPIAN, HolidayType.RELIGIOUS, 11, 5, "ET"),
+            new Holiday("Pagume 6", "Leap day", CalendarType.ETHIOPIAN, HolidayType.CULTURAL, 6, 13, "ET"),
+            new Holiday("Islamic New Year", "Hijri New Year", CalendarType.HIJRI, HolidayType.RELIGIOUS, 1, 1, null),
+            new Holiday("Day 30", "Only in long months", CalendarType.HIJRI, HolidayType.CULTURAL, 30, 9, null),
+            new Holiday("New Year's Day", "International New Year", CalendarType.GREGORIAN, HolidayType.INTERNATIONAL, 1, 1, null),
+            new Holiday("Christmas", "Christmas Day", CalendarType.GREGORIAN, HolidayType.RELIGIOUS, 25, 12, null)));
+    private HolidayIndex index = HolidayIndex.build(holidays, 1);
+    private final HolidayBitmapService bitmaps = new HolidayBitmapService(TestCalendars.holidays(() -> index), engines, 8);
+
+    @Test
+    void checksADateWithTheNativeBitmap() {
+        assertTrue(bitmaps.isHoliday(CalendarDate.of(CalendarType.GREGORIAN, 2024, 12, 25)));
+        assertFalse(bitmaps.isHoliday(CalendarDate.of(CalendarType.GREGORIAN, 2024, 12, 24)));
+        // Pagume has six days only in the year before an Ethiopian leap year
+        assertTrue(bitmaps.isHoliday(CalendarDate.of(CalendarType.ETHIOPIAN, 2015, 13, 6)));
+        assertFalse(bitmaps.isHoliday(CalendarDate.of(CalendarType.ETHIOPIAN, 2016, 13, 6)));
+        assertFalse(bitmaps.isHoliday(CalendarDate.of(CalendarType.GREGORIAN, 2024, 2, 30)));
+        assertFalse(bitmaps.isHoliday(CalendarDate.of(CalendarType.HIJRI, 9000, 1, 1)));
+        assertEquals("Timkat", bitmaps.holidaysOn(CalendarDate.of(CalendarType.ETHIOPIAN, 2016, 5, 11)).get(0).getName());
+    }
+
+    @Test
+    void countsMatchADayByDayScan() {
+        Set<CalendarType> all = EnumSet.allOf(CalendarType.class);
+        CalendarDate from = CalendarDate.of(CalendarType.GREGORIAN, 2019, 3, 17);
+        CalendarDate to = CalendarDate.of(CalendarType.GREGORIAN, 2026, 10, 2);
+        // More years than the cache holds, so bitmaps are also evicted and rebuilt
+        for (Set<CalendarType> calendars : List.of(all, EnumSet.of(CalendarType.HIJRI), EnumSet.of(CalendarType.ETHIOPIAN))) {
+            HolidayBitmapService.Count count = bitmaps.countHolidayDays(from, to, calendars);
+            assertEquals(scan(from, to, calendars), count.holidayDays(), calendars.toString());
+            assertEquals(2757, count.days());
+        }
+    }
+
+    @Test
+    void countsDatesGivenInAnotherCalendar() {
+        // Ethiopian year 2016 runs from 2023-09-12 to 2024-09-10
+        CalendarDate from = CalendarDate.of(CalendarType.ETHIOPIAN, 2016, 1, 1);
+        CalendarDate to = CalendarDate.of(CalendarType.ETHIOPIAN, 2016, 13, 5);
+        assertEquals(2, bitmaps.countHolidayDays(from, to, EnumSet.of(CalendarType.ETHIOPIAN)).holidayDays());
+        assertEquals(2, bitmaps.countHolidayDays(from, to, EnumSet.of(CalendarType.GREGORIAN)).holidayDays());
+        assertThrows(ValidationException.class,
+                () -> bitmaps.countHolidayDays(to, from, EnumSet.of(CalendarType.ETHIOPIAN)));
+    }
+
+    @Test
+    void newVersionReplacesCachedBitmaps() {
+        CalendarDate from = CalendarDate.of(CalendarType.GREGORIAN, 2024, 1, 1);
+        CalendarDate to = CalendarDate.of(CalendarType.GREGORIAN, 2024, 12, 31);
+        Set<CalendarType> gregorian = EnumSet.of(CalendarType.GREGORIAN);
+        assertEquals(2, bitmaps.countHolidayDays(from, to, gregorian).holidayDays());
+
+        holidays.add(new Holiday("Boxing Day", "Day after Christmas", CalendarType.GREGORIAN, HolidayType.NATIONAL, 26, 12, null));
+        index = HolidayIndex.build(holidays, 2);
+        assertEquals(3, bitmaps.countHolidayDays(from, to, gregorian).holidayDays());
+        assertTrue(bitmaps.isHoliday(CalendarDate.of(CalendarType.GREGORIAN, 2024, 12, 26)));
+    }
+
+    @Test
+    void anOlderSnapshotDoesNotDisplaceTheCachedVersion() {
+        HolidayIndex older = index;
+        index = HolidayIndex.build(holidays, 2);
+        HolidayBitmap cached = bitmaps.gregorianYear(index, CalendarType.GREGORIAN, null, 2024);
+
+        HolidayBitmap stale = bitmaps.gregorianYear(older, CalendarType.GREGORIAN, null, 2024);
+        assertEquals(2, stale.cardinality());
+        assertSame(cached, bitmaps.gregorianYear(index, CalendarType.GREGORIAN, null, 2024));
+    }
+
+    private long scan(CalendarDate from, CalendarDate to, Set<CalendarType> calendars) {
+        CalendarEngine gregorian = engines.get(CalendarType.GREGORIAN);
+        long count = 0;
+        for (long epochDay = gregorian.toEpochDay(from.year(), from.month(), from.day());
+             epochDay <= gregorian.toEpochDay(to.year(), to.month(), to.day()); epochDay++) {
+            boolean holiday = false;
+            for (CalendarType calendar : calendars) {
+                int date = engines.get(calendar).fromEpochDay(epochDay);
+                holiday |= !index.forMonth(calendar, PackedDate.month(date), PackedDate.year(date)).stream()
+                        .filter(h -> h.getDayOfMonth() == PackedDate.day(date))
+                        .toList().isEmpty();
+            }
+            if (holiday) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
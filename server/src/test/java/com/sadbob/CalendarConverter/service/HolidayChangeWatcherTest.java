@@ -0,0 +1,207 @@
+package com.sadbob.CalendarConverter.service;
+
+import com.sadbob.CalendarConverter.entity.HolidayChangeListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HolidayChangeWatcherTest {
+
+    private final AtomicLong version = new AtomicLong(3);
+    private final List<String> executed = new CopyOnWriteArrayList<>();
+    private final LinkedBlockingQueue<Object> events = new LinkedBlockingQueue<>();
+    // Payloads for the listener connection; an SQLException drops the connection instead
+    private final LinkedBlockingQueue<Object> notifications = new LinkedBlockingQueue<>();
+    private final AtomicInteger listenerOpens = new AtomicInteger();
+    private HolidayChangeWatcher watcher;
+
+    @AfterEach
+    void stopWatcher() {
+        if (watcher != null) {
+            watcher.stop();
+        }
+    }
+
+    @Test
+    void onlyANewerVersionTriggersARebuild() {
+        watcher = watcher(() -> {
+            throw new SQLException("unused");
+        });
+
+        watcher.versionSeen(5);
+        watcher.versionSeen(5);
+        watcher.versionSeen(4);
+        watcher.versionSeen(6);
+
+        assertEquals(2, events.size());
+        assertTrue(events.peek() instanceof HolidayChangeListener.HolidaysChanged);
+    }
+
+    @Test
+    void pollsTheVersionRowWhileTheListenerIsDown() throws InterruptedException {
+        watcher = watcher(() -> {
+            throw new SQLException("Connection refused");
+        });
+        watcher.start();
+
+        assertTrue(executed.stream().anyMatch(sql -> sql.contains("CREATE TRIGGER holidays_changed")));
+        assertNotNull(events.poll(5, TimeUnit.SECONDS));
+        assertFalse(watcher.isListening());
+
+        version.incrementAndGet();
+        assertNotNull(events.poll(5, TimeUnit.SECONDS));
+        assertNull(events.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void notificationsTriggerRebuildsAndAListenerFailureIsSurvived() throws InterruptedException {
+        // The first connection fails to unwrap, which must not end the listener thread
+        watcher = watcher(() -> listenerOpens.incrementAndGet() == 1
+                ? listeningConnection(new IllegalStateException("not a PGConnection"))
+                : listeningConnection(null), Duration.ofMinutes(1), Duration.ofMinutes(1));
+        watcher.start();
+
+        assertNotNull(events.poll(5, TimeUnit.SECONDS));
+        awaitListening();
+        assertEquals(2, listenerOpens.get());
+
+        notifications.add("7");
+        assertNotNull(events.poll(5, TimeUnit.SECONDS));
+        notifications.add("6");
+        assertNull(events.poll(200, TimeUnit.MILLISECONDS));
+
+        // A bare NOTIFY carries no version, so the row is read instead
+        version.set(8);
+        notifications.add("");
+        assertNotNull(events.poll(5, TimeUnit.SECONDS));
+        assertNull(events.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void catchesUpOnChangesMadeWhileDisconnected() throws InterruptedException {
+        watcher = watcher(() -> {
+            listenerOpens.incrementAndGet();
+            return listeningConnection(null);
+        }, Duration.ofMinutes(1), Duration.ofMinutes(1));
+        watcher.start();
+        assertNotNull(events.poll(5, TimeUnit.SECONDS));
+        awaitListening();
+
+        // Polling is too slow to notice, so only the reconnect can pick the change up
+        version.set(4);
+        notifications.add(new SQLException("terminating connection due to administrator command"));
+        assertNotNull(events.poll(5, TimeUnit.SECONDS));
+        assertEquals(2, listenerOpens.get());
+    }
+
+    private void awaitListening() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!watcher.isListening() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(watcher.isListening());
+    }
+
+    private HolidayChangeWatcher watcher(HolidayChangeWatcher.ConnectionFactory listenerConnections) {
+        return watcher(listenerConnections, Duration.ofMillis(20), Duration.ofMillis(50));
+    }
+
+    private HolidayChangeWatcher watcher(HolidayChangeWatcher.ConnectionFactory listenerConnections,
+                                         Duration pollInterval, Duration heartbeat) {
+        return new HolidayChangeWatcher(listenerConnections, this::standInConnection, events::add,
+                pollInterval, Duration.ofMillis(50), heartbeat);
+    }
+
+    // A stand-in connection that is also a PGConnection, fed from the notifications queue
+    private Connection listeningConnection(RuntimeException unwrapFailure) {
+        Connection statements = standInConnection();
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{Connection.class, PGConnection.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "unwrap" -> {
+                        if (unwrapFailure != null) {
+                            throw unwrapFailure;
+                        }
+                        yield proxy;
+                    }
+                    case "getNotifications" -> {
+                        Object next;
+                        try {
+                            next = notifications.poll(args == null ? 0 : (Integer) args[0], TimeUnit.MILLISECONDS);
+                        } catch (InterruptedException e) {
+                            throw new SQLException("Interrupted while waiting for notifications");
+                        }
+                        if (next instanceof SQLException dropped) {
+                            throw dropped;
+                        }
+                        yield next == null ? new PGNotification[0] : new PGNotification[]{notification((String) next)};
+                    }
+                    default -> method.invoke(statements, args);
+                });
+    }
+
+    private static PGNotification notification(String payload) {
+        return proxy(PGNotification.class, (method, args) -> switch (method) {
+            case "getName" -> HolidayChangeWatcher.CHANNEL;
+            case "getParameter" -> payload;
+            default -> 0;
+        });
+    }
+
+    // Stands in for Postgres: records statements and answers the version query
+    private Connection standInConnection() {
+        Statement statement = proxy(Statement.class, (method, args) -> switch (method) {
+            case "execute" -> {
+                executed.add((String) args[0]);
+                yield false;
+            }
+            case "executeQuery" -> {
+                boolean[] read = {false};
+                long current = version.get();
+                yield proxy(ResultSet.class, (resultMethod, resultArgs) -> switch (resultMethod) {
+                    case "next" -> {
+                        boolean first = !read[0];
+                        read[0] = true;
+                        yield first;
+                    }
+                    case "getLong" -> current;
+                    default -> null;
+                });
+            }
+            default -> null;
+        });
+        return proxy(Connection.class, (method, args) -> switch (method) {
+            case "createStatement" -> statement;
+            case "getAutoCommit" -> true;
+            default -> null;
+        });
+    }
+
+    private interface Handler {
+        Object invoke(String method, Object[] args);
+    }
+
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> handler.invoke(method.getName(), args)));
+    }
+}
@@ -0,0 +1,56 @@
+package com.sadbob.CalendarConverter.service;
+
+import com.sadbob.CalendarConverter.service.impl.EthiopianCalendarEngine;
+import com.sadbob.CalendarConverter.service.impl.GregorianCalendarEngine;
+import com.sadbob.CalendarConverter.service.impl.HijriCalendarEngine;
+import com.sadbob.CalendarConverter.service.interf.CalendarEngine;
+import com.sadbob.CalendarConverter.service.interf.HolidayService;
+import com.sadbob.CalendarConverter.util.EthiopianDateConverter;
+import com.sadbob.CalendarConverter.util.HijriDateConverter;
+import com.sadbob.CalendarConverter.util.HolidayIndex;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The real calendar engines and validation wired by hand, plus stand-in holiday
+ * services, for service tests that run without a Spring context or a database.
+ */
+final class TestCalendars {
+
+    private TestCalendars() {
+    }
+
+    static List<CalendarEngine> engineList() {
+        return List.of(
+                new GregorianCalendarEngine(),
+                new EthiopianCalendarEngine(new EthiopianDateConverter()),
+                new HijriCalendarEngine(new HijriDateConverter()));
+    }
+
+    static CalendarEngineRegistry engines() {
+        return new CalendarEngineRegistry(engineList());
+    }
+
+    static DateValidationService validation() {
+        return new DateValidationService(new HijriDateConverter());
+    }
+
+    // Serves whichever snapshot the supplier holds at the time of each call
+    static HolidayService holidays(Supplier<HolidayIndex> index) {
+        return holidays("getHolidayIndex", args -> index.get());
+    }
+
+    // Answers one method of HolidayService and rejects every other call
+    static HolidayService holidays(String method, Function<Object[], Object> answer) {
+        return (HolidayService) Proxy.newProxyInstance(TestCalendars.class.getClassLoader(),
+                new Class<?>[]{HolidayService.class}, (proxy, called, args) -> {
+                    if (!called.getName().equals(method)) {
+                        throw new UnsupportedOperationException(called.getName());
+                    }
+                    return answer.apply(args);
+                });
+    }
+}
@@ -0,0 +1,33 @@
+package com.sadbob.CalendarConverter.service.impl;
+
+import com.sadbob.CalendarConverter.util.PackedDate;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GregorianCalendarEngineTest {
+
+    private final GregorianCalendarEngine engine = new GregorianCalendarEngine();
+
+    @Test
+    void matchesLocalDateOverSupportedYearRange() {
+        long start = LocalDate.of(1, 1, 1).toEpochDay();
+        long end = LocalDate.of(9999, 12, 31).toEpochDay();
+
+        for (long epochDay = start; epochDay <= end; epochDay++) {
+            LocalDate expected = LocalDate.ofEpochDay(epochDay);
+            int packed = engine.fromEpochDay(epochDay);
+
+            assertEquals(PackedDate.pack(expected.getYear(), expected.getMonthValue(), expected.getDayOfMonth()), packed);
+            assertEquals(epochDay, engine.toEpochDay(expected.getYear(), expected.getMonthValue(), expected.getDayOfMonth()));
+            assertEquals(expected.lengthOfMonth(), engine.monthLength(expected.getYear(), expected.getMonthValue()));
+        }
+    }
+
+    @Test
+    void formatsLikeTheDisplayPattern() {
+        assertEquals("December 25, 2024", engine.format(PackedDate.pack(2024, 12, 25)));
+    }
+}
@@ -0,0 +1,67 @@
+package com.sadbob.CalendarConverter.service.impl;
+
+import com.sadbob.CalendarConverter.entity.Holiday;
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import com.sadbob.CalendarConverter.enums.HolidayType;
+import com.sadbob.CalendarConverter.enums.MovableFeastRule;
+import com.sadbob.CalendarConverter.repository.HolidayRepository;
+import com.sadbob.CalendarConverter.service.CalendarEngineRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class HolidayServiceImplTest {
+
+    private final List<Holiday> table = new ArrayList<>();
+    private int saves;
+
+    @Test
+    void fixedEasterRowsBecomeMovableOnce() {
+        Holiday easter = new Holiday("Easter", "Easter Sunday", CalendarType.GREGORIAN, HolidayType.RELIGIOUS, 9, 4, null);
+        Holiday fasika = new Holiday("Easter", "Ethiopian Easter - Fasika", CalendarType.ETHIOPIAN, HolidayType.RELIGIOUS, 15, 7, null);
+        Holiday pinned = new Holiday("Easter", "Easter Sunday", CalendarType.GREGORIAN, HolidayType.RELIGIOUS, 9, 4, null);
+        pinned.setSpecificYear(2023);
+        table.addAll(List.of(easter, fasika, pinned));
+
+        new HolidayServiceImpl(repository(), new CalendarEngineRegistry(List.of(new GregorianCalendarEngine())));
+
+        assertEquals(MovableFeastRule.EASTER, easter.getMovableRule());
+        assertEquals(0, easter.getMonthNumber());
+        assertEquals(MovableFeastRule.FASIKA, fasika.getMovableRule());
+        assertEquals(0, fasika.getDayOfMonth());
+        assertNull(pinned.getMovableRule());
+        assertEquals(3, table.size());
+        assertEquals(1, saves);
+
+        new HolidayServiceImpl(repository(), new CalendarEngineRegistry(List.of(new GregorianCalendarEngine())));
+        assertEquals(1, saves);
+    }
+
+    @SuppressWarnings("unchecked")
+    private HolidayRepository repository() {
+        return (HolidayRepository) Proxy.newProxyInstance(HolidayRepository.class.getClassLoader(),
+                new Class<?>[]{HolidayRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "count" -> (long) table.size();
+                    case "findAll" -> List.copyOf(table);
+                    case "findByCalendarTypeAndMonthNumberAndDayOfMonth" -> table.stream()
+                            .filter(h -> h.getCalendarType() == args[0]
+                                    && h.getMonthNumber().equals(args[1]) && h.getDayOfMonth().equals(args[2]))
+                            .toList();
+                    case "saveAll" -> {
+                        saves++;
+                        for (Holiday holiday : (Iterable<Holiday>) args[0]) {
+                            if (!table.contains(holiday)) {
+                                table.add(holiday);
+                            }
+                        }
+                        yield args[0];
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
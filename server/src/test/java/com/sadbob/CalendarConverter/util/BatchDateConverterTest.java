@@ -0,0 +1,76 @@
+package com.sadbob.CalendarConverter.util;
+
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import org.junit.jupiter.api.Test;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchDateConverterTest {
+
+    private final EthiopianDateConverter ethiopianConverter = new EthiopianDateConverter();
+    private final HijriDateConverter hijriConverter = new HijriDateConverter();
+    private final BatchDateConverter vector = new BatchDateConverter(ethiopianConverter, hijriConverter, true);
+    private final BatchDateConverter scalar = new BatchDateConverter(ethiopianConverter, hijriConverter, false);
+
+    @Test
+    void surefireEnablesTheVectorModule() {
+        assertTrue(vector.isVectorized(), "run with --add-modules jdk.incubator.vector");
+    }
+
+    @Test
+    void ethiopianKernelMatchesScalarIncludingFarDates() {
+        SplittableRandom random = new SplittableRandom(1);
+        long[] epochDays = new long[10_007];
+        for (int i = 0; i < epochDays.length; i++) {
+            // Mostly modern dates, with some outside the float-exact window to force the scalar chunks
+            epochDays[i] = i % 97 == 0 ? random.nextLong(-40_000_000, 40_000_000) : random.nextLong(-800_000, 200_000);
+        }
+
+        assertArrayEquals(convert(scalar, epochDays, CalendarType.ETHIOPIAN), convert(vector, epochDays, CalendarType.ETHIOPIAN));
+    }
+
+    @Test
+    void ethiopianReciprocalDivisionIsExactAcrossTheWholeWindow() {
+        long[] epochDays = new long[(1 << 24) / 5];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = EthiopianDateConverter.YEAR_ZERO_EPOCH_DAY + 5L * i + i % 5;
+        }
+
+        assertArrayEquals(convert(scalar, epochDays, CalendarType.ETHIOPIAN), convert(vector, epochDays, CalendarType.ETHIOPIAN));
+    }
+
+    @Test
+    void hijriKernelMatchesScalarAcrossTheWholeTable() {
+        long first = hijriConverter.minEpochDay();
+        long[] epochDays = new long[(int) (hijriConverter.maxEpochDay() - first)];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = first + i;
+        }
+
+        int[] packed = convert(vector, epochDays, CalendarType.HIJRI);
+        assertArrayEquals(convert(scalar, epochDays, CalendarType.HIJRI), packed);
+        assertEquals(hijriConverter.toHijriPacked(LocalDate.of(2025, 3, 1).toEpochDay()),
+                packed[(int) (LocalDate.of(2025, 3, 1).toEpochDay() - first)]);
+    }
+
+    @Test
+    void hijriOutsideTheTableThrowsLikeTheScalarConverter() {
+        long[] epochDays = new long[64];
+        epochDays[40] = hijriConverter.maxEpochDay();
+
+        assertThrows(DateTimeException.class, () -> convert(vector, epochDays, CalendarType.HIJRI));
+    }
+
+    private static int[] convert(BatchDateConverter converter, long[] epochDays, CalendarType target) {
+        int[] out = new int[epochDays.length];
+        converter.convertBatch(epochDays, out, target);
+        return out;
+    }
+}
@@ -0,0 +1,52 @@
+package com.sadbob.CalendarConverter.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcordanceTableTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void agreesWithArithmeticConvertersAcrossTheWindow() throws IOException {
+        Path file = tempDir.resolve("concordance.bin");
+        ConcordanceGenerator.write(file);
+
+        ConcordanceTable table = ConcordanceTable.load(file.toString(), ConcordanceTable.Mode.RESIDENT);
+        EthiopianDateConverter ethiopian = new EthiopianDateConverter();
+        HijriDateConverter hijri = new HijriDateConverter();
+
+        long first = ConcordanceTable.FIRST_DAY.toEpochDay();
+        long last = ConcordanceTable.LAST_DAY.toEpochDay();
+        assertFalse(table.covers(first - 1));
+        assertFalse(table.covers(last + 1));
+
+        for (long epochDay = first; epochDay <= last; epochDay++) {
+            assertTrue(table.covers(epochDay));
+            assertEquals(ethiopian.toEthiopianPacked(epochDay), table.ethiopianPacked(epochDay));
+            assertEquals(hijri.toHijriPacked(epochDay), table.hijriPacked(epochDay));
+        }
+    }
+
+    @Test
+    void fallsBackToEmptyTableOnChecksumMismatch() throws IOException {
+        Path file = tempDir.resolve("corrupt.bin");
+        ConcordanceGenerator.write(file);
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(ConcordanceTable.HEADER_SIZE + 100);
+            raf.write(0x7F);
+        }
+
+        ConcordanceTable table = ConcordanceTable.load(file.toString(), ConcordanceTable.Mode.RESIDENT);
+        assertFalse(table.covers(ConcordanceTable.FIRST_DAY.toEpochDay()));
+    }
+}
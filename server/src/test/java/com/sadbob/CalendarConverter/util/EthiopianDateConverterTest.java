@@ -0,0 +1,63 @@
+package com.sadbob.CalendarConverter.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EthiopianDateConverterTest {
+
+    private final EthiopianDateConverter converter = new EthiopianDateConverter();
+
+    @Test
+    void convertsKnownNewYearDates() {
+        assertEthiopian(LocalDate.of(2024, 9, 11), 2017, 1, 1);
+        assertEthiopian(LocalDate.of(2023, 9, 12), 2016, 1, 1);
+        assertEthiopian(LocalDate.of(2023, 9, 11), 2015, 13, 6);
+        assertEthiopian(LocalDate.of(2025, 1, 7), 2017, 4, 29);
+    }
+
+    @Test
+    void appliesJulianLeapRuleAcrossGregorianCenturyYears() {
+        // 1900 is not a Gregorian leap year, so Enkutatash moved from 11 to 12 September only after it
+        assertEthiopian(LocalDate.of(1899, 9, 11), 1892, 1, 1);
+        assertEthiopian(LocalDate.of(1900, 9, 11), 1893, 1, 1);
+        assertEthiopian(LocalDate.of(2100, 9, 12), 2093, 1, 1);
+        assertEthiopian(LocalDate.of(2101, 9, 12), 2094, 1, 1);
+    }
+
+    @Test
+    void advancesOneDayAtATimeAndRoundTrips() {
+        long start = LocalDate.of(1600, 1, 1).toEpochDay();
+        long end = LocalDate.of(2400, 12, 31).toEpochDay();
+
+        int previous = converter.toEthiopianPacked(start - 1);
+        for (long epochDay = start; epochDay <= end; epochDay++) {
+            int packed = converter.toEthiopianPacked(epochDay);
+            assertEquals(nextDay(previous), packed, "day after " + epochDay);
+            assertEquals(epochDay, converter.ethiopianToEpochDay(
+                    PackedDate.year(packed), PackedDate.month(packed), PackedDate.day(packed)));
+            previous = packed;
+        }
+    }
+
+    private int nextDay(int packed) {
+        int year = PackedDate.year(packed);
+        int month = PackedDate.month(packed);
+        int day = PackedDate.day(packed);
+        int monthLength = month == 13 ? (converter.isLeapYear(year) ? 6 : 5) : 30;
+
+        if (day < monthLength) {
+            return PackedDate.pack(year, month, day + 1);
+        }
+        return month < 13 ? PackedDate.pack(year, month + 1, 1) : PackedDate.pack(year + 1, 1, 1);
+    }
+
+    private void assertEthiopian(LocalDate gregorian, int year, int month, int day) {
+        EthiopianDateConverter.EthiopianDate ethiopian = converter.toEthiopian(
+                gregorian.getYear(), gregorian.getMonthValue(), gregorian.getDayOfMonth());
+        assertEquals(new EthiopianDateConverter.EthiopianDate(year, month, day), ethiopian);
+        assertEquals(gregorian, converter.toGregorian(year, month, day));
+    }
+}
@@ -0,0 +1,39 @@
+package com.sadbob.CalendarConverter.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DateTimeException;
+import java.time.chrono.HijrahChronology;
+import java.time.chrono.HijrahDate;
+import java.time.temporal.ChronoField;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HijriDateConverterTest {
+
+    private final HijriDateConverter converter = new HijriDateConverter();
+
+    @Test
+    void matchesHijrahDateForEveryDayInRange() {
+        for (long epochDay = converter.minEpochDay(); epochDay < converter.maxEpochDay(); epochDay++) {
+            HijrahDate expected = HijrahChronology.INSTANCE.dateEpochDay(epochDay);
+            int year = expected.get(ChronoField.YEAR);
+            int month = expected.get(ChronoField.MONTH_OF_YEAR);
+            int day = expected.get(ChronoField.DAY_OF_MONTH);
+
+            int packed = converter.toHijriPacked(epochDay);
+            assertEquals(PackedDate.pack(year, month, day), packed, "epoch day " + epochDay);
+            assertEquals(epochDay, converter.hijriToEpochDay(year, month, day));
+            assertEquals(expected.lengthOfMonth(), converter.monthLength(year, month));
+        }
+    }
+
+    @Test
+    void rejectsDatesOutsideTheTable() {
+        assertThrows(DateTimeException.class, () -> converter.toHijriPacked(converter.minEpochDay() - 1));
+        assertThrows(DateTimeException.class, () -> converter.toHijriPacked(converter.maxEpochDay()));
+        assertThrows(DateTimeException.class, () -> converter.hijriToEpochDay(1446, 13, 1));
+        assertThrows(DateTimeException.class, () -> converter.hijriToEpochDay(1446, 1, 31));
+    }
+}
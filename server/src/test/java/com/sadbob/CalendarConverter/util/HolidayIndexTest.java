@@ -0,0 +1,80 @@
+package com.sadbob.CalendarConverter.util;
+
+import com.sadbob.CalendarConverter.entity.Holiday;
+import com.sadbob.CalendarConverter.enums.CalendarType;
+import com.sadbob.CalendarConverter.enums.HolidayType;
+import com.sadbob.CalendarConverter.enums.MovableFeastRule;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HolidayIndexTest {
+
+    private final HolidayIndex index;
+
+    HolidayIndexTest() {
+        Holiday oneOff = new Holiday("Jubilee", "One-off", CalendarType.ETHIOPIAN, HolidayType.NATIONAL, 20, 1, "ET");
+        oneOff.setIsRecurring(false);
+        oneOff.setSpecificYear(2017);
+        index = HolidayIndex.build(List.of(
+                new Holiday("Meskel", "Finding of the True Cross", CalendarType.ETHIOPIAN, HolidayType.RELIGIOUS, 17, 1, "ET"),
+                new Holiday("Enkutatash", "Ethiopian New Year", CalendarType.ETHIOPIAN, HolidayType.NATIONAL, 1, 1, "ET"),
+                new Holiday("Timkat", "Epiphany", CalendarType.ETHIOPIAN, HolidayType.RELIGIOUS, 11, 5, "ET"),
+                new Holiday("Pagume", "Last day", CalendarType.ETHIOPIAN, HolidayType.CULTURAL, 6, 13, "ET"),
+                new Holiday("Christmas", "Christmas Day", CalendarType.GREGORIAN, HolidayType.RELIGIOUS, 25, 12, null),
+                oneOff), 1);
+    }
+
+    @Test
+    void looksUpByDayAndName() {
+        assertEquals(List.of("Meskel"), index.namesForDate(CalendarType.ETHIOPIAN, 2017, 1, 17));
+        assertEquals("Christmas", index.forDate(CalendarType.GREGORIAN, 2024, 12, 25).get(0).getName());
+        assertTrue(index.forDate(CalendarType.HIJRI, 1446, 12, 25).isEmpty());
+        assertTrue(index.forDate(CalendarType.GREGORIAN, 2024, 14, 40).isEmpty());
+        assertEquals(6, index.size());
+    }
+
+    @Test
+    void monthSlicesAreSortedAndFilterOneOffsByYear() {
+        assertEquals(List.of("Enkutatash", "Meskel", "Jubilee"), names(index.forMonth(CalendarType.ETHIOPIAN, 1, 2017)));
+        assertEquals(List.of("Enkutatash", "Meskel"), names(index.forMonth(CalendarType.ETHIOPIAN, 1, 2018)));
+        assertEquals(List.of("Pagume"), names(index.forMonth(CalendarType.ETHIOPIAN, 13, 2018)));
+    }
+
+    @Test
+    void upcomingStartsAtTheGivenDay() {
+        assertEquals(List.of("Meskel", "Jubilee", "Timkat", "Pagume"), names(index.upcoming(CalendarType.ETHIOPIAN, 2017, 1, 17)));
+        assertEquals(List.of("Timkat", "Pagume"), names(index.upcoming(CalendarType.ETHIOPIAN, 2017, 1, 40)));
+        assertEquals(List.of("Meskel", "Timkat"), names(index.byType(CalendarType.ETHIOPIAN, HolidayType.RELIGIOUS)));
+    }
+
+    @Test
+    void movableHolidaysArePlacedEachYear() {
+        HolidayIndex movable = HolidayIndex.build(List.of(
+                new Holiday("Easter", "Easter Sunday", HolidayType.RELIGIOUS, MovableFeastRule.EASTER, 0, null),
+                new Holiday("Pentecost", "Whit Sunday", HolidayType.RELIGIOUS, MovableFeastRule.EASTER, 49, null),
+                new Holiday("April Fools' Day", "Not movable", CalendarType.GREGORIAN, HolidayType.CULTURAL, 1, 4, null)), 1);
+
+        assertEquals(List.of("Easter"), names(movable.forDate(CalendarType.GREGORIAN, 2024, 3, 31)));
+        assertTrue(movable.forDate(CalendarType.GREGORIAN, 2025, 3, 31).isEmpty());
+        assertEquals(List.of("Easter"), movable.namesForDate(CalendarType.GREGORIAN, 2025, 4, 20));
+        assertEquals(List.of("April Fools' Day", "Easter"), names(movable.forMonth(CalendarType.GREGORIAN, 4, 2025)));
+        assertEquals(6, movable.forMonth(CalendarType.GREGORIAN, 6, 2025).get(0).getMonthNumber());
+        assertEquals(List.of("Pentecost"), names(movable.upcoming(CalendarType.GREGORIAN, 2025, 5, 1)));
+        assertEquals(2, movable.byType(CalendarType.GREGORIAN, HolidayType.RELIGIOUS).size());
+    }
+
+    @Test
+    void listsCannotBeModified() {
+        assertThrows(UnsupportedOperationException.class,
+                () -> index.forDate(CalendarType.GREGORIAN, 2024, 12, 25).clear());
+    }
+
+    private static List<String> names(List<Holiday> holidays) {
+        return holidays.stream().map(Holiday::getName).toList();
+    }
+}
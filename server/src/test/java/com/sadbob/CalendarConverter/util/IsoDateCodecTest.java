@@ -0,0 +1,45 @@
+package com.sadbob.CalendarConverter.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IsoDateCodecTest {
+
+    @Test
+    void parsesAndFormatsCalendarNeutralDates() {
+        assertEquals(PackedDate.pack(2016, 13, 6), IsoDateCodec.parse("2016-13-06"));
+        assertEquals(PackedDate.pack(1446, 9, 30), IsoDateCodec.parse("1446-09-30"));
+        assertEquals("2016-13-06", IsoDateCodec.format(2016, 13, 6));
+        assertEquals("0999-01-02", IsoDateCodec.format(999, 1, 2));
+        assertEquals("12345-01-02", IsoDateCodec.format(12345, 1, 2));
+        assertEquals("0999-01-02", IsoDateCodec.appendTo(new StringBuilder(), 999, 1, 2).toString());
+    }
+
+    @Test
+    void formatsYearsBeforeOneLikeStringFormat() {
+        // Gregorian years 1-7 fall in Ethiopian years -7 to 0
+        for (int year : new int[]{-7, 0, -42, -999, -1000, -12345}) {
+            String expected = String.format("%04d-%02d-%02d", year, 4, 9);
+            assertEquals(expected, IsoDateCodec.format(year, 4, 9));
+            assertEquals(expected, IsoDateCodec.appendTo(new StringBuilder(), year, 4, 9).toString());
+        }
+        char[] buffer = new char[16];
+        assertEquals(10, IsoDateCodec.write(PackedDate.pack(-7, 13, 5), buffer, 2));
+        assertEquals("-007-13-05", new String(buffer, 2, 10));
+    }
+
+    @Test
+    void parsesWithinALargerBuffer() {
+        String row = "id,2024-12-25,x";
+        assertEquals(PackedDate.pack(2024, 12, 25), IsoDateCodec.parse(row, 3, 13));
+    }
+
+    @Test
+    void rejectsMalformedInput() {
+        for (String text : new String[]{null, "", "2024-1-01", "2024/01/01", "2024-14-01", "2024-01-32",
+                "2024-00-10", "2024-01-00", "20a4-01-01", "+024-01-01", "24-01-01"}) {
+            assertEquals(IsoDateCodec.INVALID, IsoDateCodec.parse(text), String.valueOf(text));
+        }
+    }
+}
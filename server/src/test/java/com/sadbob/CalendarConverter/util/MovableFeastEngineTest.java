@@ -0,0 +1,64 @@
+package com.sadbob.CalendarConverter.util;
+
+import com.sadbob.CalendarConverter.entity.Holiday;
+import com.sadbob.CalendarConverter.enums.HolidayType;
+import com.sadbob.CalendarConverter.enums.MovableFeastRule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MovableFeastEngineTest {
+
+    @Test
+    void gregorianEasterMatchesKnownDates() {
+        assertEquals("2024-03-31", IsoDateCodec.format(MovableFeastEngine.date(MovableFeastRule.EASTER, 2024)));
+        assertEquals("2025-04-20", IsoDateCodec.format(MovableFeastEngine.date(MovableFeastRule.EASTER, 2025)));
+        assertEquals("2038-04-25", IsoDateCodec.format(MovableFeastEngine.date(MovableFeastRule.EASTER, 2038)));
+        assertEquals("2285-03-22", IsoDateCodec.format(MovableFeastEngine.date(MovableFeastRule.EASTER, 2285)));
+    }
+
+    @Test
+    void bahireHasabPlacesTheFastAndFeasts() {
+        assertEquals("2016-06-18", IsoDateCodec.format(MovableFeastEngine.date(MovableFeastRule.NINEVEH, 2016)));
+        assertEquals("2016-08-27", IsoDateCodec.format(MovableFeastEngine.date(MovableFeastRule.FASIKA, 2016)));
+        assertEquals("2017-08-05", IsoDateCodec.format(MovableFeastEngine.date(MovableFeastRule.HOSANNA, 2017)));
+        assertEquals("2017-08-10", IsoDateCodec.format(MovableFeastEngine.date(MovableFeastRule.SIKLET, 2017)));
+        assertEquals(LocalDate.of(2025, 4, 20).toEpochDay(), MovableFeastEngine.epochDay(MovableFeastRule.FASIKA, 2017));
+    }
+
+    @Test
+    void anOffsetCanCarryTheHolidayIntoANeighbouringYear() {
+        Holiday later = new Holiday("Later", null, HolidayType.RELIGIOUS, MovableFeastRule.EASTER, 300, null);
+        Holiday earlier = new Holiday("Earlier", null, HolidayType.RELIGIOUS, MovableFeastRule.EASTER, -120, null);
+
+        assertEquals(-1, MovableFeastEngine.dateOf(later, 2023));
+        assertEquals("2024-02-03", IsoDateCodec.format(MovableFeastEngine.occurrenceOf(later, 2023)));
+        assertEquals(-1, MovableFeastEngine.dateOf(earlier, 2023));
+        assertEquals("2022-12-10", IsoDateCodec.format(MovableFeastEngine.occurrenceOf(earlier, 2023)));
+    }
+
+    @Test
+    void fasikaIsTheJulianEaster() {
+        // Ethiopian year Y keeps Easter in Gregorian year Y + 8
+        for (int year = 1892; year <= 2092; year++) {
+            assertEquals(julianEasterEpochDay(year + 8), MovableFeastEngine.epochDay(MovableFeastRule.FASIKA, year),
+                    "Ethiopian year " + year);
+        }
+    }
+
+    // Meeus' Julian algorithm, converted to a Gregorian epoch day
+    private static long julianEasterEpochDay(int year) {
+        int d = (19 * (year % 19) + 15) % 30;
+        int e = (2 * (year % 4) + 4 * (year % 7) - d + 34) % 7;
+        int month = (d + e + 114) / 31;
+        int day = (d + e + 114) % 31 + 1;
+        // Julian day number of a Julian calendar date, less the one of 1970-01-01
+        int a = (14 - month) / 12;
+        int y = year + 4800 - a;
+        int m = month + 12 * a - 3;
+        long julianDayNumber = day + (153L * m + 2) / 5 + 365L * y + y / 4 - 32083;
+        return julianDayNumber - 2440588;
+    }
+}